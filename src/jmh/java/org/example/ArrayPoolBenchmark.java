@@ -0,0 +1,70 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обработчик запроса, который создает список, заполняет его, читает и выбрасывает:
+ * plain - обычный CustomArrayList (каждый шаг роста выделяет новый массив),
+ * pooled - CustomArrayList с ArrayPool и recycle() в конце обработки.
+ * Смысл бенчмарка - в скорости аллокаций: запускать с GC-профилировщиком (BenchmarkRunner, gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayPoolBenchmark {
+    @Param({"100", "10000"})
+    int elements;
+
+    final ArrayPool pool = new ArrayPool();
+    final Integer[] values = new Integer[128];
+
+    /**
+     * Последний список сохраняется в поле, чтобы анализ выхода не устранил его выделение.
+     */
+    CustomArrayList<Integer> last;
+
+    public ArrayPoolBenchmark() {
+        for (int i = 0; i < this.values.length; i++) {
+            this.values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public long plain() {
+        return handle(new CustomArrayList<>(), false);
+    }
+
+    @Benchmark
+    public long pooled() {
+        return handle(new CustomArrayList<>(this.pool), true);
+    }
+
+    private long handle(CustomArrayList<Integer> list, boolean recycle) {
+        for (int i = 0; i < this.elements; i++) {
+            list.add(this.values[i & (this.values.length - 1)]);
+        }
+        long sum = 0;
+        for (int i = 0; i < list.size(); i++) {
+            sum += list.get(i);
+        }
+        this.last = list;
+        if (recycle) {
+            list.recycle();
+        }
+        return sum;
+    }
+}
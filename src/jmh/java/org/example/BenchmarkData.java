@@ -0,0 +1,88 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Генерация входных данных для бенчмарков: элементы разных типов, порядок доступа и компараторы.
+ */
+final class BenchmarkData {
+    static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    static CustomList<Object> newList(String implementation) {
+        switch (implementation) {
+            case "CustomArrayList":
+                return new CustomArrayList<>();
+            case "ArrayList":
+                return new JdkListAdapter<>();
+            case "GapBufferCustomList":
+                return new GapBufferCustomList<>();
+            case "TieredCustomList":
+                return new TieredCustomList<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    static Object[] elements(String elementType, int size) {
+        Random random = new Random(SEED);
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt();
+            switch (elementType) {
+                case "Integer":
+                    elements[i] = value;
+                    break;
+                case "String":
+                    elements[i] = "value-" + value;
+                    break;
+                case "Person":
+                    elements[i] = new Person("name-" + value, Math.floorMod(value, 100));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown element type: " + elementType);
+            }
+        }
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Comparator<Object> comparator(String elementType) {
+        switch (elementType) {
+            case "Integer":
+            case "String":
+                return (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder();
+            case "Person":
+                Comparator<Person> byAgeThenName = Comparator.comparingInt(Person::getAge)
+                        .thenComparing(Person::getName);
+                return (Comparator<Object>) (Comparator<?>) byAgeThenName;
+            default:
+                throw new IllegalArgumentException("Unknown element type: " + elementType);
+        }
+    }
+
+    static int[] indices(String accessPattern, int size) {
+        int[] indices = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+        }
+        switch (accessPattern) {
+            case "SEQUENTIAL":
+                return indices;
+            case "RANDOM":
+                Random random = new Random(SEED + 1);
+                for (int i = size - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int swap = indices[i];
+                    indices[i] = indices[j];
+                    indices[j] = swap;
+                }
+                return indices;
+            default:
+                throw new IllegalArgumentException("Unknown access pattern: " + accessPattern);
+        }
+    }
+}
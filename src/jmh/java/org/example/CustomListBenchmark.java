@@ -0,0 +1,131 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки всех операций CustomList в сравнении с java.util.ArrayList.
+ * Параметризуются размером списка, типом элементов и порядком доступа (последовательный или случайный).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CustomListBenchmark {
+    @Param({"CustomArrayList", "ArrayList"})
+    String implementation;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"Integer", "String", "Person"})
+    String elementType;
+
+    @Param({"SEQUENTIAL", "RANDOM"})
+    String accessPattern;
+
+    Object[] elements;
+    int[] indices;
+    Comparator<Object> comparator;
+    CustomList<Object> list;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        this.elements = BenchmarkData.elements(this.elementType, this.size);
+        this.indices = BenchmarkData.indices(this.accessPattern, this.size);
+        this.comparator = BenchmarkData.comparator(this.elementType);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpList() {
+        this.list = fill(BenchmarkData.newList(this.implementation));
+        this.cursor = 0;
+    }
+
+    @Benchmark
+    public CustomList<Object> add() {
+        return fill(BenchmarkData.newList(this.implementation));
+    }
+
+    @Benchmark
+    public void addByIndexAndRemoveByIndex() {
+        int index = nextIndex();
+        this.list.add(this.elements[index], index);
+        this.list.remove(index);
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (int index : this.indices) {
+            blackhole.consume(this.list.get(index));
+        }
+    }
+
+    @Benchmark
+    public void removeByValueAndAdd() {
+        Object element = this.elements[nextIndex()];
+        this.list.remove(element);
+        this.list.add(element);
+    }
+
+    @Benchmark
+    public boolean hasElement() {
+        return this.list.hasElement(this.elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public CustomList<Object> sort(Unsorted unsorted) {
+        unsorted.list.sort(this.comparator);
+        return unsorted.list;
+    }
+
+    @Benchmark
+    public CustomList<Object> trimCapacityToSize(Unsorted unsorted) {
+        unsorted.list.trimCapacityToSize();
+        return unsorted.list;
+    }
+
+    CustomList<Object> fill(CustomList<Object> target) {
+        for (int index : this.indices) {
+            target.add(this.elements[index]);
+        }
+        return target;
+    }
+
+    private int nextIndex() {
+        if (this.cursor == this.size) {
+            this.cursor = 0;
+        }
+        return this.indices[this.cursor++];
+    }
+
+    /**
+     * Свежий список, заполненный через add в порядке accessPattern, для операций, изменяющих весь список.
+     */
+    @State(Scope.Thread)
+    public static class Unsorted {
+        CustomList<Object> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(CustomListBenchmark benchmark) {
+            this.list = benchmark.fill(BenchmarkData.newList(benchmark.implementation));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Очередь (FIFO) и стек на голове списка: add(T, 0) / remove(0) у CustomArrayList против
+ * addFirst / removeFirst / addLast у RingBufferCustomList при постоянном размере окна.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeBenchmark {
+    @Param({"1000", "100000"})
+    int size;
+
+    CustomArrayList<Integer> arrayList;
+    RingBufferCustomList<Integer> ringBuffer;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.arrayList = new CustomArrayList<>();
+        this.ringBuffer = new RingBufferCustomList<>();
+        for (int i = 0; i < this.size; i++) {
+            this.arrayList.add(i);
+            this.ringBuffer.add(i);
+        }
+        this.element = this.size;
+    }
+
+    @Benchmark
+    public Integer fifoArrayList() {
+        this.arrayList.add(this.element);
+        Integer head = this.arrayList.get(0);
+        this.arrayList.remove(0);
+        return head;
+    }
+
+    @Benchmark
+    public Integer fifoRingBuffer() {
+        this.ringBuffer.addLast(this.element);
+        return this.ringBuffer.removeFirst();
+    }
+
+    @Benchmark
+    public Integer stackAtHeadArrayList() {
+        this.arrayList.add(this.element, 0);
+        Integer head = this.arrayList.get(0);
+        this.arrayList.remove(0);
+        return head;
+    }
+
+    @Benchmark
+    public Integer stackAtHeadRingBuffer() {
+        this.ringBuffer.addFirst(this.element);
+        return this.ringBuffer.removeFirst();
+    }
+}
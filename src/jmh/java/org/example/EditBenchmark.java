@@ -0,0 +1,86 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Вставка и удаление по произвольному индексу на одинаковой смеси операций: LOCAL - правки возле курсора,
+ * который смещается на несколько позиций между правками (как в редакторе), RANDOM - правки в случайных местах.
+ * Каждая операция - вставка и удаление, поэтому размер списка не меняется.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EditBenchmark {
+    private static final int POSITIONS = 4096;
+
+    @Param({"CustomArrayList", "GapBufferCustomList", "TieredCustomList"})
+    String implementation;
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"LOCAL", "RANDOM"})
+    String editPattern;
+
+    CustomList<Object> list;
+    int[] insertPositions;
+    int[] removePositions;
+    Object element;
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.list = BenchmarkData.newList(this.implementation);
+        for (Object value : BenchmarkData.elements("Integer", this.size)) {
+            this.list.add(value);
+        }
+        this.element = this.list.get(0);
+        this.insertPositions = new int[POSITIONS];
+        this.removePositions = new int[POSITIONS];
+        Random random = new Random(BenchmarkData.SEED);
+        int cursor = this.size / 2;
+        for (int i = 0; i < POSITIONS; i++) {
+            if ("LOCAL".equals(this.editPattern)) {
+                cursor = Math.floorMod(cursor + random.nextInt(17) - 8, this.size);
+                this.insertPositions[i] = cursor;
+                this.removePositions[i] = Math.floorMod(cursor + random.nextInt(5) - 2, this.size);
+            } else {
+                this.insertPositions[i] = random.nextInt(this.size);
+                this.removePositions[i] = random.nextInt(this.size);
+            }
+        }
+    }
+
+    @Benchmark
+    public int insertThenRemove() {
+        int i = this.next;
+        this.next = (i + 1) & (POSITIONS - 1);
+        this.list.add(this.element, this.insertPositions[i]);
+        this.list.remove(this.removePositions[i]);
+        return this.list.size();
+    }
+
+    @Benchmark
+    public Object get() {
+        int i = this.next;
+        this.next = (i + 1) & (POSITIONS - 1);
+        return this.list.get(this.removePositions[i]);
+    }
+}
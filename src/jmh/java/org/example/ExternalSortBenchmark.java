@@ -0,0 +1,71 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Внешняя сортировка входа, примерно в 10 раз превышающего кучу: при -Xmx64m сортируются 32 млн значений Long
+ * (около 640 МБ в виде объектов), которые генерируются на лету и никогда не находятся в памяти целиком.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx64m"})
+@State(Scope.Benchmark)
+public class ExternalSortBenchmark {
+    @Param({"32000000"})
+    int size;
+
+    @Param({"8", "16"})
+    int runBudgetMegabytes;
+
+    @Benchmark
+    public long sortAndMerge() throws IOException {
+        ExternalSorter<Long> sorter = new ExternalSorter<>(BinaryCodec.LONG, Comparator.naturalOrder(),
+                this.runBudgetMegabytes * (1L << 20));
+        long checksum = 0;
+        try (CloseableIterator<Long> sorted = sorter.sort(randomLongs(this.size))) {
+            while (sorted.hasNext()) {
+                checksum = checksum * 31 + sorted.next();
+            }
+        }
+        return checksum;
+    }
+
+    private static Iterator<Long> randomLongs(int count) {
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        return new Iterator<>() {
+            private int produced;
+
+            @Override
+            public boolean hasNext() {
+                return this.produced < count;
+            }
+
+            @Override
+            public Long next() {
+                if (this.produced == count) {
+                    throw new NoSuchElementException();
+                }
+                this.produced++;
+                return random.nextLong();
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк заполнения CustomArrayList при разных политиках роста.
+ * Помимо времени выводит количество перевыделений массива и число скопированных при этом элементов.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GrowthPolicyBenchmark {
+    @Param({"ONE_AND_HALF", "DOUBLING", "FIXED_4096", "CAPPED_65536", "RESERVED"})
+    String policy;
+
+    @Param({"10000", "1000000"})
+    int size;
+
+    Integer[] elements;
+    GrowthPolicy growthPolicy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elements = new Integer[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.elements[i] = i;
+        }
+        switch (this.policy) {
+            case "ONE_AND_HALF":
+            case "RESERVED":
+                this.growthPolicy = GrowthPolicy.ONE_AND_HALF;
+                break;
+            case "DOUBLING":
+                this.growthPolicy = GrowthPolicy.DOUBLING;
+                break;
+            case "FIXED_4096":
+                this.growthPolicy = GrowthPolicy.fixedIncrement(4096);
+                break;
+            case "CAPPED_65536":
+                this.growthPolicy = GrowthPolicy.capped(GrowthPolicy.DOUBLING, 65536);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + this.policy);
+        }
+    }
+
+    @Benchmark
+    public CustomList<Integer> fill(Reallocations reallocations) {
+        long[] counters = new long[2];
+        CustomArrayList<Integer> list = new CustomArrayList<>(CustomList.DEFAULT_BASE_CAPACITY,
+                (capacity, minCapacity) -> {
+                    counters[0]++;
+                    counters[1] += capacity;
+                    return this.growthPolicy.grow(capacity, minCapacity);
+                });
+        if ("RESERVED".equals(this.policy)) {
+            list.reserve(this.size);
+        }
+        for (Integer element : this.elements) {
+            list.add(element);
+        }
+        reallocations.reallocationsPerFill = counters[0];
+        reallocations.copiedElementsPerFill = counters[1];
+        return list;
+    }
+
+    /**
+     * Количество перевыделений массива и скопированных при этом элементов за одно заполнение списка.
+     * Заполнение детерминировано, поэтому значения последней операции совпадают для всех операций.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Reallocations {
+        public long reallocationsPerFill;
+        public long copiedElementsPerFill;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Прием потока событий: add(T) на каждое событие против пакетного писателя с разным размером блока
+ * и передачи блоков потребителю в другом потоке через SpscBlockQueue. Результат - время на одно событие.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IngestBenchmark {
+    private static final int EVENTS = 1 << 20;
+
+    @Param({"16", "256", "4096"})
+    int batchSize;
+
+    Object[] events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.events = BenchmarkData.elements("Integer", EVENTS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public CustomList<Object> addPerEvent() {
+        CustomArrayList<Object> list = new CustomArrayList<>();
+        for (Object event : this.events) {
+            list.add(event);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public CustomList<Object> batchWriter() {
+        CustomArrayList<Object> list = new CustomArrayList<>();
+        try (BatchWriter<Object> writer = list.batchWriter(this.batchSize)) {
+            for (Object event : this.events) {
+                writer.add(event);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public CustomList<Object> spscPipeline() {
+        SpscBlockQueue<Object> queue = new SpscBlockQueue<>(64);
+        BatchWriter<Object> writer = queue.writer(this.batchSize);
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            for (Object event : this.events) {
+                writer.add(event);
+            }
+            writer.close();
+        });
+        CustomArrayList<Object> list = new CustomArrayList<>();
+        while (!queue.isFinished()) {
+            if (queue.drainTo(list) == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        return list;
+    }
+}
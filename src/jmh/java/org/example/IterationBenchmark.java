@@ -0,0 +1,89 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки способов обхода списка: цикл по get(i), for-each, многоразовый курсор, forEach и потоки.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IterationBenchmark {
+    @Param({"CustomArrayList", "ArrayList"})
+    String implementation;
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    CustomList<Object> list;
+    Cursor<Object> cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.list = BenchmarkData.newList(this.implementation);
+        for (Object element : BenchmarkData.elements("Integer", this.size)) {
+            this.list.add(element);
+        }
+        this.cursor = this.list.cursor();
+    }
+
+    @Benchmark
+    public long indexedGet() {
+        long sum = 0;
+        for (int i = 0; i < this.list.size(); i++) {
+            sum += (Integer) this.list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachLoop() {
+        long sum = 0;
+        for (Object element : this.list) {
+            sum += (Integer) element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long reusedCursor() {
+        long sum = 0;
+        this.cursor.reset();
+        while (this.cursor.next()) {
+            sum += (Integer) this.cursor.element();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void forEachMethod(Blackhole blackhole) {
+        this.list.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long stream() {
+        return this.list.stream().mapToLong(element -> (Integer) element).sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return this.list.parallelStream().mapToLong(element -> (Integer) element).sum();
+    }
+}
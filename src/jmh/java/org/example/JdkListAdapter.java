@@ -0,0 +1,88 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * Адаптер java.util.ArrayList к интерфейсу CustomList, чтобы сравнивать реализации одним и тем же кодом бенчмарков.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class JdkListAdapter<T> implements CustomList<T> {
+    private final ArrayList<T> list;
+
+    public JdkListAdapter() {
+        this.list = new ArrayList<>();
+    }
+
+    public JdkListAdapter(int capacity) {
+        this.list = new ArrayList<>(capacity);
+    }
+
+    @Override
+    public void add(T t) {
+        this.list.add(t);
+    }
+
+    @Override
+    public void add(T t, int index) {
+        this.list.add(index, t);
+    }
+
+    @Override
+    public T get(int index) {
+        return this.list.get(index);
+    }
+
+    @Override
+    public void remove(T t) {
+        this.list.remove(t);
+    }
+
+    @Override
+    public void remove(int index) {
+        this.list.remove(index);
+    }
+
+    @Override
+    public void removeAll() {
+        this.list.clear();
+    }
+
+    @Override
+    public void reserve(int minCapacity) {
+        this.list.ensureCapacity(minCapacity);
+    }
+
+    @Override
+    public void trimCapacityToSize() {
+        this.list.trimToSize();
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comp) {
+        this.list.sort(comp);
+    }
+
+    @Override
+    public boolean hasElement(T t) {
+        return this.list.contains(t);
+    }
+
+    @Override
+    public int size() {
+        return this.list.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.list.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return this.list.spliterator();
+    }
+}
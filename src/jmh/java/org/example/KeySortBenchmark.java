@@ -0,0 +1,78 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сортировка CustomArrayList<Person> по int-ключу: sort и stableSort с компаратором против sortByIntKey.
+ * AGE - возраст 0..99 (сортировка подсчетом), WIDE - случайный int (поразрядная сортировка).
+ * Каждая операция сортирует свежую копию одинаковых данных.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KeySortBenchmark {
+    private static final Comparator<Person> BY_AGE = Comparator.comparingInt(Person::getAge);
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"AGE", "WIDE"})
+    String keyRange;
+
+    Person[] source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.source = new Person[this.size];
+        Random random = new Random(BenchmarkData.SEED);
+        for (int i = 0; i < this.size; i++) {
+            int value = random.nextInt();
+            this.source[i] = new Person("name-" + value, "AGE".equals(this.keyRange) ? Math.floorMod(value, 100) : value);
+        }
+    }
+
+    private CustomArrayList<Person> copy() {
+        CustomArrayList<Person> copy = new CustomArrayList<>(this.size);
+        copy.addAll(this.source);
+        return copy;
+    }
+
+    @Benchmark
+    public Object sort() {
+        CustomArrayList<Person> copy = copy();
+        copy.sort(BY_AGE);
+        return copy;
+    }
+
+    @Benchmark
+    public Object stableSort() {
+        CustomArrayList<Person> copy = copy();
+        copy.stableSort(BY_AGE);
+        return copy;
+    }
+
+    @Benchmark
+    public Object sortByIntKey() {
+        CustomArrayList<Person> copy = copy();
+        copy.sortByIntKey(Person::getAge);
+        return copy;
+    }
+}
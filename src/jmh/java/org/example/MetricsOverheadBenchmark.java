@@ -0,0 +1,74 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Накладные расходы метрик CustomArrayList на горячих путях: заполнение списка и последовательный поиск
+ * с выключенными и включенными метриками.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsOverheadBenchmark {
+    @Param({"OFF", "ON"})
+    String metrics;
+
+    @Param({"10000"})
+    int size;
+
+    CustomListMetrics sharedMetrics;
+    Object[] elements;
+    CustomArrayList<Object> list;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.sharedMetrics = new CustomListMetrics();
+        this.elements = BenchmarkData.elements("Integer", this.size);
+        this.list = newList();
+        for (Object element : this.elements) {
+            this.list.add(element);
+        }
+    }
+
+    @Benchmark
+    public CustomList<Object> add() {
+        CustomArrayList<Object> target = newList();
+        for (Object element : this.elements) {
+            target.add(element);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public boolean hasElement() {
+        if (this.cursor == this.size) {
+            this.cursor = 0;
+        }
+        return this.list.hasElement(this.elements[this.cursor++]);
+    }
+
+    private CustomArrayList<Object> newList() {
+        CustomArrayList<Object> target = new CustomArrayList<>();
+        if ("ON".equals(this.metrics)) {
+            target.enableMetrics(this.sharedMetrics);
+        }
+        return target;
+    }
+}
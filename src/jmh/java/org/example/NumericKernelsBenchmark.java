@@ -0,0 +1,80 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сканирование чисел: hasElement у CustomArrayList&lt;Integer&gt; (упаковка и equals) против скалярных
+ * и векторных ядер NumericKernels на int[] (поиск отсутствующего значения, сумма, подсчет в диапазоне, минимум).
+ * Форк запускается с --add-modules jdk.incubator.vector, чтобы векторные ядра были доступны.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class NumericKernelsBenchmark {
+    @Param({"100000"})
+    int size;
+
+    @Param({"scalar", "vector"})
+    String kernels;
+
+    NumericKernels implementation;
+    CustomArrayList<Integer> boxed;
+    int[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.implementation = "vector".equals(this.kernels) ? NumericKernels.get() : NumericKernels.SCALAR;
+        if ("vector".equals(this.kernels) && !this.implementation.isVectorized()) {
+            throw new IllegalStateException("jdk.incubator.vector is not available");
+        }
+        Random random = new Random(BenchmarkData.SEED);
+        this.values = new int[this.size];
+        this.boxed = new CustomArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.values[i] = random.nextInt(1_000_000);
+            this.boxed.add(this.values[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean boxedHasElement() {
+        return this.boxed.hasElement(-1);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return this.implementation.indexOf(this.values, this.size, -1);
+    }
+
+    @Benchmark
+    public long sum() {
+        return this.implementation.sum(this.values, this.size);
+    }
+
+    @Benchmark
+    public int countInRange() {
+        return this.implementation.countInRange(this.values, this.size, 250_000, 750_000);
+    }
+
+    @Benchmark
+    public int min() {
+        return this.implementation.min(this.values, this.size);
+    }
+}
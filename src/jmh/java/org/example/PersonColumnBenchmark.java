@@ -0,0 +1,112 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение построчного хранения Person в CustomArrayList с колоночным PersonColumnList
+ * на сканировании и сортировке по возрасту.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersonColumnBenchmark {
+    @Param({"100000", "1000000"})
+    int size;
+
+    CustomArrayList<Person> rows;
+    PersonColumnList columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rows = new CustomArrayList<>();
+        this.columns = new PersonColumnList();
+        fill(this.rows, this.columns);
+    }
+
+    @Benchmark
+    public long sumAgesRows() {
+        long sum = 0;
+        for (int i = 0; i < this.rows.size(); i++) {
+            sum += this.rows.get(i).getAge();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumAgesColumns() {
+        return this.columns.sumAges();
+    }
+
+    @Benchmark
+    public int countAgeBetweenRows() {
+        int count = 0;
+        for (int i = 0; i < this.rows.size(); i++) {
+            int age = this.rows.get(i).getAge();
+            if (age >= 18 && age <= 30) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countAgeBetweenColumns() {
+        return this.columns.countAgeBetween(18, 30);
+    }
+
+    @Benchmark
+    public CustomList<Person> sortByAgeRows(Unsorted unsorted) {
+        unsorted.rows.stableSort(Comparator.comparingInt(Person::getAge));
+        return unsorted.rows;
+    }
+
+    @Benchmark
+    public CustomList<Person> sortByAgeColumns(Unsorted unsorted) {
+        unsorted.columns.sortByAge();
+        return unsorted.columns;
+    }
+
+    void fill(CustomArrayList<Person> rows, PersonColumnList columns) {
+        Random random = new Random(BenchmarkData.SEED);
+        for (int i = 0; i < this.size; i++) {
+            String name = "name-" + random.nextInt(1000);
+            int age = random.nextInt(100);
+            rows.add(new Person(name, age));
+            columns.addPerson(name, age);
+        }
+    }
+
+    /**
+     * Свежие неотсортированные списки для каждого вызова сортировки.
+     */
+    @State(Scope.Thread)
+    public static class Unsorted {
+        CustomArrayList<Person> rows;
+        PersonColumnList columns;
+
+        @Setup(Level.Invocation)
+        public void setUp(PersonColumnBenchmark benchmark) {
+            this.rows = new CustomArrayList<>();
+            this.columns = new PersonColumnList();
+            benchmark.fill(this.rows, this.columns);
+        }
+    }
+}
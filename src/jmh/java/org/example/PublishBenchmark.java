@@ -0,0 +1,81 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Публикация согласованной версии списка для читателей: защитная копия CustomArrayList,
+ * snapshot() с копированием при записи и новая версия PersistentCustomList.
+ * Писатель изменяет список (добавление и удаление последнего элемента) и публикует версию,
+ * publishOnly публикует версию без изменений.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PublishBenchmark {
+    @Param({"1000", "100000"})
+    int size;
+
+    CustomArrayList<Integer> list;
+    PersistentCustomList<Integer> version;
+    Integer element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.list = new CustomArrayList<>();
+        for (int i = 0; i < this.size; i++) {
+            this.list.add(i);
+        }
+        this.version = PersistentCustomList.copyOf(this.list);
+        this.element = this.size;
+    }
+
+    @Benchmark
+    public CustomList<Integer> changeThenDefensiveCopy() {
+        this.list.add(this.element);
+        this.list.remove(this.list.size() - 1);
+        CustomArrayList<Integer> copy = new CustomArrayList<>(this.list.size());
+        this.list.forEach(copy::add);
+        return copy;
+    }
+
+    @Benchmark
+    public CustomList<Integer> changeThenSnapshot() {
+        this.list.add(this.element);
+        this.list.remove(this.list.size() - 1);
+        return this.list.snapshot();
+    }
+
+    @Benchmark
+    public CustomList<Integer> changeThenPersistentVersion() {
+        this.version = this.version.withAdded(this.element).withRemoved(this.size);
+        return this.version;
+    }
+
+    @Benchmark
+    public CustomList<Integer> publishOnlyDefensiveCopy() {
+        CustomArrayList<Integer> copy = new CustomArrayList<>(this.list.size());
+        this.list.forEach(copy::add);
+        return copy;
+    }
+
+    @Benchmark
+    public CustomList<Integer> publishOnlySnapshot() {
+        return this.list.snapshot();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Чтение k первых элементов по компаратору: полная сортировка, partialSort, select, selectInPlace, topK и поток sorted().limit().
+ * Каждая операция работает на свежей копии перемешанных данных; copyOnly - стоимость самой копии.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SelectionBenchmark {
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"100"})
+    int k;
+
+    Integer[] source;
+    CustomArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.source = new Integer[this.size];
+        Random random = new Random(BenchmarkData.SEED);
+        for (int i = 0; i < this.size; i++) {
+            this.source[i] = random.nextInt();
+        }
+        this.list = copy();
+    }
+
+    private CustomArrayList<Integer> copy() {
+        CustomArrayList<Integer> copy = new CustomArrayList<>(this.size);
+        copy.addAll(this.source);
+        return copy;
+    }
+
+    @Benchmark
+    public Object copyOnly() {
+        return copy();
+    }
+
+    @Benchmark
+    public Object fullSort() {
+        CustomArrayList<Integer> copy = copy();
+        copy.sort(ORDER);
+        return copy.get(this.k - 1);
+    }
+
+    @Benchmark
+    public Object partialSort() {
+        CustomArrayList<Integer> copy = copy();
+        copy.partialSort(this.k, ORDER);
+        return copy.get(this.k - 1);
+    }
+
+    @Benchmark
+    public Object select() {
+        return this.list.select(this.k - 1, ORDER);
+    }
+
+    @Benchmark
+    public Object selectInPlace() {
+        return copy().selectInPlace(this.k - 1, ORDER);
+    }
+
+    @Benchmark
+    public Object topK() {
+        return this.list.topK(this.k, ORDER);
+    }
+
+    @Benchmark
+    public Object streamSortedLimit() {
+        return this.list.stream().sorted(ORDER).limit(this.k).toArray();
+    }
+}
@@ -0,0 +1,105 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение поэлементной Java-сериализации списка строк с двоичными снимками CustomListSnapshots:
+ * запись, полная загрузка и открытие снимка через отображение в память.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+    @Param({"1000000"})
+    int size;
+
+    CustomArrayList<String> list;
+    Path directory;
+    Path serialized;
+    Path snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.list = new CustomArrayList<>();
+        for (Object element : BenchmarkData.elements("String", this.size)) {
+            this.list.add((String) element);
+        }
+        this.directory = Files.createTempDirectory("snapshot-benchmark");
+        this.serialized = this.directory.resolve("list.ser");
+        this.snapshot = this.directory.resolve("list.bin");
+        javaSerializationWrite();
+        snapshotWrite();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.serialized);
+        Files.deleteIfExists(this.snapshot);
+        Files.deleteIfExists(this.directory);
+    }
+
+    @Benchmark
+    public void javaSerializationWrite() throws IOException {
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(this.serialized)))) {
+            out.writeInt(this.list.size());
+            for (int i = 0; i < this.list.size(); i++) {
+                out.writeObject(this.list.get(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public CustomList<String> javaSerializationRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(Files.newInputStream(this.serialized)))) {
+            int size = in.readInt();
+            CustomList<String> loaded = new CustomArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                loaded.add((String) in.readObject());
+            }
+            return loaded;
+        }
+    }
+
+    @Benchmark
+    public void snapshotWrite() throws IOException {
+        CustomListSnapshots.write(this.list, this.snapshot, BinaryCodec.STRING);
+    }
+
+    @Benchmark
+    public CustomList<String> snapshotRead() throws IOException {
+        return CustomListSnapshots.read(this.snapshot, BinaryCodec.STRING);
+    }
+
+    @Benchmark
+    public String snapshotMap() throws IOException {
+        try (MappedCustomList<String> mapped = CustomListSnapshots.map(this.snapshot, BinaryCodec.STRING)) {
+            return mapped.get(mapped.size() / 2);
+        }
+    }
+}
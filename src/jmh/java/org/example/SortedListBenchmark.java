@@ -0,0 +1,95 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поддержание отсортированного списка: add + sort на CustomArrayList против упорядоченной вставки,
+ * пакетной вставки со слиянием и двоичного поиска в SortedCustomList.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedListBenchmark {
+    @Param({"1000", "10000"})
+    int size;
+
+    Integer[] elements;
+    CustomArrayList<Integer> unsorted;
+    SortedCustomList<Integer> sorted;
+    int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Object[] values = BenchmarkData.elements("Integer", this.size);
+        this.elements = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            this.elements[i] = (Integer) values[i];
+        }
+        this.unsorted = new CustomArrayList<>();
+        this.sorted = new SortedCustomList<>(Comparator.naturalOrder());
+        for (Integer element : this.elements) {
+            this.unsorted.add(element);
+            this.sorted.add(element);
+        }
+    }
+
+    @Benchmark
+    public CustomList<Integer> addThenSortEach() {
+        CustomArrayList<Integer> list = new CustomArrayList<>();
+        for (Integer element : this.elements) {
+            list.add(element);
+            list.sort(Comparator.naturalOrder());
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CustomList<Integer> orderedInsert() {
+        SortedCustomList<Integer> list = new SortedCustomList<>(Comparator.naturalOrder());
+        for (Integer element : this.elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public CustomList<Integer> batchMerge() {
+        SortedCustomList<Integer> list = new SortedCustomList<>(Comparator.naturalOrder());
+        list.addAll(this.elements);
+        return list;
+    }
+
+    @Benchmark
+    public boolean hasElementLinear() {
+        return this.unsorted.hasElement(nextElement());
+    }
+
+    @Benchmark
+    public boolean hasElementBinary() {
+        return this.sorted.hasElement(nextElement());
+    }
+
+    private Integer nextElement() {
+        if (this.cursor == this.size) {
+            this.cursor = 0;
+        }
+        return this.elements[this.cursor++];
+    }
+}
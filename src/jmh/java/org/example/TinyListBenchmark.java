@@ -0,0 +1,65 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Создание и чтение большого количества маленьких списков: CustomArrayList (общий пустой массив,
+ * массив емкости 10 после первого добавления) против CompactCustomList (до 4 элементов в полях).
+ * Объем памяти на операцию виден с GC-профилировщиком (BenchmarkRunner, gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TinyListBenchmark {
+    private static final int LISTS = 1000;
+
+    @Param({"0", "2", "4"})
+    int elements;
+
+    /**
+     * Списки сохраняются в поле, чтобы они не были устранены анализом выхода и попадали в кучу, как в приложении.
+     */
+    final Object[] retained = new Object[LISTS];
+
+    @Benchmark
+    public long customArrayList() {
+        long sum = 0;
+        for (int i = 0; i < LISTS; i++) {
+            CustomArrayList<Integer> list = new CustomArrayList<>();
+            for (int j = 0; j < this.elements; j++) {
+                list.add(j);
+            }
+            this.retained[i] = list;
+            sum += list.size();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long compactCustomList() {
+        long sum = 0;
+        for (int i = 0; i < LISTS; i++) {
+            CompactCustomList<Integer> list = new CompactCustomList<>();
+            for (int j = 0; j < this.elements; j++) {
+                list.add(j);
+            }
+            this.retained[i] = list;
+            sum += list.size();
+        }
+        return sum;
+    }
+}
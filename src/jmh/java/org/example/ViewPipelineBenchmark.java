@@ -0,0 +1,88 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Диапазон -> filter -> map -> limit над CustomArrayList<Integer>: EAGER копирует результат каждого шага
+ * в новый список, LAZY строит subList и ленивый конвейер и материализует его за один проход,
+ * STREAM использует stream() исходного списка с skip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ViewPipelineBenchmark {
+    @Param({"100000"})
+    int size;
+
+    CustomArrayList<Integer> list;
+    int from;
+    int to;
+    int limit;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.list = new CustomArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.list.add(i);
+        }
+        this.from = this.size / 4;
+        this.to = this.size - this.size / 4;
+        this.limit = this.size / 8;
+    }
+
+    @Benchmark
+    public CustomList<Integer> eager() {
+        CustomArrayList<Integer> range = new CustomArrayList<>();
+        for (int i = this.from; i < this.to; i++) {
+            range.add(this.list.get(i));
+        }
+        CustomArrayList<Integer> filtered = new CustomArrayList<>();
+        for (int i = 0; i < range.size(); i++) {
+            Integer value = range.get(i);
+            if ((value & 1) == 0) {
+                filtered.add(value);
+            }
+        }
+        CustomArrayList<Integer> mapped = new CustomArrayList<>();
+        for (int i = 0; i < filtered.size() && mapped.size() < this.limit; i++) {
+            mapped.add(filtered.get(i) * 3);
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public CustomList<Integer> lazy() {
+        return this.list.subList(this.from, this.to).lazy()
+                .filter(value -> (value & 1) == 0)
+                .map(value -> value * 3)
+                .limit(this.limit)
+                .toCustomArrayList();
+    }
+
+    @Benchmark
+    public Object stream() {
+        return this.list.stream()
+                .skip(this.from)
+                .limit(this.to - this.from)
+                .filter(value -> (value & 1) == 0)
+                .map(value -> value * 3)
+                .limit(this.limit)
+                .toArray();
+    }
+}
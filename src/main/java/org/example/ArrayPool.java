@@ -0,0 +1,148 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Пул массивов Object[] для повторного использования памяти короткоживущими списками.
+ * Массивы делятся на классы размеров - степени двойки от MIN_POOLED_LENGTH (16) до maxPooledLength;
+ * запрос округляется вверх до ближайшего класса, более длинные массивы выделяются и освобождаются без пула.
+ * <p>
+ * Каждый поток хранит до localCapacity массивов каждого класса в собственном кэше без синхронизации.
+ * Когда локальный кэш пуст или переполнен, массивы берутся из общего яруса или передаются в него;
+ * общий ярус ограничен sharedCapacity массивами на класс, лишние массивы остаются сборщику мусора.
+ * Возвращаемые массивы очищаются, поэтому пул не удерживает элементы списков.
+ * Пул потокобезопасен; массив, полученный в одном потоке, можно вернуть из другого.
+ */
+public final class ArrayPool {
+    static final int MIN_POOLED_LENGTH = 16;
+    private static final int MIN_SHIFT = 4;
+
+    private final int maxPooledLength;
+    private final ArrayBlockingQueue<Object[]>[] shared;
+    private final ThreadLocal<LocalCache> local;
+
+    /**
+     * Создает пул с массивами до 2^20 элементов, локальным кэшем на 4 массива и общим ярусом на 64 массива на класс.
+     */
+    public ArrayPool() {
+        this(1 << 20, 4, 64);
+    }
+
+    /**
+     * Создает пул с указанными ограничениями.
+     *
+     * @param maxPooledLength максимальная длина массива в пуле (округляется вверх до степени двойки)
+     * @param localCapacity   количество массивов каждого класса в кэше одного потока
+     * @param sharedCapacity  количество массивов каждого класса в общем ярусе
+     * @throws IllegalArgumentException если ограничения вне допустимых значений
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArrayPool(int maxPooledLength, int localCapacity, int sharedCapacity) {
+        if (maxPooledLength < MIN_POOLED_LENGTH || maxPooledLength > 1 << 30) {
+            throw new IllegalArgumentException("Max pooled length must be between " + MIN_POOLED_LENGTH + " and 2^30");
+        }
+        if (localCapacity < 0 || sharedCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.maxPooledLength = roundUp(maxPooledLength);
+        int classes = sizeClass(this.maxPooledLength) + 1;
+        this.shared = new ArrayBlockingQueue[classes];
+        if (sharedCapacity > 0) {
+            for (int i = 0; i < classes; i++) {
+                this.shared[i] = new ArrayBlockingQueue<>(sharedCapacity);
+            }
+        }
+        this.local = ThreadLocal.withInitial(() -> new LocalCache(classes, localCapacity));
+    }
+
+    /**
+     * Возвращает пустой массив длиной не меньше minLength: из кэша потока, из общего яруса или новый.
+     * Длина массива из пула - степень двойки, поэтому может быть больше запрошенной.
+     *
+     * @param minLength минимальная длина массива
+     * @return пустой массив
+     */
+    public Object[] acquire(int minLength) {
+        if (minLength > this.maxPooledLength) {
+            return new Object[minLength];
+        }
+        int length = roundUp(minLength);
+        int sizeClass = sizeClass(length);
+        Object[] array = this.local.get().poll(sizeClass);
+        if (array == null && this.shared[sizeClass] != null) {
+            array = this.shared[sizeClass].poll();
+        }
+        return array != null ? array : new Object[length];
+    }
+
+    /**
+     * Возвращает массив в пул, предварительно очищая его целиком.
+     * Массивы, длина которых не совпадает с классом размера пула, не сохраняются.
+     * После вызова массив нельзя использовать.
+     *
+     * @param array возвращаемый массив
+     */
+    public void release(Object[] array) {
+        release(array, array.length);
+    }
+
+    /**
+     * Возвращает массив в пул, очищая только первые used ячеек (остальные уже пусты).
+     */
+    void release(Object[] array, int used) {
+        int length = array.length;
+        if (length < MIN_POOLED_LENGTH || length > this.maxPooledLength || Integer.bitCount(length) != 1) {
+            return;
+        }
+        Arrays.fill(array, 0, used, null);
+        int sizeClass = sizeClass(length);
+        if (!this.local.get().offer(sizeClass, array) && this.shared[sizeClass] != null) {
+            this.shared[sizeClass].offer(array);
+        }
+    }
+
+    private static int roundUp(int length) {
+        return length <= MIN_POOLED_LENGTH ? MIN_POOLED_LENGTH : Integer.highestOneBit(length - 1) << 1;
+    }
+
+    private static int sizeClass(int length) {
+        return Integer.numberOfTrailingZeros(length) - MIN_SHIFT;
+    }
+
+    /**
+     * Кэш одного потока: для каждого класса размеров стек фиксированной емкости.
+     */
+    private static final class LocalCache {
+        private final Object[][][] stacks;
+        private final int[] counts;
+
+        LocalCache(int classes, int capacity) {
+            this.stacks = new Object[classes][capacity][];
+            this.counts = new int[classes];
+        }
+
+        Object[] poll(int sizeClass) {
+            int count = this.counts[sizeClass];
+            if (count == 0) {
+                return null;
+            }
+            Object[][] stack = this.stacks[sizeClass];
+            Object[] array = stack[--count];
+            stack[count] = null;
+            this.counts[sizeClass] = count;
+            return array;
+        }
+
+        boolean offer(int sizeClass, Object[] array) {
+            Object[][] stack = this.stacks[sizeClass];
+            int count = this.counts[sizeClass];
+            if (count == stack.length) {
+                return false;
+            }
+            stack[count] = array;
+            this.counts[sizeClass] = count + 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Алгоритмы сортировки диапазонов массива, общие для реализаций CustomList.
+ * Диапазон задается полуинтервалом [from, to).
+ */
+final class ArraySorts {
+    static final int INSERTION_SORT_THRESHOLD = 16;
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private ArraySorts() {
+    }
+
+    /**
+     * Диапазон, доступный для сортировки только через сравнение и обмен элементов по индексам.
+     * Позволяет применять introSort к массивам примитивов и к спискам, хранящим элементы вне кучи.
+     */
+    interface Sortable {
+        int compare(int first, int second);
+
+        void swap(int first, int second);
+    }
+
+    /**
+     * Интроспективная сортировка: быстрая сортировка с переходом на пирамидальную при превышении глубины
+     * 2 * log2(n) и сортировкой вставками на коротких диапазонах. Гарантирует O(n * log n)
+     * и глубину стека O(log n), так как рекурсия выполняется только для меньшей части разбиения.
+     */
+    static <T> void introSort(T[] array, int from, int to, Comparator<? super T> comp) {
+        introSort(array, from, to, comp, depthLimit(to - from));
+    }
+
+    /**
+     * Параллельная интроспективная сортировка на fork/join. Диапазоны короче PARALLEL_SORT_THRESHOLD
+     * сортируются последовательно.
+     */
+    static <T> void parallelIntroSort(T[] array, int from, int to, Comparator<? super T> comp) {
+        if (to - from <= PARALLEL_SORT_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() == 1) {
+            introSort(array, from, to, comp);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new IntroSortTask<>(array, from, to, comp, depthLimit(to - from)));
+    }
+
+    /**
+     * Стабильная сортировка слиянием (равные элементы сохраняют взаимный порядок).
+     */
+    static <T> void mergeSort(T[] array, int from, int to, Comparator<? super T> comp) {
+        if (to - from < 2) {
+            return;
+        }
+        T[] buffer = Arrays.copyOf(array, to);
+        mergeSort(array, buffer, from, to, comp);
+    }
+
+    /**
+     * Параллельная стабильная сортировка слиянием на fork/join.
+     */
+    static <T> void parallelMergeSort(T[] array, int from, int to, Comparator<? super T> comp) {
+        if (to - from <= PARALLEL_SORT_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() == 1) {
+            mergeSort(array, from, to, comp);
+            return;
+        }
+        T[] buffer = Arrays.copyOf(array, to);
+        ForkJoinPool.commonPool().invoke(new MergeSortTask<>(array, buffer, from, to, comp));
+    }
+
+    /**
+     * Интроспективный выбор: переставляет диапазон так, что на позиции k оказывается тот же элемент,
+     * что и после сортировки, элементы левее k не больше него, правее - не меньше.
+     * Использует то же разбиение, что и introSort, но продолжает только в той части, где лежит k,
+     * поэтому в среднем выполняется за O(n); при превышении глубины оставшийся диапазон сортируется пирамидальной сортировкой.
+     */
+    static <T> void select(T[] array, int from, int to, int k, Comparator<? super T> comp) {
+        int low = from;
+        int high = to - 1;
+        int depth = depthLimit(to - from);
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high + 1, comp);
+                return;
+            }
+            long split = partition(array, low, high, comp);
+            int l = left(split);
+            int h = right(split);
+            if (k <= h) {
+                high = h;
+            } else if (k >= l) {
+                low = l;
+            } else {
+                return;
+            }
+        }
+        insertionSort(array, low, high + 1, comp);
+    }
+
+    /**
+     * Частичная сортировка: первые count элементов диапазона становятся наименьшими по компаратору и упорядочиваются,
+     * остальные остаются в произвольном порядке. Выбор плюс сортировка префикса - O(n + count * log count).
+     */
+    static <T> void partialSort(T[] array, int from, int to, int count, Comparator<? super T> comp) {
+        if (count <= 0) {
+            return;
+        }
+        if (count < to - from) {
+            select(array, from, to, from + count - 1, comp);
+        }
+        introSort(array, from, from + count, comp);
+    }
+
+    /**
+     * Интроспективная сортировка диапазона, заданного через сравнение и обмен по индексам.
+     * Те же гарантии, что и у introSort для массива: O(n * log n) и глубина стека O(log n).
+     */
+    static void introSort(Sortable sortable, int from, int to) {
+        introSort(sortable, from, to, depthLimit(to - from));
+    }
+
+    /**
+     * Разбиение Хоара диапазона [low, high] (включительно) относительно медианы трех элементов.
+     * После разбиения элементы [low, h] не больше опорного, элементы [l, high] не меньше.
+     *
+     * @return упакованные индексы: l в старших 32 битах, h в младших
+     */
+    static <T> long partition(T[] array, int low, int high, Comparator<? super T> comp) {
+        T baseValue = medianOfThree(array, low, low + (high - low) / 2, high, comp);
+
+        int l = low;
+        int h = high;
+
+        while (l <= h) {
+            while (comp.compare(baseValue, array[l]) > 0) {
+                l++;
+            }
+            while (comp.compare(baseValue, array[h]) < 0) {
+                h--;
+            }
+            if (l <= h) {
+                swap(array, l, h);
+                l++;
+                h--;
+            }
+        }
+        return ((long) l << 32) | (h & 0xFFFFFFFFL);
+    }
+
+    static int left(long partition) {
+        return (int) (partition >>> 32);
+    }
+
+    static int right(long partition) {
+        return (int) partition;
+    }
+
+    static int depthLimit(int length) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(Math.max(length, 1)));
+    }
+
+    static <T> void insertionSort(T[] array, int from, int to, Comparator<? super T> comp) {
+        for (int i = from + 1; i < to; i++) {
+            T value = array[i];
+            int j = i - 1;
+            while (j >= from && comp.compare(array[j], value) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    static <T> void heapSort(T[] array, int from, int to, Comparator<? super T> comp) {
+        int length = to - from;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, from, i, length, comp);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, from, from + end);
+            siftDown(array, from, 0, end, comp);
+        }
+    }
+
+    static void swap(Object[] array, int first, int second) {
+        Object swap = array[first];
+        array[first] = array[second];
+        array[second] = swap;
+    }
+
+    private static <T> void introSort(T[] array, int from, int to, Comparator<? super T> comp, int depth) {
+        int low = from;
+        int high = to - 1;
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(array, low, high + 1, comp);
+                return;
+            }
+            long split = partition(array, low, high, comp);
+            int l = left(split);
+            int h = right(split);
+            if (h - low < high - l) {
+                introSort(array, low, h + 1, comp, depth);
+                low = l;
+            } else {
+                introSort(array, l, high + 1, comp, depth);
+                high = h;
+            }
+        }
+        insertionSort(array, low, high + 1, comp);
+    }
+
+    private static <T> T medianOfThree(T[] array, int a, int b, int c, Comparator<? super T> comp) {
+        T first = array[a];
+        T second = array[b];
+        T third = array[c];
+        if (comp.compare(first, second) > 0) {
+            T swap = first;
+            first = second;
+            second = swap;
+        }
+        if (comp.compare(second, third) > 0) {
+            second = third;
+            if (comp.compare(first, second) > 0) {
+                second = first;
+            }
+        }
+        return second;
+    }
+
+    private static <T> void siftDown(T[] array, int from, int root, int length, Comparator<? super T> comp) {
+        T value = array[from + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && comp.compare(array[from + child], array[from + child + 1]) < 0) {
+                child++;
+            }
+            if (comp.compare(value, array[from + child]) >= 0) {
+                break;
+            }
+            array[from + root] = array[from + child];
+            root = child;
+        }
+        array[from + root] = value;
+    }
+
+    private static void introSort(Sortable sortable, int from, int to, int depth) {
+        int low = from;
+        int high = to - 1;
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(sortable, low, high + 1);
+                return;
+            }
+            int pivot = partition(sortable, low, high);
+            if (pivot - low < high - pivot) {
+                introSort(sortable, low, pivot, depth);
+                low = pivot + 1;
+            } else {
+                introSort(sortable, pivot + 1, high + 1, depth);
+                high = pivot - 1;
+            }
+        }
+        insertionSort(sortable, low, high + 1);
+    }
+
+    /**
+     * Разбиение диапазона [low, high] относительно медианы трех элементов. Опорный элемент хранится
+     * на позиции low и после разбиения ставится на свое место: левее него элементы не больше, правее - не меньше.
+     *
+     * @return итоговый индекс опорного элемента
+     */
+    private static int partition(Sortable sortable, int low, int high) {
+        int middle = low + (high - low) / 2;
+        if (sortable.compare(middle, low) < 0) {
+            sortable.swap(middle, low);
+        }
+        if (sortable.compare(high, middle) < 0) {
+            sortable.swap(high, middle);
+            if (sortable.compare(middle, low) < 0) {
+                sortable.swap(middle, low);
+            }
+        }
+        sortable.swap(low, middle);
+
+        int l = low;
+        int h = high + 1;
+        while (true) {
+            while (sortable.compare(++l, low) < 0) {
+                if (l == high) {
+                    break;
+                }
+            }
+            while (sortable.compare(low, --h) < 0) {
+                if (h == low) {
+                    break;
+                }
+            }
+            if (l >= h) {
+                break;
+            }
+            sortable.swap(l, h);
+        }
+        sortable.swap(low, h);
+        return h;
+    }
+
+    private static void insertionSort(Sortable sortable, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && sortable.compare(j - 1, j) > 0; j--) {
+                sortable.swap(j - 1, j);
+            }
+        }
+    }
+
+    private static void heapSort(Sortable sortable, int from, int to) {
+        int length = to - from;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(sortable, from, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            sortable.swap(from, from + end);
+            siftDown(sortable, from, 0, end);
+        }
+    }
+
+    private static void siftDown(Sortable sortable, int from, int root, int length) {
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && sortable.compare(from + child, from + child + 1) < 0) {
+                child++;
+            }
+            if (sortable.compare(from + root, from + child) >= 0) {
+                return;
+            }
+            sortable.swap(from + root, from + child);
+            root = child;
+        }
+    }
+
+    private static <T> void mergeSort(T[] array, T[] buffer, int from, int to, Comparator<? super T> comp) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(array, from, to, comp);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(array, buffer, from, middle, comp);
+        mergeSort(array, buffer, middle, to, comp);
+        merge(array, buffer, from, middle, to, comp);
+    }
+
+    private static <T> void merge(T[] array, T[] buffer, int from, int middle, int to, Comparator<? super T> comp) {
+        if (comp.compare(array[middle - 1], array[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(array, from, buffer, from, to - from);
+        int l = from;
+        int r = middle;
+        int i = from;
+        while (l < middle && r < to) {
+            array[i++] = comp.compare(buffer[r], buffer[l]) < 0 ? buffer[r++] : buffer[l++];
+        }
+        while (l < middle) {
+            array[i++] = buffer[l++];
+        }
+        while (r < to) {
+            array[i++] = buffer[r++];
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class IntroSortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> comp;
+        private final int depth;
+
+        IntroSortTask(T[] array, int from, int to, Comparator<? super T> comp, int depth) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.comp = comp;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_SORT_THRESHOLD) {
+                introSort(this.array, this.from, this.to, this.comp, this.depth);
+                return;
+            }
+            if (this.depth == 0) {
+                heapSort(this.array, this.from, this.to, this.comp);
+                return;
+            }
+            long split = partition(this.array, this.from, this.to - 1, this.comp);
+            invokeAll(new IntroSortTask<>(this.array, this.from, right(split) + 1, this.comp, this.depth - 1),
+                    new IntroSortTask<>(this.array, left(split), this.to, this.comp, this.depth - 1));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MergeSortTask<T> extends RecursiveAction {
+        private final T[] array;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+        private final Comparator<? super T> comp;
+
+        MergeSortTask(T[] array, T[] buffer, int from, int to, Comparator<? super T> comp) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comp = comp;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= PARALLEL_SORT_THRESHOLD) {
+                mergeSort(this.array, this.buffer, this.from, this.to, this.comp);
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new MergeSortTask<>(this.array, this.buffer, this.from, middle, this.comp),
+                    new MergeSortTask<>(this.array, this.buffer, middle, this.to, this.comp));
+            merge(this.array, this.buffer, this.from, middle, this.to, this.comp);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example;
+
+/**
+ * Пакетный писатель: накапливает элементы в локальном буфере и передает их получателю блоками.
+ * Горячий путь add(T) - запись в массив и сравнение счетчика с размером буфера; проверка емкости
+ * и возможное перевыделение массива списка выполняются один раз на блок.
+ * <p>
+ * Писатель создается методами {@link CustomArrayList#batchWriter(int)} (блоки добавляются в конец списка
+ * в том же потоке) и {@link SpscBlockQueue#writer(int)} (блоки публикуются читателю в другом потоке).
+ * Писатель не потокобезопасен: им пользуется один поток. Элементы становятся видимыми только после
+ * {@link #flush()}, заполнения буфера или {@link #close()}.
+ *
+ * @param <T> тип элементов
+ */
+public final class BatchWriter<T> implements AutoCloseable {
+    private final Sink sink;
+    private Object[] buffer;
+    private int count;
+
+    BatchWriter(int batchSize, Sink sink) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size cannot be less 1");
+        }
+        this.sink = sink;
+        this.buffer = new Object[batchSize];
+    }
+
+    /**
+     * Добавляет элемент в буфер; заполненный буфер передается получателю.
+     *
+     * @param element элемент, который нужно добавить
+     * @throws IllegalStateException если писатель закрыт
+     */
+    public void add(T element) {
+        Object[] buffer = this.buffer;
+        if (buffer == null) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        buffer[this.count++] = element;
+        if (this.count == buffer.length) {
+            publish();
+        }
+    }
+
+    /**
+     * Передает получателю накопленные элементы, даже если буфер заполнен не полностью.
+     *
+     * @throws IllegalStateException если писатель закрыт
+     */
+    public void flush() {
+        if (this.buffer == null) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        if (this.count > 0) {
+            publish();
+        }
+    }
+
+    /**
+     * Возвращает количество элементов, накопленных в буфере и еще не переданных получателю.
+     *
+     * @return количество ожидающих элементов
+     */
+    public int pending() {
+        return this.count;
+    }
+
+    /**
+     * Передает оставшиеся элементы и закрывает писатель. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (this.buffer == null) {
+            return;
+        }
+        if (this.count > 0) {
+            publish();
+        }
+        this.buffer = null;
+        this.sink.closed();
+    }
+
+    private void publish() {
+        this.buffer = this.sink.publish(this.buffer, this.count);
+        this.count = 0;
+    }
+
+    /**
+     * Получатель блоков. publish возвращает буфер для следующего блока: тот же массив, если получатель
+     * скопировал элементы, или новый, если блок передан получателю целиком.
+     */
+    interface Sink {
+        Object[] publish(Object[] block, int length);
+
+        default void closed() {
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Интерфейс BinaryCodec описывает компактное двоичное представление элементов для снимков списков на диске
+ * (см. {@link CustomListSnapshots}). В отличие от {@link ElementCodec}, размер закодированного элемента может
+ * быть переменным: для таких кодеков снимок хранит таблицу смещений, чтобы читать элементы по индексу.
+ * Все числа записываются в порядке байт little-endian. Null-элементы не поддерживаются.
+ *
+ * @param <T> тип кодируемых элементов
+ */
+public interface BinaryCodec<T> {
+    int VARIABLE_SIZE = 0;
+
+    BinaryCodec<Integer> INTEGER = new BinaryCodec<>() {
+        @Override
+        public String name() {
+            return "int32";
+        }
+
+        @Override
+        public int fixedSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Integer element) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Integer element) {
+            buffer.putInt(element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset, int length) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    BinaryCodec<Long> LONG = new BinaryCodec<>() {
+        @Override
+        public String name() {
+            return "int64";
+        }
+
+        @Override
+        public int fixedSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Long element) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Long element) {
+            buffer.putLong(element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset, int length) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    BinaryCodec<Double> DOUBLE = new BinaryCodec<>() {
+        @Override
+        public String name() {
+            return "float64";
+        }
+
+        @Override
+        public int fixedSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Double element) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Double element) {
+            buffer.putDouble(element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset, int length) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Строка в кодировке UTF-8 без префикса длины (длина берется из таблицы смещений).
+     */
+    BinaryCodec<String> STRING = new BinaryCodec<>() {
+        @Override
+        public String name() {
+            return "utf8";
+        }
+
+        @Override
+        public int fixedSize() {
+            return VARIABLE_SIZE;
+        }
+
+        @Override
+        public int encodedSize(String element) {
+            return utf8Length(element);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, String element) {
+            buffer.put(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int offset, int length) {
+            return readUtf8(buffer, offset, length);
+        }
+    };
+
+    /**
+     * Запись Person: возраст (int32), длина имени в байтах (int32, -1 для null) и имя в UTF-8.
+     */
+    BinaryCodec<Person> PERSON = new BinaryCodec<>() {
+        @Override
+        public String name() {
+            return "person";
+        }
+
+        @Override
+        public int fixedSize() {
+            return VARIABLE_SIZE;
+        }
+
+        @Override
+        public int encodedSize(Person element) {
+            return 2 * Integer.BYTES + (element.getName() == null ? 0 : utf8Length(element.getName()));
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Person element) {
+            buffer.putInt(element.getAge());
+            if (element.getName() == null) {
+                buffer.putInt(-1);
+            } else {
+                byte[] name = element.getName().getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(name.length);
+                buffer.put(name);
+            }
+        }
+
+        @Override
+        public Person read(ByteBuffer buffer, int offset, int length) {
+            int nameLength = buffer.getInt(offset + Integer.BYTES);
+            String name = nameLength < 0 ? null : readUtf8(buffer, offset + 2 * Integer.BYTES, nameLength);
+            return new Person(name, buffer.getInt(offset));
+        }
+    };
+
+    /**
+     * Возвращает имя формата кодека. Сохраняется в заголовке снимка и проверяется при чтении.
+     *
+     * @return имя формата
+     */
+    String name();
+
+    /**
+     * Возвращает размер закодированного элемента, если он одинаков для всех элементов.
+     *
+     * @return размер элемента в байтах или {@link #VARIABLE_SIZE}, если размер переменный
+     */
+    int fixedSize();
+
+    /**
+     * Возвращает размер закодированного элемента в байтах.
+     *
+     * @param element элемент (не null)
+     * @return размер элемента в байтах
+     */
+    int encodedSize(T element);
+
+    /**
+     * Записывает элемент в буфер с текущей позиции, продвигая ее на {@link #encodedSize(Object)} байт.
+     *
+     * @param buffer  буфер, в котором достаточно места для элемента
+     * @param element записываемый элемент (не null)
+     */
+    void write(ByteBuffer buffer, T element);
+
+    /**
+     * Читает элемент из буфера по абсолютному смещению, не изменяя позицию буфера.
+     *
+     * @param buffer буфер, из которого производится чтение
+     * @param offset смещение в байтах
+     * @param length размер закодированного элемента в байтах
+     * @return прочитанный элемент
+     */
+    T read(ByteBuffer buffer, int offset, int length);
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static String readUtf8(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example;
+
+import java.util.Iterator;
+
+/**
+ * Итератор, удерживающий внешние ресурсы (файлы, отображения в память), которые нужно освободить
+ * после обхода. Ресурсы освобождаются при вызове {@link #close()}, а также автоматически,
+ * когда итератор дошел до конца.
+ *
+ * @param <T> тип элементов
+ */
+public interface CloseableIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Освобождает ресурсы итератора. Повторный вызов ничего не делает.
+     */
+    @Override
+    void close();
+}
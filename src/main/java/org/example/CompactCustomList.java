@@ -0,0 +1,314 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Класс CompactCustomList представляет собой список, оптимизированный по памяти для большого количества
+ * маленьких списков. До INLINE_CAPACITY (4) элементов хранятся прямо в полях объекта без отдельного массива,
+ * поэтому пустой или короткий список занимает один объект (около 40 байт против около 100 байт
+ * у CustomArrayList с массивом емкости по умолчанию). При добавлении пятого элемента элементы переносятся
+ * в массив, который растет так же, как у CustomArrayList (GrowthPolicy.ONE_AND_HALF);
+ * removeAll и trimCapacityToSize возвращают короткий список обратно в поля.
+ * Реализует интерфейс CustomList.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class CompactCustomList<T> implements CustomList<T> {
+    static final int INLINE_CAPACITY = 4;
+    /**
+     * Оценка размера объекта: int и пять ссылок.
+     */
+    private static final long OBJECT_BYTES = MemoryEstimates.object(Integer.BYTES + 5L * MemoryEstimates.REFERENCE);
+
+    private int size;
+    private Object e0;
+    private Object e1;
+    private Object e2;
+    private Object e3;
+    /**
+     * Массив элементов после переполнения полей; null, пока элементы хранятся в полях.
+     */
+    private Object[] data;
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить
+     */
+    @Override
+    public void add(T element) {
+        if (this.data == null && this.size < INLINE_CAPACITY) {
+            setInline(this.size++, element);
+            return;
+        }
+        ensureCapacity(this.size + 1);
+        this.data[this.size++] = element;
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу, сдвигая последующие элементы.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        if (this.data == null && this.size < INLINE_CAPACITY) {
+            for (int i = this.size - 1; i >= index; i--) {
+                setInline(i + 1, inline(i));
+            }
+            setInline(index, element);
+            this.size++;
+            return;
+        }
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.data, index, this.data, index + 1, this.size - index);
+        this.data[index] = element;
+        this.size++;
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) element(index);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу.
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка и освобождает массив: элементы снова хранятся в полях.
+     */
+    @Override
+    public void removeAll() {
+        clearInline();
+        this.data = null;
+        this.size = 0;
+    }
+
+    /**
+     * Выделяет массив ровно на minCapacity элементов, если это больше числа полей и текущей емкости.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > capacity()) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Урезает вместимость списка до текущего количества элементов; список из не более чем четырех элементов
+     * переносится обратно в поля.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        if (this.data == null) {
+            return;
+        }
+        if (this.size <= INLINE_CAPACITY) {
+            Object[] elements = this.data;
+            this.data = null;
+            for (int i = 0; i < this.size; i++) {
+                setInline(i, elements[i]);
+            }
+        } else {
+            this.data = Arrays.copyOf(this.data, this.size);
+        }
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе.
+     * Элементы в полях сортируются вставками через временный массив, элементы в массиве - интроспективной сортировкой.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        if (this.data != null) {
+            ArraySorts.introSort((T[]) this.data, 0, this.size, comp);
+            return;
+        }
+        Object[] elements = {this.e0, this.e1, this.e2, this.e3};
+        ArraySorts.insertionSort((T[]) elements, 0, this.size, comp);
+        for (int i = 0; i < this.size; i++) {
+            setInline(i, elements[i]);
+        }
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0; i < this.size; i++) {
+            if (element(i).equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Возвращает оценку памяти, занимаемой списком (без самих элементов). Пока элементы хранятся в полях,
+     * емкость равна числу полей, а массив не занимает памяти.
+     *
+     * @return отчет о занимаемой памяти
+     */
+    public MemoryFootprint footprint() {
+        long arrayBytes = this.data == null ? 0 : MemoryEstimates.referenceArray(this.data.length);
+        return new MemoryFootprint(this.size, capacity(), OBJECT_BYTES, arrayBytes, 0);
+    }
+
+    private int capacity() {
+        return this.data == null ? INLINE_CAPACITY : this.data.length;
+    }
+
+    private Object element(int index) {
+        return this.data != null ? this.data[index] : inline(index);
+    }
+
+    private Object inline(int index) {
+        switch (index) {
+            case 0:
+                return this.e0;
+            case 1:
+                return this.e1;
+            case 2:
+                return this.e2;
+            default:
+                return this.e3;
+        }
+    }
+
+    private void setInline(int index, Object element) {
+        switch (index) {
+            case 0:
+                this.e0 = element;
+                break;
+            case 1:
+                this.e1 = element;
+                break;
+            case 2:
+                this.e2 = element;
+                break;
+            default:
+                this.e3 = element;
+                break;
+        }
+    }
+
+    private void clearInline() {
+        this.e0 = null;
+        this.e1 = null;
+        this.e2 = null;
+        this.e3 = null;
+    }
+
+    private void removeByIndex(int index) {
+        if (this.data != null) {
+            System.arraycopy(this.data, index + 1, this.data, index, this.size - index - 1);
+            this.data[--this.size] = null;
+            return;
+        }
+        for (int i = index; i < this.size - 1; i++) {
+            setInline(i, inline(i + 1));
+        }
+        setInline(--this.size, null);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        if (minCapacity > capacity()) {
+            resize(GrowthPolicy.ONE_AND_HALF.grow(capacity(), minCapacity));
+        }
+    }
+
+    /**
+     * Переносит элементы в массив новой емкости (из полей - при первом переполнении).
+     */
+    private void resize(int newCapacity) {
+        Object[] newData = new Object[newCapacity];
+        if (this.data != null) {
+            System.arraycopy(this.data, 0, newData, 0, this.size);
+        } else {
+            for (int i = 0; i < this.size; i++) {
+                newData[i] = inline(i);
+            }
+            clearInline();
+        }
+        this.data = newData;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
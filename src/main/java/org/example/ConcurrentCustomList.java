@@ -0,0 +1,388 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Класс ConcurrentCustomList представляет собой потокобезопасный список для многих производителей и читателей.
+ * Элементы хранятся в геометрически растущих сегментах, поэтому при росте списка данные не копируются.
+ * <p>
+ * Добавление в конец не блокирует другие добавления: производитель резервирует индекс атомарным инкрементом
+ * хвоста, записывает элемент в свою ячейку и продвигает счетчик опубликованных элементов.
+ * Элемент становится видимым читателям, когда опубликованы все элементы перед ним.
+ * Чтение (get, hasElement, size) не использует блокировок и всегда завершается за конечное число шагов.
+ * <p>
+ * Структурные изменения (вставка и удаление по индексу, удаление по значению, сортировка, очистка)
+ * выполняются по принципу копирования при записи: новое состояние строится под эксклюзивной блокировкой
+ * и публикуется одной записью, так что читатели видят либо старое, либо новое состояние целиком.
+ * Такие операции стоят O(n) и предназначены для редкого использования.
+ * Итераторы и потоки обходят снимок списка на момент их создания и не генерируют ConcurrentModificationException.
+ * Null-элементы не поддерживаются.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class ConcurrentCustomList<T> implements CustomList<T> {
+    private final ReentrantReadWriteLock structureLock = new ReentrantReadWriteLock();
+    private volatile State<T> state;
+
+    /**
+     * Конструктор без параметров, создает пустой список.
+     */
+    public ConcurrentCustomList() {
+        this.state = new State<>();
+    }
+
+    /**
+     * Добавляет элемент в конец списка. Может вызываться из многих потоков одновременно.
+     *
+     * @param element элемент, который нужно добавить
+     * @throws NullPointerException если элемент равен null
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        ReentrantReadWriteLock.ReadLock appendLock = this.structureLock.readLock();
+        appendLock.lock();
+        try {
+            State<T> current = this.state;
+            int index = current.reserved.getAndIncrement();
+            if (index >= Segments.MAX_SIZE || index < 0) {
+                throw new IllegalStateException("List is full");
+            }
+            current.segment(Segments.segment(index)).set(Segments.offset(index), element);
+            current.advancePublished();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу (копирование при записи).
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        Objects.requireNonNull(element, "Element cannot be null");
+        ReentrantReadWriteLock.WriteLock writeLock = this.structureLock.writeLock();
+        writeLock.lock();
+        try {
+            Object[] elements = this.state.toArray();
+            checkIndex(index, elements.length);
+            Object[] newElements = new Object[elements.length + 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            newElements[index] = element;
+            System.arraycopy(elements, index, newElements, index + 1, elements.length - index);
+            this.state = new State<>(newElements);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу без блокировок.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        State<T> current = this.state;
+        checkIndex(index, current.published.get());
+        return current.segments.get(Segments.segment(index)).get(Segments.offset(index));
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (копирование при записи).
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        ReentrantReadWriteLock.WriteLock writeLock = this.structureLock.writeLock();
+        writeLock.lock();
+        try {
+            Object[] elements = this.state.toArray();
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i].equals(element)) {
+                    this.state = new State<>(withoutIndex(elements, i));
+                    return;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу (копирование при записи).
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        ReentrantReadWriteLock.WriteLock writeLock = this.structureLock.writeLock();
+        writeLock.lock();
+        try {
+            Object[] elements = this.state.toArray();
+            checkIndex(index, elements.length);
+            this.state = new State<>(withoutIndex(elements, index));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет все элементы из списка.
+     */
+    @Override
+    public void removeAll() {
+        ReentrantReadWriteLock.WriteLock writeLock = this.structureLock.writeLock();
+        writeLock.lock();
+        try {
+            this.state = new State<>();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Заранее выделяет сегменты, достаточные для хранения minCapacity элементов.
+     * Может выполняться одновременно с добавлениями.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля или больше максимального размера списка
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > Segments.MAX_SIZE) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + Segments.MAX_SIZE);
+        }
+        ReentrantReadWriteLock.ReadLock appendLock = this.structureLock.readLock();
+        appendLock.lock();
+        try {
+            State<T> current = this.state;
+            for (int segment = 0; segment < Segments.segmentsFor(minCapacity); segment++) {
+                current.segment(segment);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Отбрасывает сегменты, не содержащие элементов. Занятые сегменты не копируются.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        ReentrantReadWriteLock.WriteLock writeLock = this.structureLock.writeLock();
+        writeLock.lock();
+        try {
+            this.state = this.state.trimmed();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе (копирование при записи).
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        ReentrantReadWriteLock.WriteLock writeLock = this.structureLock.writeLock();
+        writeLock.lock();
+        try {
+            T[] elements = (T[]) this.state.toArray();
+            ArraySorts.introSort(elements, 0, elements.length, comp);
+            this.state = new State<>(elements);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке, без блокировок
+     * (в классе элемента должен быть корректно реализован equals).
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден среди опубликованных элементов, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        State<T> current = this.state;
+        int size = current.published.get();
+        for (int segment = 0, start = 0; start < size; start += Segments.capacity(segment++)) {
+            AtomicReferenceArray<T> elements = current.segments.get(segment);
+            int length = Math.min(Segments.capacity(segment), size - start);
+            for (int i = 0; i < length; i++) {
+                if (elements.get(i).equals(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает количество опубликованных элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.state.published.get();
+    }
+
+    /**
+     * Возвращает итератор по элементам, опубликованным на момент вызова, без блокировок.
+     * Последующие изменения списка на обход не влияют. Удаление через итератор не поддерживается.
+     *
+     * @return итератор по снимку списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        State<T> current = this.state;
+        return new SnapshotIterator<>(current, current.published.get());
+    }
+
+    /**
+     * Возвращает сплитератор по элементам, опубликованным на момент вызова (SIZED, ORDERED, NONNULL).
+     *
+     * @return сплитератор по снимку списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        State<T> current = this.state;
+        int size = current.published.get();
+        return Spliterators.spliterator(new SnapshotIterator<>(current, size), size,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    private static Object[] withoutIndex(Object[] elements, int index) {
+        Object[] newElements = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, newElements, 0, index);
+        System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+        return newElements;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static final class SnapshotIterator<T> implements Iterator<T> {
+        private final State<T> state;
+        private final int size;
+        private int next;
+
+        SnapshotIterator(State<T> state, int size) {
+            this.state = state;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.size;
+        }
+
+        @Override
+        public T next() {
+            if (this.next >= this.size) {
+                throw new NoSuchElementException();
+            }
+            int index = this.next++;
+            return this.state.segments.get(Segments.segment(index)).get(Segments.offset(index));
+        }
+    }
+
+    /**
+     * Неизменяемый набор сегментов вместе со счетчиками зарезервированных и опубликованных элементов.
+     * Заменяется целиком при структурных изменениях.
+     */
+    private static final class State<T> {
+        private final AtomicReferenceArray<AtomicReferenceArray<T>> segments;
+        private final AtomicInteger reserved;
+        private final AtomicInteger published;
+
+        State() {
+            this.segments = new AtomicReferenceArray<>(Segments.MAX_SEGMENTS);
+            this.reserved = new AtomicInteger();
+            this.published = new AtomicInteger();
+        }
+
+        @SuppressWarnings("unchecked")
+        State(Object[] elements) {
+            this();
+            for (int i = 0; i < elements.length; i++) {
+                segment(Segments.segment(i)).lazySet(Segments.offset(i), (T) elements[i]);
+            }
+            this.reserved.set(elements.length);
+            this.published.set(elements.length);
+        }
+
+        AtomicReferenceArray<T> segment(int segment) {
+            AtomicReferenceArray<T> elements = this.segments.get(segment);
+            if (elements == null) {
+                AtomicReferenceArray<T> created = new AtomicReferenceArray<>(Segments.capacity(segment));
+                elements = this.segments.compareAndSet(segment, null, created) ? created : this.segments.get(segment);
+            }
+            return elements;
+        }
+
+        /**
+         * Продвигает счетчик опубликованных элементов через все непрерывно заполненные ячейки.
+         * Любой производитель помогает продвинуть счетчик, поэтому элемент публикуется,
+         * как только записаны все элементы перед ним.
+         */
+        void advancePublished() {
+            int index;
+            while ((index = this.published.get()) < this.reserved.get()) {
+                AtomicReferenceArray<T> elements = this.segments.get(Segments.segment(index));
+                if (elements == null || elements.get(Segments.offset(index)) == null) {
+                    return;
+                }
+                this.published.compareAndSet(index, index + 1);
+            }
+        }
+
+        Object[] toArray() {
+            int size = this.published.get();
+            Object[] elements = new Object[size];
+            for (int segment = 0, start = 0; start < size; start += Segments.capacity(segment++)) {
+                AtomicReferenceArray<T> segmentElements = this.segments.get(segment);
+                int length = Math.min(Segments.capacity(segment), size - start);
+                for (int i = 0; i < length; i++) {
+                    elements[start + i] = segmentElements.get(i);
+                }
+            }
+            return elements;
+        }
+
+        State<T> trimmed() {
+            State<T> trimmed = new State<>();
+            int size = this.published.get();
+            for (int segment = 0; segment < Segments.segmentsFor(size); segment++) {
+                trimmed.segments.set(segment, this.segments.get(segment));
+            }
+            trimmed.reserved.set(size);
+            trimmed.published.set(size);
+            return trimmed;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example;
+
+/**
+ * Интерфейс Cursor описывает многоразовый курсор для последовательного обхода списка в горячих циклах.
+ * В отличие от итератора, курсор не создается заново для каждого обхода: после {@link #reset()}
+ * тот же экземпляр проходит список с начала, поэтому цикл обхода не выделяет память.
+ * <pre>{@code
+ * Cursor<T> cursor = list.cursor();
+ * while (cursor.next()) {
+ *     process(cursor.element());
+ * }
+ * cursor.reset();
+ * }</pre>
+ *
+ * @param <T> тип элементов в списке
+ */
+public interface Cursor<T> {
+
+    /**
+     * Переходит к следующему элементу.
+     *
+     * @return true, если курсор указывает на элемент, false если элементы закончились
+     */
+    boolean next();
+
+    /**
+     * Возвращает элемент, на который указывает курсор.
+     *
+     * @return текущий элемент
+     * @throws IllegalStateException если курсор не указывает на элемент
+     */
+    T element();
+
+    /**
+     * Возвращает индекс текущего элемента.
+     *
+     * @return индекс текущего элемента или -1, если обход еще не начат
+     */
+    int index();
+
+    /**
+     * Возвращает курсор в начало списка.
+     */
+    void reset();
+}
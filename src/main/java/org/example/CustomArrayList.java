@@ -1,25 +1,54 @@
 package org.example;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Класс CustomArrayList представляет собой список с динамически расширяемой емкостью.
  * Реализует интерфейс CustomList.
+ * Итераторы, курсоры и сплитераторы списка читают массив напрямую и работают по принципу fail-fast:
+ * структурное изменение списка в обход них приводит к ConcurrentModificationException.
  *
  * @param <T> тип элементов в списке
  */
 public class CustomArrayList<T> implements CustomList<T> {
+    /**
+     * Общий массив всех пустых списков, которым еще не понадобилась память.
+     */
+    private static final Object[] EMPTY_DATA = {};
+    /**
+     * Оценка размера объекта: три int, пять ссылок и boolean.
+     */
+    private static final long OBJECT_BYTES = MemoryEstimates.object(3L * Integer.BYTES + 5L * MemoryEstimates.REFERENCE + 1);
+
     private int capacity;
     private int size;
     private T[] data;
+    private HashIndex<T> hashIndex;
+    private GrowthPolicy growthPolicy = GrowthPolicy.ONE_AND_HALF;
+    private int modCount;
+    private CustomListMetrics metrics;
+    private boolean shared;
+    private ArrayPool pool;
 
     /**
      * Конструктор без параметров, создает экземпляр CustomArrayList с емкостью по умолчанию (10).
+     * Массив не выделяется до первого добавления: пустой список использует общий пустой массив.
      */
+    @SuppressWarnings("unchecked")
     public CustomArrayList() {
         this.capacity = DEFAULT_BASE_CAPACITY;
-        this.data = (T[]) new Object[this.capacity];
+        this.data = (T[]) EMPTY_DATA;
         this.size = 0;
     }
 
@@ -29,15 +58,56 @@ public class CustomArrayList<T> implements CustomList<T> {
      * @param capacity начальная емкость списка
      * @throws IllegalArgumentException если начальная емкость меньше нуля
      */
+    @SuppressWarnings("unchecked")
     public CustomArrayList(int capacity) {
         if (capacity < 0) {
             throw new IllegalArgumentException("Capacity cannot be less 0");
         }
         this.capacity = capacity;
-        this.data = (T[]) new Object[this.capacity];
+        this.data = capacity == 0 ? (T[]) EMPTY_DATA : (T[]) new Object[this.capacity];
         this.size = 0;
     }
 
+    /**
+     * Конструктор с параметрами, создает экземпляр CustomArrayList с указанной начальной емкостью и политикой роста.
+     *
+     * @param capacity     начальная емкость списка
+     * @param growthPolicy политика роста, применяемая при заполнении списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public CustomArrayList(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
+    /**
+     * Конструктор с пулом массивов: при росте список берет массивы из пула и возвращает в него прежние,
+     * а при removeAll и recycle() возвращает в пул свой массив. Емкость массивов из пула - степень двойки.
+     * Массив не выделяется до первого добавления.
+     *
+     * @param pool пул массивов (может быть общим для многих списков и потоков)
+     * @throws NullPointerException если пул равен null
+     */
+    public CustomArrayList(ArrayPool pool) {
+        this();
+        this.pool = Objects.requireNonNull(pool, "Array pool cannot be null");
+    }
+
+    @SuppressWarnings("unchecked")
+    private CustomArrayList(Object[] data, int size) {
+        this.capacity = data.length;
+        this.data = (T[]) data;
+        this.size = size;
+    }
+
+    /**
+     * Создает список, который использует переданный массив как собственный, без копирования.
+     * Первые size ячеек массива - элементы списка; массив не должен использоваться вызывающим кодом после вызова.
+     */
+    static <T> CustomArrayList<T> adopt(Object[] data, int size) {
+        return new CustomArrayList<>(data, size);
+    }
+
     /**
      * Добавляет элемент в конец списка.
      * Если на момент добавления нового знаечения список заполнен, генерирует новый массив с увеличенной емкостью.
@@ -47,6 +117,13 @@ public class CustomArrayList<T> implements CustomList<T> {
     @Override
     public void add(T element) {
         ensureCapacity();
+        this.modCount++;
+        if (this.metrics != null) {
+            this.metrics.added(1);
+        }
+        if (this.hashIndex != null) {
+            this.hashIndex.appended(element, this.size);
+        }
         this.data[this.size++] = element;
     }
 
@@ -61,9 +138,66 @@ public class CustomArrayList<T> implements CustomList<T> {
     public void add(T element, int index) {
         checkIndex(index);
         ensureCapacity();
+        this.modCount++;
+        if (this.metrics != null) {
+            this.metrics.inserted(1);
+        }
+        if (this.hashIndex != null) {
+            this.hashIndex.inserted(element);
+        }
         addByIndex(element, index);
     }
 
+    /**
+     * Добавляет все элементы коллекции в конец списка.
+     * Вместимость увеличивается не более одного раза, элементы копируются одним блоком.
+     *
+     * @param elements коллекция добавляемых элементов
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] block = elements.toArray();
+        appendBlock(block, block.length);
+    }
+
+    /**
+     * Добавляет все элементы массива в конец списка.
+     * Вместимость увеличивается не более одного раза, элементы копируются одним блоком.
+     *
+     * @param elements массив добавляемых элементов
+     */
+    @Override
+    public void addAll(T[] elements) {
+        appendBlock(elements, elements.length);
+    }
+
+    /**
+     * Добавляет все элементы коллекции в список начиная с указанного индекса.
+     * Хвост списка сдвигается один раз на количество добавляемых элементов.
+     *
+     * @param elements коллекция добавляемых элементов
+     * @param index    индекс, по которому будет добавлен первый элемент коллекции
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> elements, int index) {
+        checkIndex(index);
+        Object[] block = elements.toArray();
+        ensureCapacity(this.size + block.length);
+        this.modCount++;
+        if (this.metrics != null) {
+            this.metrics.inserted(block.length);
+        }
+        System.arraycopy(this.data, index, this.data, index + block.length, this.size - index);
+        System.arraycopy(block, 0, this.data, index, block.length);
+        this.size += block.length;
+        if (this.hashIndex != null) {
+            for (Object element : block) {
+                this.hashIndex.inserted((T) element);
+            }
+        }
+    }
+
     /**
      * Извлекает элемент из списка по указанному индексу.
      *
@@ -77,18 +211,28 @@ public class CustomArrayList<T> implements CustomList<T> {
     }
 
     /**
-     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals).
+     * При включенном хеш-индексе позиция элемента берется из индекса, а отсутствующий элемент определяется за O(1).
      *
      * @param element элемент, который нужно удалить
      */
     @Override
     public void remove(T element) {
+        if (this.hashIndex != null) {
+            int index = this.hashIndex.indexOf(element, this.data, this.size);
+            if (index >= 0) {
+                removeByIndex(index);
+            }
+            return;
+        }
         for (int i = 0; i < this.size; i++) {
             if (this.data[i].equals(element)) {
+                scanned(i + 1);
                 removeByIndex(i);
                 return;
             }
         }
+        scanned(this.size);
     }
 
     /**
@@ -110,54 +254,549 @@ public class CustomArrayList<T> implements CustomList<T> {
         if (this.size == 0) {
             return;
         }
-        Arrays.fill(this.data, null);
+        if (this.metrics != null) {
+            this.metrics.removed(this.size);
+        }
+        if (this.shared || this.pool != null) {
+            release();
+        } else {
+            Arrays.fill(this.data, null);
+        }
+        this.size = 0;
+        this.modCount++;
+        if (this.hashIndex != null) {
+            this.hashIndex.cleared();
+        }
+    }
+
+    /**
+     * Завершает использование списка: удаляет все элементы и освобождает массив - возвращает его в пул,
+     * если список создан с пулом и массив не разделен со снимком. Список остается пригодным: при следующем
+     * добавлении он снова получит массив (из пула). Обработчикам, которые создают и выбрасывают списки
+     * на каждый запрос, вызов recycle() в конце обработки позволяет не создавать новый мусор.
+     */
+    public void recycle() {
+        if (this.metrics != null && this.size > 0) {
+            this.metrics.removed(this.size);
+        }
+        release();
         this.size = 0;
+        this.modCount++;
+        if (this.hashIndex != null) {
+            this.hashIndex.cleared();
+        }
+    }
+
+    /**
+     * Удаляет элементы с индексами от fromIndex (включительно) до toIndex (не включительно).
+     * Хвост списка сдвигается один раз.
+     *
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex   индекс, следующий за последним удаляемым элементом
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы списка
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > this.size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        unshare();
+        if (this.hashIndex != null) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                this.hashIndex.removed(this.data[i]);
+            }
+        }
+        if (this.metrics != null) {
+            this.metrics.removed(toIndex - fromIndex);
+        }
+        System.arraycopy(this.data, toIndex, this.data, fromIndex, this.size - toIndex);
+        int newSize = this.size - (toIndex - fromIndex);
+        Arrays.fill(this.data, newSize, this.size, null);
+        this.size = newSize;
+        this.modCount++;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход с уплотнением массива.
+     *
+     * @param filter условие удаления
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        unshare();
+        int oldSize = this.size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < oldSize; read++) {
+                T element = this.data[read];
+                if (filter.test(element)) {
+                    if (this.hashIndex != null) {
+                        this.hashIndex.removed(element);
+                    }
+                } else {
+                    this.data[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(this.data, read, this.data, write, oldSize - read);
+            write += oldSize - read;
+            Arrays.fill(this.data, write, oldSize, null);
+            if (write != oldSize) {
+                this.size = write;
+                this.modCount++;
+                if (this.metrics != null) {
+                    this.metrics.removed(oldSize - write);
+                }
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в переданной коллекции (за один проход).
+     *
+     * @param elements коллекция элементов, которые нужно сохранить
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        return removeIf(element -> !elements.contains(element));
     }
 
     /**
      * Сортирует все элементы списка согласно условию в компараторе.
-     * Используется рекурсивный алгоритм быстрой сортировки O(n * log n).
+     * Используется интроспективная сортировка: быстрая сортировка с переходом на пирамидальную
+     * при слишком глубоком разбиении, что гарантирует O(n * log n) и ограниченную глубину стека.
      *
      * @param comp компаратор, на основе которого происходит сортировка
      */
     @Override
     public void sort(Comparator<? super T> comp) {
-        quickSort(comp, this.data, 0, this.size - 1);
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        ArraySorts.introSort(this.data, 0, this.size, comp);
+        sorted(start);
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе, используя общий пул fork/join.
+     * Короткие списки и диапазоны сортируются последовательно. Порядок равных элементов не сохраняется.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    public void parallelSort(Comparator<? super T> comp) {
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        ArraySorts.parallelIntroSort(this.data, 0, this.size, comp);
+        sorted(start);
+    }
+
+    /**
+     * Стабильно сортирует все элементы списка: равные по компаратору элементы сохраняют взаимный порядок.
+     * Используется сортировка слиянием O(n * log n) с дополнительным буфером размером со список.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    public void stableSort(Comparator<? super T> comp) {
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        ArraySorts.mergeSort(this.data, 0, this.size, comp);
+        sorted(start);
+    }
+
+    /**
+     * Стабильно сортирует все элементы списка, используя общий пул fork/join.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    public void parallelStableSort(Comparator<? super T> comp) {
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        ArraySorts.parallelMergeSort(this.data, 0, this.size, comp);
+        sorted(start);
+    }
+
+    /**
+     * Стабильно сортирует элементы по возрастанию целочисленного ключа без компаратора.
+     * Ключи извлекаются один раз; при узком разбросе ключей (например, возраст) используется сортировка подсчетом,
+     * иначе поразрядная сортировка по байтам ключа, обе - за линейное время.
+     * Для коротких списков и слишком широкого разброса ключей используется сортировка слиянием по ключу.
+     *
+     * @param key функция, извлекающая ключ элемента
+     */
+    public void sortByIntKey(ToIntFunction<? super T> key) {
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        KeySorts.sortByIntKey(this.data, 0, this.size, key);
+        sorted(start);
+    }
+
+    /**
+     * Стабильно сортирует элементы по возрастанию ключа типа long без компаратора (как {@link #sortByIntKey}).
+     *
+     * @param key функция, извлекающая ключ элемента
+     */
+    public void sortByLongKey(ToLongFunction<? super T> key) {
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        KeySorts.sortByLongKey(this.data, 0, this.size, key);
+        sorted(start);
+    }
+
+    /**
+     * Возвращает k-й по порядку компаратора элемент (индекс k после сортировки), не сортируя и не изменяя список.
+     * Интроспективный выбор выполняется на копии массива - в среднем O(n).
+     *
+     * @param k    индекс элемента в отсортированном порядке
+     * @param comp компаратор, задающий порядок
+     * @return k-й по порядку элемент
+     */
+    @Override
+    public T select(int k, Comparator<? super T> comp) {
+        checkIndex(k);
+        T[] elements = Arrays.copyOf(this.data, this.size);
+        ArraySorts.select(elements, 0, elements.length, k, comp);
+        return elements[k];
+    }
+
+    /**
+     * Возвращает k-й по порядку компаратора элемент, переставляя элементы на месте без копирования:
+     * после вызова на позиции k стоит возвращенный элемент, левее - не больше него, правее - не меньше.
+     * Интроспективный выбор на том же разбиении, что и sort, - в среднем O(n).
+     *
+     * @param k    индекс элемента в отсортированном порядке
+     * @param comp компаратор, задающий порядок
+     * @return k-й по порядку элемент
+     */
+    @Override
+    public T selectInPlace(int k, Comparator<? super T> comp) {
+        checkIndex(k);
+        unshare();
+        ArraySorts.select(this.data, 0, this.size, k, comp);
+        reordered();
+        return this.data[k];
     }
 
     /**
-     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     * Упорядочивает только первые k элементов: после вызова они совпадают с первыми k элементами отсортированного
+     * списка, остальные элементы остаются в произвольном порядке. Выбор и сортировка префикса - O(n + k * log k).
+     *
+     * @param k    количество упорядочиваемых элементов
+     * @param comp компаратор, на основе которого происходит сортировка
+     * @throws IndexOutOfBoundsException если k меньше нуля или больше размера списка
+     */
+    @Override
+    public void partialSort(int k, Comparator<? super T> comp) {
+        if (k < 0 || k > this.size) {
+            throw new IndexOutOfBoundsException("K: " + k + ", Size: " + this.size);
+        }
+        unshare();
+        long start = this.metrics != null ? System.nanoTime() : 0;
+        ArraySorts.partialSort(this.data, 0, this.size, k, comp);
+        sorted(start);
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals).
+     * При включенном хеш-индексе выполняется за O(1) (в классе элемента также должен быть корректно реализован hashCode).
      *
      * @param element искомый элемент
      * @return true, если искомый элемент найден в списке, иначе false
      */
     @Override
     public boolean hasElement(T element) {
+        if (this.hashIndex != null) {
+            return this.hashIndex.contains(element);
+        }
         for (int i = 0; i < this.size; i++) {
             if (this.data[i].equals(element)) {
+                scanned(i + 1);
                 return true;
             }
         }
+        scanned(this.size);
         return false;
     }
 
+    /**
+     * Возвращает индекс первого вхождения элемента в список.
+     * При включенном хеш-индексе позиция берется из индекса.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        if (this.hashIndex != null) {
+            return this.hashIndex.indexOf(element, this.data, this.size);
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.data[i].equals(element)) {
+                scanned(i + 1);
+                return i;
+            }
+        }
+        scanned(this.size);
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента в список.
+     * При включенном хеш-индексе позиция берется из индекса.
+     *
+     * @param element искомый элемент
+     * @return индекс последнего вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        if (this.hashIndex != null) {
+            return this.hashIndex.lastIndexOf(element, this.data, this.size);
+        }
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.data[i].equals(element)) {
+                scanned(this.size - i);
+                return i;
+            }
+        }
+        scanned(this.size);
+        return -1;
+    }
+
+    /**
+     * Включает вторичный хеш-индекс элементов: hasElement выполняется за O(1),
+     * а remove(T), indexOf и lastIndexOf находят позицию без последовательного сравнения элементов.
+     * Индекс строится за O(n) и далее поддерживается при каждом изменении списка.
+     * В классе элемента должны быть согласованно реализованы equals и hashCode.
+     */
+    public void enableHashIndex() {
+        if (this.hashIndex == null) {
+            this.hashIndex = new HashIndex<>(this.data, this.size);
+        }
+    }
+
+    /**
+     * Выключает хеш-индекс и освобождает занимаемую им память.
+     */
+    public void disableHashIndex() {
+        this.hashIndex = null;
+    }
+
+    /**
+     * Проверяет, включен ли хеш-индекс.
+     *
+     * @return true, если хеш-индекс включен, иначе false
+     */
+    public boolean isHashIndexEnabled() {
+        return this.hashIndex != null;
+    }
+
+    /**
+     * Возвращает оценку памяти, занимаемой списком (без самих элементов): объект списка,
+     * выделенный массив (пустой список без выделенного массива его не занимает) и хеш-индекс.
+     *
+     * @return отчет о занимаемой памяти
+     */
+    public MemoryFootprint footprint() {
+        long arrayBytes = this.data == EMPTY_DATA ? 0 : MemoryEstimates.referenceArray(this.data.length);
+        return new MemoryFootprint(this.size, this.data.length, OBJECT_BYTES, arrayBytes, hashIndexMemoryBytes());
+    }
+
+    /**
+     * Возвращает оценку памяти, занимаемой хеш-индексом (для 64-битной JVM со сжатыми указателями).
+     *
+     * @return размер индекса в байтах или 0, если индекс выключен
+     */
+    public long hashIndexMemoryBytes() {
+        return this.hashIndex == null ? 0 : this.hashIndex.estimatedMemoryBytes();
+    }
+
+    /**
+     * Увеличивает вместимость списка ровно до minCapacity, если текущая вместимость меньше.
+     * Позволяет заранее выделить память под известное количество элементов и избежать промежуточных перевыделений.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > this.capacity) {
+            int oldCapacity = this.capacity;
+            this.capacity = minCapacity;
+            replaceData(getDataWithNewCapacity());
+            resized(oldCapacity, this.capacity);
+        }
+    }
+
+    /**
+     * Устанавливает политику роста, применяемую при последующих заполнениях списка.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если политика равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy cannot be null");
+    }
+
     /**
      * Урезает вместимость списка до текущего количества элементов в списке.
      * (иными словами, удаляет все null ячейки для оптмизации используемой памяти)
+     * Пустой список освобождает массив и выделит его заново при следующем добавлении.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void trimCapacityToSize() {
+        int oldCapacity = this.capacity;
         if (this.size == 0) {
             if (this.capacity > DEFAULT_BASE_CAPACITY) {
                 this.capacity = DEFAULT_BASE_CAPACITY;
             }
-            this.data = getDataWithNewCapacity();
+            release();
         } else {
             this.capacity = this.size;
-            this.data = Arrays.copyOf(this.data, this.capacity);
+            replaceData((T[]) new Object[this.capacity]);
+        }
+        resized(oldCapacity, this.capacity);
+    }
+
+    /**
+     * Подключает метрики к списку: далее список сообщает о добавлениях, удалениях, перевыделениях,
+     * последовательных поисках и сортировках. Без подключенных метрик горячие пути выполняют
+     * только проверку ссылки на null. Ранее подключенные метрики отключаются.
+     *
+     * @param metrics набор метрик (может быть общим для многих списков)
+     * @throws NullPointerException если metrics равен null
+     */
+    public void enableMetrics(CustomListMetrics metrics) {
+        Objects.requireNonNull(metrics, "Metrics cannot be null");
+        disableMetrics();
+        metrics.attached(this.size, this.capacity);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Отключает метрики от списка, вычитая его элементы и емкость из общей незанятой емкости.
+     */
+    public void disableMetrics() {
+        if (this.metrics != null) {
+            this.metrics.detached(this.size, this.capacity);
+            this.metrics = null;
+        }
+    }
+
+    /**
+     * Возвращает класс подключенных метрик.
+     *
+     * @return подключенные метрики или null, если метрики выключены
+     */
+    public CustomListMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Возвращает итератор по элементам списка, читающий массив без проверки индекса на каждом шаге.
+     * Поддерживает удаление текущего элемента через {@link Iterator#remove()}.
+     *
+     * @return fail-fast итератор по элементам списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Возвращает многоразовый курсор по элементам списка: после {@link Cursor#reset()} тот же курсор
+     * проходит список заново, поэтому повторные обходы в горячих циклах не выделяют память.
+     *
+     * @return fail-fast курсор, установленный перед первым элементом
+     */
+    @Override
+    public Cursor<T> cursor() {
+        return new ArrayCursor();
+    }
+
+    /**
+     * Возвращает сплитератор с характеристиками SIZED, SUBSIZED и ORDERED.
+     * Разбиение делит диапазон массива пополам без копирования элементов, поэтому список может служить
+     * источником как последовательных, так и параллельных потоков. Границы фиксируются при первом использовании.
+     *
+     * @return fail-fast сплитератор по элементам списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента списка одним проходом по массиву.
+     *
+     * @param action действие над элементом
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = this.modCount;
+        T[] elements = this.data;
+        int size = this.size;
+        for (int i = 0; i < size && this.modCount == expectedModCount; i++) {
+            action.accept(elements[i]);
+        }
+        if (this.modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
         }
     }
 
+    /**
+     * Возвращает представление диапазона [fromIndex, toIndex), которое читает и изменяет тот же массив
+     * без копирования. Изменения через представление отражаются в списке; структурное изменение списка
+     * в обход представления приводит к ConcurrentModificationException при следующем обращении к нему.
+     *
+     * @param fromIndex индекс первого элемента диапазона
+     * @param toIndex   индекс, следующий за последним элементом диапазона
+     * @return представление диапазона
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы списка
+     */
+    @Override
+    public CustomList<T> subList(int fromIndex, int toIndex) {
+        SubListView.checkRange(fromIndex, toIndex, this.size);
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Возвращает пакетный писатель, который накапливает элементы в буфере размером batchSize
+     * и добавляет их в конец списка блоками: вместимость проверяется и увеличивается один раз на блок.
+     * Элементы появляются в списке после заполнения буфера, {@link BatchWriter#flush()} или закрытия писателя.
+     *
+     * @param batchSize размер блока
+     * @return пакетный писатель в этот список
+     * @throws IllegalArgumentException если размер блока меньше единицы
+     */
+    public BatchWriter<T> batchWriter(int batchSize) {
+        return new BatchWriter<>(batchSize, (block, length) -> {
+            appendBlock(block, length);
+            return block;
+        });
+    }
+
+    /**
+     * Возвращает неизменяемый снимок текущего состояния списка за O(1): снимок разделяет массив со списком,
+     * а список копирует массив перед первым последующим изменением (копирование при записи).
+     * Снимок можно без синхронизации передать другим потокам. Повторные снимки без изменений между ними
+     * разделяют один и тот же массив; если публиковать версию после каждого изменения, лучше хранить данные
+     * в {@link PersistentCustomList}, где каждая новая версия стоит O(log n).
+     *
+     * @return снимок списка только для чтения
+     */
+    public CustomList<T> snapshot() {
+        this.shared = true;
+        return new ArraySnapshot<>(this.data, this.size);
+    }
+
     /**
      * Возвращает количество элементов в списке.
      *
@@ -169,25 +808,138 @@ public class CustomArrayList<T> implements CustomList<T> {
     }
 
     private void ensureCapacity() {
-        if (this.size == this.capacity) {
-            this.capacity = getNewCapacity();
-            T[] newData = getDataWithNewCapacity();
+        ensureCapacity(this.size + 1);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.capacity) {
+            int oldCapacity = this.capacity;
+            this.capacity = getNewCapacity(minCapacity);
+            replaceData(getDataWithNewCapacity());
+            resized(oldCapacity, this.capacity);
+        } else if (this.data.length < minCapacity) {
+            int oldCapacity = this.capacity;
+            this.data = getDataWithNewCapacity();
+            this.shared = false;
+            if (this.capacity != oldCapacity) {
+                resized(oldCapacity, this.capacity);
+            }
+        } else {
+            unshare();
+        }
+    }
+
+    /**
+     * Если массив разделен со снимком, копирует его перед первой записью (копирование при записи).
+     */
+    private void unshare() {
+        if (this.shared) {
+            int oldCapacity = this.capacity;
+            replaceData(getDataWithNewCapacity());
+            if (this.capacity != oldCapacity) {
+                resized(oldCapacity, this.capacity);
+            }
+        }
+    }
+
+    /**
+     * Переносит элементы в новый массив. Прежний массив возвращается в пул, если он не разделен со снимком.
+     */
+    private void replaceData(T[] newData) {
+        if (newData != this.data) {
             System.arraycopy(this.data, 0, newData, 0, this.size);
-            this.data = newData;
         }
+        T[] oldData = this.data;
+        this.data = newData;
+        recycleArray(oldData, this.size);
     }
 
-    private int getNewCapacity() {
-        if (this.capacity < DEFAULT_BASE_CAPACITY) {
-            return DEFAULT_BASE_CAPACITY;
-        } else {
-            return (this.capacity * 3) / 2 + 1;
+    /**
+     * Освобождает массив без копирования элементов: список переходит на общий пустой массив.
+     */
+    @SuppressWarnings("unchecked")
+    private void release() {
+        T[] oldData = this.data;
+        this.data = (T[]) EMPTY_DATA;
+        recycleArray(oldData, this.size);
+    }
+
+    private void recycleArray(Object[] oldData, int used) {
+        if (this.pool != null && !this.shared && oldData != EMPTY_DATA) {
+            this.pool.release(oldData, used);
+        }
+        this.shared = false;
+    }
+
+    private void resized(int oldCapacity, int newCapacity) {
+        if (this.metrics != null) {
+            this.metrics.resized(oldCapacity, newCapacity, (long) this.size * MemoryEstimates.REFERENCE);
+        }
+    }
+
+    private void scanned(int length) {
+        if (this.metrics != null) {
+            this.metrics.scanned(length);
+        }
+    }
+
+    private void sorted(long startNanos) {
+        if (this.metrics != null) {
+            this.metrics.sorted(System.nanoTime() - startNanos);
         }
+        reordered();
     }
 
+    private void reordered() {
+        this.modCount++;
+        if (this.hashIndex != null) {
+            this.hashIndex.reordered();
+        }
+    }
+
+    /**
+     * Добавляет в конец списка первые length элементов массива одним копированием.
+     */
+    @SuppressWarnings("unchecked")
+    void appendBlock(Object[] block, int length) {
+        ensureCapacity(this.size + length);
+        this.modCount++;
+        if (this.metrics != null) {
+            this.metrics.added(length);
+        }
+        System.arraycopy(block, 0, this.data, this.size, length);
+        if (this.hashIndex != null) {
+            for (int i = 0; i < length; i++) {
+                this.hashIndex.appended((T) block[i], this.size + i);
+            }
+        }
+        this.size += length;
+    }
+
+    private int getNewCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        int newCapacity = this.growthPolicy.grow(this.capacity, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("Growth policy returned capacity " + newCapacity
+                    + " less than required " + minCapacity);
+        }
+        return newCapacity;
+    }
+
+    /**
+     * Выделяет массив длины capacity. Массив из пула может оказаться длиннее, тогда capacity увеличивается
+     * до его длины, и вызывающий код должен сообщить метрикам об изменении емкости.
+     */
     @SuppressWarnings("unchecked")
     private T[] getDataWithNewCapacity() {
-        return (T[]) new Object[this.capacity];
+        if (this.pool == null) {
+            return (T[]) new Object[this.capacity];
+        }
+        T[] newData = (T[]) this.pool.acquire(this.capacity);
+        this.capacity = newData.length;
+        return newData;
     }
 
     private void addByIndex(T element, int index) {
@@ -197,14 +949,16 @@ public class CustomArrayList<T> implements CustomList<T> {
     }
 
     private void removeByIndex(int index) {
-        if (index == this.size - 1) {
-            this.data[index] = null;
-            this.size--;
-            return;
+        unshare();
+        if (this.hashIndex != null) {
+            this.hashIndex.removedAt(this.data[index], index, this.data);
+        }
+        System.arraycopy(this.data, index + 1, this.data, index, this.size - index - 1);
+        this.data[--this.size] = null;
+        this.modCount++;
+        if (this.metrics != null) {
+            this.metrics.removed(1);
         }
-
-        System.arraycopy(this.data, index + 1, this.data, index, this.size - index + 1);
-        this.size--;
     }
 
     private void checkIndex(int index) {
@@ -217,39 +971,428 @@ public class CustomArrayList<T> implements CustomList<T> {
         }
     }
 
-    private void quickSort(Comparator<? super T> comp, T[] array, int low, int high) {
-        if (array.length == 0 || low >= high) {
-            return;
+    private class Itr implements Iterator<T> {
+        private int next;
+        private int lastReturned = -1;
+        private int expectedModCount = CustomArrayList.this.modCount;
+
+        @Override
+        public boolean hasNext() {
+            return this.next != CustomArrayList.this.size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            int index = this.next;
+            if (index >= CustomArrayList.this.size) {
+                throw new NoSuchElementException();
+            }
+            this.next = index + 1;
+            this.lastReturned = index;
+            return CustomArrayList.this.data[index];
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeByIndex(this.lastReturned);
+            this.next = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedModCount = CustomArrayList.this.modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            T[] elements = CustomArrayList.this.data;
+            int size = CustomArrayList.this.size;
+            int index = this.next;
+            for (; index < size && CustomArrayList.this.modCount == this.expectedModCount; index++) {
+                action.accept(elements[index]);
+            }
+            this.next = index;
+            this.lastReturned = index - 1;
+            checkForComodification();
+        }
+
+        private void checkForComodification() {
+            if (CustomArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ArrayCursor implements Cursor<T> {
+        private int index = -1;
+        private int expectedModCount = CustomArrayList.this.modCount;
+
+        @Override
+        public boolean next() {
+            if (CustomArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (this.index + 1 < CustomArrayList.this.size) {
+                this.index++;
+                return true;
+            }
+            this.index = CustomArrayList.this.size;
+            return false;
+        }
+
+        @Override
+        public T element() {
+            if (this.index < 0 || this.index >= CustomArrayList.this.size) {
+                throw new IllegalStateException("Cursor is not positioned on an element");
+            }
+            return CustomArrayList.this.data[this.index];
+        }
+
+        @Override
+        public int index() {
+            return this.index;
+        }
+
+        @Override
+        public void reset() {
+            this.index = -1;
+            this.expectedModCount = CustomArrayList.this.modCount;
+        }
+    }
+
+    private class ArraySpliterator implements Spliterator<T> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (this.fence < 0) {
+                this.expectedModCount = CustomArrayList.this.modCount;
+                this.fence = CustomArrayList.this.size;
+            }
+            return this.fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int high = getFence();
+            int low = this.index;
+            int mid = (low + high) >>> 1;
+            if (low >= mid) {
+                return null;
+            }
+            this.index = mid;
+            return new ArraySpliterator(low, mid, this.expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int high = getFence();
+            int current = this.index;
+            if (current >= high) {
+                return false;
+            }
+            this.index = current + 1;
+            action.accept(CustomArrayList.this.data[current]);
+            if (CustomArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int high = getFence();
+            T[] elements = CustomArrayList.this.data;
+            if (high > elements.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = this.index; i < high; i++) {
+                action.accept(elements[i]);
+            }
+            this.index = high;
+            if (CustomArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Представление диапазона списка: элементы читаются из массива списка напрямую со смещением,
+     * изменения выполняются методами списка, сортировка сортирует диапазон массива на месте.
+     */
+    private class SubList implements CustomList<T> {
+        private final int offset;
+        private int size;
+        private int expectedModCount = CustomArrayList.this.modCount;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            int end = this.offset + this.size;
+            if (end == CustomArrayList.this.size) {
+                CustomArrayList.this.add(element);
+            } else {
+                CustomArrayList.this.add(element, end);
+            }
+            changed(1);
+        }
+
+        @Override
+        public void add(T element, int index) {
+            checkIndex(index);
+            CustomArrayList.this.add(element, this.offset + index);
+            changed(1);
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndex(index);
+            return CustomArrayList.this.data[this.offset + index];
+        }
+
+        @Override
+        public void remove(T element) {
+            int index = indexOf(element);
+            if (index >= 0) {
+                remove(index);
+            }
+        }
+
+        @Override
+        public void remove(int index) {
+            checkIndex(index);
+            removeByIndex(this.offset + index);
+            changed(-1);
+        }
+
+        @Override
+        public void removeAll() {
+            checkForComodification();
+            CustomArrayList.this.removeRange(this.offset, this.offset + this.size);
+            changed(-this.size);
+        }
+
+        @Override
+        public void reserve(int minCapacity) {
+            if (minCapacity < 0) {
+                throw new IllegalArgumentException("Capacity cannot be less 0");
+            }
+            checkForComodification();
+            CustomArrayList.this.reserve(CustomArrayList.this.size - this.size + minCapacity);
+        }
+
+        @Override
+        public void trimCapacityToSize() {
+            checkForComodification();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comp) {
+            checkForComodification();
+            unshare();
+            long start = CustomArrayList.this.metrics != null ? System.nanoTime() : 0;
+            ArraySorts.introSort(CustomArrayList.this.data, this.offset, this.offset + this.size, comp);
+            sorted(start);
+            changed(0);
+        }
+
+        @Override
+        public T select(int k, Comparator<? super T> comp) {
+            checkIndex(k);
+            T[] elements = Arrays.copyOfRange(CustomArrayList.this.data, this.offset, this.offset + this.size);
+            ArraySorts.select(elements, 0, elements.length, k, comp);
+            return elements[k];
+        }
+
+        @Override
+        public T selectInPlace(int k, Comparator<? super T> comp) {
+            checkIndex(k);
+            unshare();
+            ArraySorts.select(CustomArrayList.this.data, this.offset, this.offset + this.size, this.offset + k, comp);
+            reordered();
+            changed(0);
+            return CustomArrayList.this.data[this.offset + k];
+        }
+
+        @Override
+        public void partialSort(int k, Comparator<? super T> comp) {
+            checkForComodification();
+            if (k < 0 || k > this.size) {
+                throw new IndexOutOfBoundsException("K: " + k + ", Size: " + this.size);
+            }
+            unshare();
+            long start = CustomArrayList.this.metrics != null ? System.nanoTime() : 0;
+            ArraySorts.partialSort(CustomArrayList.this.data, this.offset, this.offset + this.size, k, comp);
+            sorted(start);
+            changed(0);
+        }
+
+        @Override
+        public boolean hasElement(T element) {
+            return indexOf(element) >= 0;
         }
 
-        int baseIndex = low + (high - low) / 2;
-        T baseValue = array[baseIndex];
+        @Override
+        public int indexOf(T element) {
+            checkForComodification();
+            T[] elements = CustomArrayList.this.data;
+            for (int i = 0; i < this.size; i++) {
+                if (elements[this.offset + i].equals(element)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return this.size;
+        }
+
+        @Override
+        public CustomList<T> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            SubListView.checkRange(fromIndex, toIndex, this.size);
+            return new SubList(this.offset + fromIndex, toIndex - fromIndex);
+        }
+
+        private void changed(int delta) {
+            this.size += delta;
+            this.expectedModCount = CustomArrayList.this.modCount;
+        }
 
-        int l = low;
-        int h = high;
+        private void checkForComodification() {
+            if (CustomArrayList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
 
-        while (l <= h) {
-            while (comp.compare(baseValue, array[l]) > 0) {
-                l++;
+        private void checkIndex(int index) {
+            checkForComodification();
+            if (index < 0) {
+                throw new IllegalArgumentException("Index cannot be negative");
             }
-            while (comp.compare(baseValue, array[h]) < 0) {
-                h--;
+
+            if (index >= this.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
             }
-            if (l <= h) {
-                T swap = array[l];
-                array[l] = array[h];
-                array[h] = swap;
-                l++;
-                h--;
+        }
+    }
+
+    /**
+     * Снимок списка только для чтения поверх разделяемого массива. Все изменяющие методы
+     * генерируют UnsupportedOperationException.
+     */
+    private static final class ArraySnapshot<T> implements CustomList<T> {
+        private final T[] data;
+        private final int size;
+
+        ArraySnapshot(T[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+
+        @Override
+        public void add(T element) {
+            throw readOnly();
+        }
+
+        @Override
+        public void add(T element, int index) {
+            throw readOnly();
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Index cannot be negative");
+            }
+            if (index >= this.size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+            }
+            return this.data[index];
+        }
+
+        @Override
+        public void remove(T element) {
+            throw readOnly();
+        }
+
+        @Override
+        public void remove(int index) {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeAll() {
+            throw readOnly();
+        }
+
+        @Override
+        public void reserve(int minCapacity) {
+            throw readOnly();
+        }
+
+        @Override
+        public void trimCapacityToSize() {
+            throw readOnly();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comp) {
+            throw readOnly();
+        }
+
+        @Override
+        public boolean hasElement(T element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public int indexOf(T element) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.data[i].equals(element)) {
+                    return i;
+                }
             }
+            return -1;
         }
 
-        if (low < h) {
-            quickSort(comp, array, low, h);
+        @Override
+        public int size() {
+            return this.size;
         }
 
-        if (high > l) {
-            quickSort(comp, array, l, high);
+        private UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Snapshot list is read-only");
         }
     }
 }
@@ -1,19 +1,52 @@
 package org.example;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Интерфейс CustomList содержит методы для взаимодействия с динамически расширяемым списком.
+ * Список можно обходить циклом for-each, многоразовым курсором ({@link #cursor()}) и потоками ({@link #stream()}).
+ * {@link #subList(int, int)} возвращает представление диапазона без копирования элементов, а {@link #lazy()} -
+ * ленивый конвейер map/filter/limit, который выполняется за один проход.
+ * {@link #select(int, Comparator)} возвращает k-й по порядку элемент без полной сортировки и не изменяя список,
+ * {@link #selectInPlace(int, Comparator)} делает то же самое, переставляя элементы самого списка,
+ * {@link #partialSort(int, Comparator)} упорядочивает только первые k элементов, а {@link #topK(int, Comparator)}
+ * отбирает k первых элементов ограниченной кучей, не изменяя список.
  *
  * @param <T> тип элементов в списке
  */
-public interface CustomList<T> {
+public interface CustomList<T> extends Iterable<T> {
     int DEFAULT_BASE_CAPACITY = 10;
 
     void add(T t);
 
     void add(T t, int index);
 
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    default void addAll(T[] elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    default void addAll(Collection<? extends T> elements, int index) {
+        for (T element : elements) {
+            add(element, index++);
+        }
+    }
+
     T get(int index);
 
     void remove(T t);
@@ -22,11 +55,144 @@ public interface CustomList<T> {
 
     void removeAll();
 
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    default boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        for (int i = size() - 1; i >= 0; i--) {
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    default boolean retainAll(Collection<?> elements) {
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    void reserve(int minCapacity);
+
     void trimCapacityToSize();
 
     void sort(Comparator<? super T> comp);
 
     boolean hasElement(T t);
 
+    default int indexOf(T t) {
+        for (int i = 0; i < size(); i++) {
+            if (Objects.equals(get(i), t)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    default int lastIndexOf(T t) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(get(i), t)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     int size();
+
+    @Override
+    default Iterator<T> iterator() {
+        return new ListIterators.IndexIterator<>(this);
+    }
+
+    default Cursor<T> cursor() {
+        return new ListIterators.IndexCursor<>(this);
+    }
+
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    default CustomList<T> subList(int fromIndex, int toIndex) {
+        return new SubListView<>(this, fromIndex, toIndex);
+    }
+
+    default LazyView<T> lazy() {
+        return LazyView.of(this);
+    }
+
+    /**
+     * Возвращает k-й по порядку компаратора элемент (индекс k после сортировки). Список не изменяется:
+     * выбор выполняется на копии элементов, поэтому требует O(n) дополнительной памяти.
+     *
+     * @param k    индекс элемента в отсортированном порядке
+     * @param comp компаратор, задающий порядок
+     * @return k-й по порядку элемент
+     * @see #selectInPlace(int, Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    default T select(int k, Comparator<? super T> comp) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+        if (k >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size());
+        }
+        Object[] elements = new Object[size()];
+        Cursor<T> cursor = cursor();
+        for (int i = 0; cursor.next(); i++) {
+            elements[i] = cursor.element();
+        }
+        ArraySorts.select((T[]) elements, 0, elements.length, k, comp);
+        return (T) elements[k];
+    }
+
+    /**
+     * Возвращает k-й по порядку компаратора элемент, переставляя элементы самого списка без копирования:
+     * после вызова на позиции k стоит возвращенный элемент, левее - не больше него, правее - не меньше.
+     * По умолчанию выполняется через {@link #partialSort(int, Comparator)}.
+     *
+     * @param k    индекс элемента в отсортированном порядке
+     * @param comp компаратор, задающий порядок
+     * @return k-й по порядку элемент
+     */
+    default T selectInPlace(int k, Comparator<? super T> comp) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+        if (k >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size());
+        }
+        partialSort(k + 1, comp);
+        return get(k);
+    }
+
+    default void partialSort(int k, Comparator<? super T> comp) {
+        if (k < 0 || k > size()) {
+            throw new IndexOutOfBoundsException("K: " + k + ", Size: " + size());
+        }
+        sort(comp);
+    }
+
+    default CustomArrayList<T> topK(int k, Comparator<? super T> comp) {
+        TopK<T> topK = new TopK<>(Math.min(k, size()), comp);
+        topK.offerAll(this);
+        return topK.toCustomArrayList();
+    }
 }
@@ -0,0 +1,364 @@
+package org.example;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс CustomListMetrics накапливает метрики горячих путей списков: количество добавлений, вставок и удалений,
+ * перевыделений массива и скопированных при этом байт, длины последовательных поисков (hasElement, remove(T),
+ * indexOf, lastIndexOf), длительности сортировок и незанятую емкость.
+ * <p>
+ * Метрики подключаются к списку явно ({@link CustomArrayList#enableMetrics(CustomListMetrics)}); пока они
+ * не подключены, список платит только за проверку ссылки на null. Один экземпляр можно подключить к любому
+ * количеству списков, в том числе из разных потоков: счетчики основаны на LongAdder, а гистограммы
+ * хранят количество значений в корзинах по степеням двойки. Незанятая емкость считается как суммарная
+ * емкость подключенных списков минус суммарное количество элементов в них.
+ * <p>
+ * Метрики можно получить снимком ({@link #snapshot()}) или опубликовать через JMX ({@link #register(String)}).
+ */
+public class CustomListMetrics implements CustomListMetricsMXBean {
+    private final LongAdder adds = new LongAdder();
+    private final LongAdder inserts = new LongAdder();
+    private final LongAdder removes = new LongAdder();
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder copiedBytes = new LongAdder();
+    private final LongAdder attachedElements = new LongAdder();
+    private final LongAdder capacity = new LongAdder();
+    private final Histogram scanLengths = new Histogram();
+    private final Histogram sortNanos = new Histogram();
+    private ObjectName objectName;
+
+    void attached(int size, int capacity) {
+        this.attachedElements.add(size);
+        this.capacity.add(capacity);
+    }
+
+    void detached(int size, int capacity) {
+        this.attachedElements.add(-size);
+        this.capacity.add(-capacity);
+    }
+
+    void added(int count) {
+        this.adds.add(count);
+    }
+
+    void inserted(int count) {
+        this.inserts.add(count);
+    }
+
+    void removed(int count) {
+        this.removes.add(count);
+    }
+
+    void resized(int oldCapacity, int newCapacity, long copiedBytes) {
+        this.resizes.increment();
+        this.copiedBytes.add(copiedBytes);
+        this.capacity.add(newCapacity - oldCapacity);
+    }
+
+    void scanned(int length) {
+        this.scanLengths.record(length);
+    }
+
+    void sorted(long nanos) {
+        this.sortNanos.record(nanos);
+    }
+
+    /**
+     * Возвращает неизменяемый снимок всех метрик.
+     *
+     * @return снимок метрик
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Публикует метрики в платформенном MBeanServer под именем org.example:type=CustomListMetrics,name=&lt;name&gt;.
+     *
+     * @param name имя набора метрик
+     * @throws IllegalStateException если набор с таким именем уже зарегистрирован или регистрация не удалась
+     */
+    public synchronized void register(String name) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName("org.example:type=CustomListMetrics,name=" + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+            this.objectName = objectName;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Metrics are already registered: " + name, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics: " + name, e);
+        }
+    }
+
+    /**
+     * Снимает публикацию метрик в JMX. Если метрики не зарегистрированы, ничего не делает.
+     */
+    public synchronized void unregister() {
+        if (this.objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+        } catch (InstanceNotFoundException e) {
+            // уже снят с регистрации
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister metrics: " + this.objectName, e);
+        }
+        this.objectName = null;
+    }
+
+    @Override
+    public long getAdds() {
+        return this.adds.sum();
+    }
+
+    @Override
+    public long getInserts() {
+        return this.inserts.sum();
+    }
+
+    @Override
+    public long getRemoves() {
+        return this.removes.sum();
+    }
+
+    @Override
+    public long getResizes() {
+        return this.resizes.sum();
+    }
+
+    @Override
+    public long getCopiedBytes() {
+        return this.copiedBytes.sum();
+    }
+
+    @Override
+    public long getLiveElements() {
+        return this.attachedElements.sum() + this.adds.sum() + this.inserts.sum() - this.removes.sum();
+    }
+
+    @Override
+    public long getCapacity() {
+        return this.capacity.sum();
+    }
+
+    @Override
+    public long getWastedCapacity() {
+        return getCapacity() - getLiveElements();
+    }
+
+    @Override
+    public long getScans() {
+        return this.scanLengths.count();
+    }
+
+    @Override
+    public double getMeanScanLength() {
+        return this.scanLengths.mean();
+    }
+
+    @Override
+    public long getScanLengthP99() {
+        return this.scanLengths.percentile(0.99);
+    }
+
+    @Override
+    public long getSorts() {
+        return this.sortNanos.count();
+    }
+
+    @Override
+    public double getMeanSortNanos() {
+        return this.sortNanos.mean();
+    }
+
+    @Override
+    public long getSortNanosP99() {
+        return this.sortNanos.percentile(0.99);
+    }
+
+    /**
+     * Обнуляет счетчики событий и гистограммы. Количество элементов и емкость подключенных списков сохраняются.
+     * Сброс не атомарен относительно одновременных изменений списков.
+     */
+    @Override
+    public void reset() {
+        this.attachedElements.add(this.adds.sumThenReset() + this.inserts.sumThenReset() - this.removes.sumThenReset());
+        this.resizes.reset();
+        this.copiedBytes.reset();
+        this.scanLengths.reset();
+        this.sortNanos.reset();
+    }
+
+    /**
+     * Гистограмма неотрицательных значений с корзинами по степеням двойки: корзина k содержит значения
+     * из диапазона [2^(k-1), 2^k), корзина 0 - нули. Процентили возвращаются как верхняя граница корзины.
+     */
+    static final class Histogram {
+        private static final int BUCKETS = Long.SIZE + 1;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder sum = new LongAdder();
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                this.buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long value) {
+            long clamped = Math.max(value, 0);
+            this.buckets[Long.SIZE - Long.numberOfLeadingZeros(clamped)].increment();
+            this.sum.add(clamped);
+        }
+
+        long count() {
+            long count = 0;
+            for (LongAdder bucket : this.buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        double mean() {
+            long count = count();
+            return count == 0 ? 0 : (double) this.sum.sum() / count;
+        }
+
+        long percentile(double quantile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = this.buckets[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i == 0 ? 0 : i == Long.SIZE ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        void reset() {
+            for (LongAdder bucket : this.buckets) {
+                bucket.reset();
+            }
+            this.sum.reset();
+        }
+    }
+
+    /**
+     * Неизменяемый снимок метрик на момент вызова {@link #snapshot()}.
+     */
+    public static final class Snapshot {
+        private final long adds;
+        private final long inserts;
+        private final long removes;
+        private final long resizes;
+        private final long copiedBytes;
+        private final long liveElements;
+        private final long capacity;
+        private final long scans;
+        private final double meanScanLength;
+        private final long scanLengthP99;
+        private final long sorts;
+        private final double meanSortNanos;
+        private final long sortNanosP99;
+
+        private Snapshot(CustomListMetrics metrics) {
+            this.adds = metrics.getAdds();
+            this.inserts = metrics.getInserts();
+            this.removes = metrics.getRemoves();
+            this.resizes = metrics.getResizes();
+            this.copiedBytes = metrics.getCopiedBytes();
+            this.liveElements = metrics.getLiveElements();
+            this.capacity = metrics.getCapacity();
+            this.scans = metrics.getScans();
+            this.meanScanLength = metrics.getMeanScanLength();
+            this.scanLengthP99 = metrics.getScanLengthP99();
+            this.sorts = metrics.getSorts();
+            this.meanSortNanos = metrics.getMeanSortNanos();
+            this.sortNanosP99 = metrics.getSortNanosP99();
+        }
+
+        public long getAdds() {
+            return adds;
+        }
+
+        public long getInserts() {
+            return inserts;
+        }
+
+        public long getRemoves() {
+            return removes;
+        }
+
+        public long getResizes() {
+            return resizes;
+        }
+
+        public long getCopiedBytes() {
+            return copiedBytes;
+        }
+
+        public long getLiveElements() {
+            return liveElements;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public long getWastedCapacity() {
+            return capacity - liveElements;
+        }
+
+        public long getScans() {
+            return scans;
+        }
+
+        public double getMeanScanLength() {
+            return meanScanLength;
+        }
+
+        public long getScanLengthP99() {
+            return scanLengthP99;
+        }
+
+        public long getSorts() {
+            return sorts;
+        }
+
+        public double getMeanSortNanos() {
+            return meanSortNanos;
+        }
+
+        public long getSortNanosP99() {
+            return sortNanosP99;
+        }
+
+        @Override
+        public String toString() {
+            return "adds=" + adds + ", inserts=" + inserts + ", removes=" + removes
+                    + ", resizes=" + resizes + ", copiedBytes=" + copiedBytes
+                    + ", liveElements=" + liveElements + ", capacity=" + capacity
+                    + ", wastedCapacity=" + getWastedCapacity()
+                    + ", scans=" + scans + ", meanScanLength=" + meanScanLength + ", scanLengthP99=" + scanLengthP99
+                    + ", sorts=" + sorts + ", meanSortNanos=" + meanSortNanos + ", sortNanosP99=" + sortNanosP99;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example;
+
+/**
+ * Интерфейс управления для публикации метрик списков через JMX (см. {@link CustomListMetrics#register(String)}).
+ */
+public interface CustomListMetricsMXBean {
+    long getAdds();
+
+    long getInserts();
+
+    long getRemoves();
+
+    long getResizes();
+
+    long getCopiedBytes();
+
+    long getLiveElements();
+
+    long getCapacity();
+
+    long getWastedCapacity();
+
+    long getScans();
+
+    double getMeanScanLength();
+
+    long getScanLengthP99();
+
+    long getSorts();
+
+    double getMeanSortNanos();
+
+    long getSortNanosP99();
+
+    void reset();
+}
@@ -0,0 +1,207 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Сохранение списков на диск в компактном двоичном формате и загрузка их обратно.
+ * <p>
+ * Формат снимка (little-endian): заголовок (магическое число, версия, имя кодека, размер элемента,
+ * количество элементов, длина области данных), затем закодированные элементы подряд, а для кодеков
+ * переменного размера - таблица смещений int32[size + 1]. Размер снимка ограничен 2 ГБ,
+ * чтобы его можно было отобразить в память одним буфером.
+ * <p>
+ * Запись выполняется крупными блоками через FileChannel. Снимок можно либо загрузить в CustomArrayList
+ * ({@link #read(Path, BinaryCodec)}), либо открыть без загрузки как отображенный в память список только для чтения
+ * ({@link #map(Path, BinaryCodec)}): элементы декодируются при обращении, поэтому открытие занимает
+ * время, не зависящее от размера снимка.
+ */
+public final class CustomListSnapshots {
+    static final int MAGIC = 0x434C5354;
+    static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private CustomListSnapshots() {
+    }
+
+    /**
+     * Записывает элементы списка в файл, перезаписывая его.
+     *
+     * @param list  сохраняемый список (без null-элементов)
+     * @param path  путь к файлу снимка
+     * @param codec кодек элементов
+     * @param <T>   тип элементов в списке
+     * @throws IOException              при ошибке записи
+     * @throws IllegalArgumentException если снимок превышает 2 ГБ
+     * @throws NullPointerException     если список содержит null
+     */
+    public static <T> void write(CustomList<T> list, Path path, BinaryCodec<T> codec) throws IOException {
+        byte[] codecName = codec.name().getBytes(StandardCharsets.UTF_8);
+        int fixedSize = codec.fixedSize();
+        int size = list.size();
+        int headerLength = headerLength(codecName.length);
+        long offsetsLength = fixedSize == BinaryCodec.VARIABLE_SIZE ? (size + 1L) * Integer.BYTES : 0;
+        long maxDataLength = Integer.MAX_VALUE - headerLength - offsetsLength;
+        int[] offsets = fixedSize == BinaryCodec.VARIABLE_SIZE ? new int[size + 1] : null;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            try {
+                writeHeader(buffer, codecName, fixedSize, size, 0);
+                long dataLength = 0;
+                Iterator<T> iterator = list.iterator();
+                for (int index = 0; index < size; index++) {
+                    T element = Objects.requireNonNull(iterator.next(), "Element cannot be null");
+                    int length = codec.encodedSize(element);
+                    if (dataLength + length > maxDataLength) {
+                        throw new IllegalArgumentException("Snapshot cannot exceed 2 GB");
+                    }
+                    if (offsets != null) {
+                        offsets[index] = (int) dataLength;
+                    }
+                    if (buffer.remaining() < length) {
+                        flush(channel, buffer);
+                        if (buffer.capacity() < length) {
+                            DirectMemory.release(buffer);
+                            buffer = ByteBuffer.allocateDirect(length).order(ByteOrder.LITTLE_ENDIAN);
+                        }
+                    }
+                    codec.write(buffer, element);
+                    dataLength += length;
+                }
+                if (offsets != null) {
+                    offsets[size] = (int) dataLength;
+                    for (int offset : offsets) {
+                        if (buffer.remaining() < Integer.BYTES) {
+                            flush(channel, buffer);
+                        }
+                        buffer.putInt(offset);
+                    }
+                }
+                flush(channel, buffer);
+
+                buffer.putLong(dataLength).flip();
+                channel.write(buffer, headerLength - Long.BYTES);
+            } finally {
+                DirectMemory.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Загружает снимок в новый CustomArrayList. Емкость списка равна количеству элементов.
+     *
+     * @param path  путь к файлу снимка
+     * @param codec кодек элементов (должен совпадать с кодеком, которым снимок был записан)
+     * @param <T>   тип элементов в списке
+     * @return загруженный список
+     * @throws IOException              при ошибке чтения или поврежденном снимке
+     * @throws IllegalArgumentException если снимок записан другим кодеком
+     */
+    public static <T> CustomArrayList<T> read(Path path, BinaryCodec<T> codec) throws IOException {
+        try (MappedCustomList<T> snapshot = map(path, codec)) {
+            Object[] elements = new Object[snapshot.size()];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = snapshot.element(i);
+            }
+            return CustomArrayList.adopt(elements, elements.length);
+        }
+    }
+
+    /**
+     * Отображает снимок в память и возвращает его как список только для чтения.
+     * Данные не загружаются заранее: каждый get декодирует элемент прямо из отображенного буфера.
+     *
+     * @param path  путь к файлу снимка
+     * @param codec кодек элементов (должен совпадать с кодеком, которым снимок был записан)
+     * @param <T>   тип элементов в списке
+     * @return отображенный в память список; его нужно закрыть после использования
+     * @throws IOException              при ошибке чтения или поврежденном снимке
+     * @throws IllegalArgumentException если снимок записан другим кодеком
+     */
+    public static <T> MappedCustomList<T> map(Path path, BinaryCodec<T> codec) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            return open(buffer, path, codec);
+        } catch (IOException | RuntimeException e) {
+            DirectMemory.release(buffer);
+            throw e;
+        }
+    }
+
+    private static <T> MappedCustomList<T> open(ByteBuffer buffer, Path path, BinaryCodec<T> codec)
+            throws IOException {
+        int fileSize = buffer.capacity();
+        if (fileSize < headerLength(0) || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a CustomList snapshot: " + path);
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ": " + path);
+        }
+        int codecNameLength = buffer.getInt(2 * Integer.BYTES);
+        if (codecNameLength < 0 || headerLength(codecNameLength) > fileSize) {
+            throw new IOException("Snapshot is corrupted: " + path);
+        }
+        byte[] codecName = new byte[codecNameLength];
+        buffer.get(3 * Integer.BYTES, codecName);
+        String storedCodec = new String(codecName, StandardCharsets.UTF_8);
+        if (!storedCodec.equals(codec.name())) {
+            throw new IllegalArgumentException("Snapshot was written with codec " + storedCodec
+                    + ", not " + codec.name());
+        }
+        int position = 3 * Integer.BYTES + codecNameLength;
+        int elementSize = buffer.getInt(position);
+        int size = buffer.getInt(position + Integer.BYTES);
+        long dataLength = buffer.getLong(position + 2 * Integer.BYTES);
+        int dataStart = headerLength(codecNameLength);
+        long offsetsLength = elementSize == BinaryCodec.VARIABLE_SIZE ? (size + 1L) * Integer.BYTES : 0;
+        boolean consistent = elementSize == codec.fixedSize() && size >= 0 && dataLength >= 0
+                && dataStart + dataLength + offsetsLength == fileSize
+                && (elementSize == BinaryCodec.VARIABLE_SIZE || dataLength == (long) size * elementSize);
+        if (!consistent) {
+            throw new IOException("Snapshot is corrupted: " + path);
+        }
+        int offsetsStart = elementSize == BinaryCodec.VARIABLE_SIZE ? (int) (dataStart + dataLength) : -1;
+        return new MappedCustomList<>(buffer, codec, size, dataStart, offsetsStart);
+    }
+
+    private static int headerLength(int codecNameLength) {
+        return 5 * Integer.BYTES + codecNameLength + Long.BYTES;
+    }
+
+    private static void writeHeader(ByteBuffer buffer, byte[] codecName, int elementSize, int size, long dataLength) {
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(codecName.length)
+                .put(codecName)
+                .putInt(elementSize)
+                .putInt(size)
+                .putLong(dataLength);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
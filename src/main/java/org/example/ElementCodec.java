@@ -0,0 +1,87 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Интерфейс ElementCodec описывает преобразование элемента фиксированного размера в байты и обратно.
+ * Используется списками, которые хранят элементы вне кучи (см. {@link OffHeapCustomList}).
+ *
+ * @param <T> тип кодируемых элементов
+ */
+public interface ElementCodec<T> {
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int elementSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int elementSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int elementSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Возвращает размер одного закодированного элемента в байтах.
+     *
+     * @return размер элемента в байтах
+     */
+    int elementSize();
+
+    /**
+     * Записывает элемент в буфер по абсолютному смещению, не изменяя позицию буфера.
+     *
+     * @param buffer  буфер, в который производится запись
+     * @param offset  смещение в байтах
+     * @param element записываемый элемент (не null)
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Читает элемент из буфера по абсолютному смещению, не изменяя позицию буфера.
+     *
+     * @param buffer буфер, из которого производится чтение
+     * @param offset смещение в байтах
+     * @return прочитанный элемент
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,256 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Внешняя сортировка последовательностей, не помещающихся в кучу.
+ * <p>
+ * Входные элементы накапливаются в CustomArrayList, пока их оценочный размер не превысит бюджет памяти.
+ * Заполненный отрезок сортируется и сбрасывается во временный файл в формате {@link CustomListSnapshots},
+ * после чего список очищается и переиспользуется. Когда вход исчерпан, отрезки сливаются k-путевым слиянием
+ * с помощью двоичной кучи: файлы отрезков отображаются в память и читаются последовательно,
+ * поэтому в куче одновременно находится только по одному элементу каждого отрезка.
+ * Если весь вход поместился в один отрезок, результат возвращается из памяти без временных файлов.
+ * <p>
+ * Размер элемента в памяти оценивается как закодированный размер плюс {@link #ELEMENT_OVERHEAD_BYTES}
+ * (ссылка в массиве и заголовок объекта). Слияние стабильно по отношению к отрезкам, но сортировка
+ * внутри отрезка не сохраняет порядок равных элементов.
+ *
+ * @param <T> тип сортируемых элементов
+ */
+public class ExternalSorter<T> {
+    public static final int ELEMENT_OVERHEAD_BYTES = MemoryEstimates.REFERENCE + MemoryEstimates.OBJECT_HEADER;
+
+    private final BinaryCodec<T> codec;
+    private final Comparator<? super T> comparator;
+    private final long memoryBudgetBytes;
+    private final Path tempDirectory;
+
+    /**
+     * Создает сортировщик, размещающий временные файлы в системном каталоге временных файлов.
+     *
+     * @param codec             кодек для записи отрезков на диск
+     * @param comparator        компаратор, задающий порядок сортировки
+     * @param memoryBudgetBytes бюджет памяти под один отрезок в байтах
+     * @throws IllegalArgumentException если бюджет меньше единицы
+     */
+    public ExternalSorter(BinaryCodec<T> codec, Comparator<? super T> comparator, long memoryBudgetBytes) {
+        this(codec, comparator, memoryBudgetBytes, null);
+    }
+
+    /**
+     * Создает сортировщик, размещающий временные файлы в указанном каталоге.
+     *
+     * @param codec             кодек для записи отрезков на диск
+     * @param comparator        компаратор, задающий порядок сортировки
+     * @param memoryBudgetBytes бюджет памяти под один отрезок в байтах
+     * @param tempDirectory     каталог для временных файлов или null для системного каталога
+     * @throws IllegalArgumentException если бюджет меньше единицы
+     */
+    public ExternalSorter(BinaryCodec<T> codec, Comparator<? super T> comparator, long memoryBudgetBytes,
+                          Path tempDirectory) {
+        if (memoryBudgetBytes < 1) {
+            throw new IllegalArgumentException("Memory budget cannot be less 1");
+        }
+        this.codec = Objects.requireNonNull(codec, "Codec cannot be null");
+        this.comparator = Objects.requireNonNull(comparator, "Comparator cannot be null");
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Сортирует все элементы входной последовательности.
+     *
+     * @param input источник элементов (без null), читается один раз
+     * @return итератор по отсортированным элементам; его нужно закрыть, если обход прерван досрочно
+     * @throws IOException при ошибке записи временных файлов
+     */
+    public CloseableIterator<T> sort(Iterator<? extends T> input) throws IOException {
+        CustomArrayList<T> run = new CustomArrayList<>();
+        CustomArrayList<Path> runFiles = new CustomArrayList<>();
+        try {
+            long runBytes = 0;
+            while (input.hasNext()) {
+                T element = Objects.requireNonNull(input.next(), "Element cannot be null");
+                long elementBytes = this.codec.encodedSize(element) + (long) ELEMENT_OVERHEAD_BYTES;
+                if (run.size() > 0 && runBytes + elementBytes > this.memoryBudgetBytes) {
+                    spill(run, runFiles);
+                    runBytes = 0;
+                }
+                run.add(element);
+                runBytes += elementBytes;
+            }
+            if (runFiles.size() == 0) {
+                run.sort(this.comparator);
+                return new InMemoryIterator<>(run);
+            }
+            if (run.size() > 0) {
+                spill(run, runFiles);
+            }
+            return new MergeIterator<>(runFiles, this.codec, this.comparator);
+        } catch (IOException | RuntimeException e) {
+            deleteAll(runFiles);
+            throw e;
+        }
+    }
+
+    /**
+     * Сортирует все элементы списка или другого источника.
+     *
+     * @param input источник элементов (без null)
+     * @return итератор по отсортированным элементам; его нужно закрыть, если обход прерван досрочно
+     * @throws IOException при ошибке записи временных файлов
+     */
+    public CloseableIterator<T> sort(Iterable<? extends T> input) throws IOException {
+        return sort(input.iterator());
+    }
+
+    private void spill(CustomArrayList<T> run, CustomArrayList<Path> runFiles) throws IOException {
+        run.sort(this.comparator);
+        Path file = this.tempDirectory == null
+                ? Files.createTempFile("external-sort-", ".run")
+                : Files.createTempFile(this.tempDirectory, "external-sort-", ".run");
+        runFiles.add(file);
+        CustomListSnapshots.write(run, file, this.codec);
+        run.removeAll();
+    }
+
+    private static void deleteAll(CustomArrayList<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                // временный файл будет удален вместе с каталогом временных файлов
+            }
+        }
+    }
+
+    private static final class InMemoryIterator<T> implements CloseableIterator<T> {
+        private CustomArrayList<T> run;
+        private int next;
+
+        InMemoryIterator(CustomArrayList<T> run) {
+            this.run = run;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.run != null && this.next < this.run.size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = this.run.get(this.next++);
+            if (this.next == this.run.size()) {
+                close();
+            }
+            return element;
+        }
+
+        @Override
+        public void close() {
+            this.run = null;
+        }
+    }
+
+    /**
+     * K-путевое слияние отсортированных отрезков. В куче хранится по одному курсору на отрезок,
+     * упорядоченному по текущему элементу, а при равенстве - по номеру отрезка.
+     */
+    private static final class MergeIterator<T> implements CloseableIterator<T> {
+        private final CustomArrayList<Path> runFiles;
+        private final MappedCustomList<T>[] runs;
+        private final PriorityQueue<RunCursor<T>> heap;
+        private boolean closed;
+
+        MergeIterator(CustomArrayList<Path> runFiles, BinaryCodec<T> codec, Comparator<? super T> comparator)
+                throws IOException {
+            this.runFiles = runFiles;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            MappedCustomList<T>[] runs = new MappedCustomList[runFiles.size()];
+            this.runs = runs;
+            this.heap = new PriorityQueue<>(Math.max(1, runFiles.size()), (first, second) -> {
+                int result = comparator.compare(first.current, second.current);
+                return result != 0 ? result : Integer.compare(first.run, second.run);
+            });
+            try {
+                for (int i = 0; i < this.runs.length; i++) {
+                    this.runs[i] = CustomListSnapshots.map(runFiles.get(i), codec);
+                    RunCursor<T> cursor = new RunCursor<>(i, this.runs[i]);
+                    if (cursor.advance()) {
+                        this.heap.add(cursor);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.heap.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            RunCursor<T> cursor = this.heap.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            T element = cursor.current;
+            if (cursor.advance()) {
+                this.heap.add(cursor);
+            } else if (this.heap.isEmpty()) {
+                close();
+            }
+            return element;
+        }
+
+        @Override
+        public void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.heap.clear();
+            for (MappedCustomList<T> run : this.runs) {
+                if (run != null) {
+                    run.close();
+                }
+            }
+            deleteAll(this.runFiles);
+        }
+    }
+
+    private static final class RunCursor<T> {
+        private final int run;
+        private final MappedCustomList<T> elements;
+        private int next;
+        private T current;
+
+        RunCursor(int run, MappedCustomList<T> elements) {
+            this.run = run;
+            this.elements = elements;
+        }
+
+        boolean advance() {
+            if (this.next == this.elements.size()) {
+                this.current = null;
+                return false;
+            }
+            this.current = this.elements.element(this.next++);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Класс GapBufferCustomList представляет собой список на основе буфера с разрывом (gap buffer).
+ * Массив содержит свободный участок (разрыв), который перемещается к месту вставки или удаления;
+ * перемещение копирует только элементы между старой и новой позицией разрыва.
+ * Поэтому серии правок рядом с одним местом (как в текстовом редакторе возле курсора) стоят O(1)
+ * амортизированно, а правка в произвольном месте - O(расстояние до предыдущей правки).
+ * Чтение по индексу выполняется за O(1).
+ * Реализует интерфейс CustomList.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class GapBufferCustomList<T> implements CustomList<T> {
+    private Object[] data;
+    private int gapStart;
+    private int gapEnd;
+    private GrowthPolicy growthPolicy = GrowthPolicy.ONE_AND_HALF;
+
+    /**
+     * Конструктор без параметров, создает экземпляр GapBufferCustomList с емкостью по умолчанию (10).
+     */
+    public GapBufferCustomList() {
+        this(DEFAULT_BASE_CAPACITY);
+    }
+
+    /**
+     * Конструктор с параметром, создает экземпляр GapBufferCustomList с указанной начальной емкостью.
+     *
+     * @param capacity начальная емкость списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public GapBufferCustomList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.data = new Object[capacity];
+        this.gapStart = 0;
+        this.gapEnd = capacity;
+    }
+
+    /**
+     * Добавляет элемент в конец списка (разрыв перемещается в конец).
+     *
+     * @param element элемент, который нужно добавить
+     */
+    @Override
+    public void add(T element) {
+        insert(element, size());
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу. Разрыв перемещается к индексу,
+     * после чего элемент записывается в его начало.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        insert(element, index);
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return element(index);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу. Разрыв перемещается к индексу и расширяется на один элемент.
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка (сохраняет текущую вместимость)
+     */
+    @Override
+    public void removeAll() {
+        Arrays.fill(this.data, null);
+        this.gapStart = 0;
+        this.gapEnd = this.data.length;
+    }
+
+    /**
+     * Удаляет элементы с индексами от fromIndex (включительно) до toIndex (не включительно):
+     * разрыв перемещается к fromIndex и поглощает удаляемые элементы.
+     *
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex   индекс, следующий за последним удаляемым элементом
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+        }
+        moveGap(fromIndex);
+        int newGapEnd = this.gapEnd + (toIndex - fromIndex);
+        Arrays.fill(this.data, this.gapEnd, newGapEnd, null);
+        this.gapEnd = newGapEnd;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход (разрыв предварительно перемещается в конец).
+     *
+     * @param filter условие удаления
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size();
+        moveGap(oldSize);
+        int write = 0;
+        for (int read = 0; read < oldSize; read++) {
+            if (!filter.test((T) this.data[read])) {
+                this.data[write++] = this.data[read];
+            }
+        }
+        Arrays.fill(this.data, write, oldSize, null);
+        this.gapStart = write;
+        return write != oldSize;
+    }
+
+    /**
+     * Увеличивает вместимость списка ровно до minCapacity, если текущая вместимость меньше.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > this.data.length) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Устанавливает политику роста, применяемую при последующих заполнениях списка.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если политика равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy cannot be null");
+    }
+
+    /**
+     * Урезает вместимость списка до текущего количества элементов в списке (разрыв исчезает).
+     */
+    @Override
+    public void trimCapacityToSize() {
+        int size = size();
+        resize(size == 0 ? Math.min(this.data.length, DEFAULT_BASE_CAPACITY) : size);
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе.
+     * Разрыв перемещается в конец, и непрерывный участок элементов сортируется интроспективной сортировкой.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        int size = size();
+        moveGap(size);
+        ArraySorts.introSort((T[]) this.data, 0, size, comp);
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0; i < this.gapStart; i++) {
+            if (this.data[i].equals(element)) {
+                return i;
+            }
+        }
+        for (int i = this.gapEnd; i < this.data.length; i++) {
+            if (this.data[i].equals(element)) {
+                return i - gapLength();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.data.length - gapLength();
+    }
+
+    private int gapLength() {
+        return this.gapEnd - this.gapStart;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) this.data[index < this.gapStart ? index : index + gapLength()];
+    }
+
+    private void insert(T element, int index) {
+        if (this.gapStart == this.gapEnd) {
+            grow();
+        }
+        moveGap(index);
+        this.data[this.gapStart++] = element;
+    }
+
+    private void removeByIndex(int index) {
+        moveGap(index);
+        this.data[this.gapEnd++] = null;
+    }
+
+    /**
+     * Перемещает разрыв так, чтобы он начинался с индекса index.
+     * Копируются только элементы между старой и новой позицией, освободившиеся ячейки очищаются.
+     */
+    private void moveGap(int index) {
+        if (index < this.gapStart) {
+            int count = this.gapStart - index;
+            int newGapEnd = this.gapEnd - count;
+            System.arraycopy(this.data, index, this.data, newGapEnd, count);
+            Arrays.fill(this.data, index, Math.min(this.gapStart, newGapEnd), null);
+            this.gapStart = index;
+            this.gapEnd = newGapEnd;
+        } else if (index > this.gapStart) {
+            int count = index - this.gapStart;
+            System.arraycopy(this.data, this.gapEnd, this.data, this.gapStart, count);
+            Arrays.fill(this.data, Math.max(this.gapEnd, index), this.gapEnd + count, null);
+            this.gapStart = index;
+            this.gapEnd += count;
+        }
+    }
+
+    private void grow() {
+        int minCapacity = this.data.length + 1;
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        int newCapacity = this.growthPolicy.grow(this.data.length, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("Growth policy returned capacity " + newCapacity
+                    + " less than required " + minCapacity);
+        }
+        resize(newCapacity);
+    }
+
+    /**
+     * Переносит элементы в массив новой емкости; разрыв занимает все свободное место и остается на прежнем индексе.
+     */
+    private void resize(int newCapacity) {
+        Object[] newData = new Object[newCapacity];
+        int tailLength = this.data.length - this.gapEnd;
+        System.arraycopy(this.data, 0, newData, 0, this.gapStart);
+        System.arraycopy(this.data, this.gapEnd, newData, newCapacity - tailLength, tailLength);
+        this.gapEnd = newCapacity - tailLength;
+        this.data = newData;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+}
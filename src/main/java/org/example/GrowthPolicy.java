@@ -0,0 +1,94 @@
+package org.example;
+
+/**
+ * Интерфейс GrowthPolicy определяет, до какой емкости увеличивается список, когда в нем заканчивается место.
+ * Позволяет для каждого списка выбрать баланс между расходом памяти и количеством перевыделений массива.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Политика по умолчанию: рост в 1.5 раза (capacity * 3 / 2 + 1), но не меньше DEFAULT_BASE_CAPACITY.
+     */
+    GrowthPolicy ONE_AND_HALF = (capacity, minCapacity) -> {
+        long newCapacity = capacity < CustomList.DEFAULT_BASE_CAPACITY
+                ? CustomList.DEFAULT_BASE_CAPACITY
+                : (capacity * 3L) / 2 + 1;
+        return clamp(newCapacity, minCapacity);
+    };
+
+    /**
+     * Рост в 2 раза, но не меньше DEFAULT_BASE_CAPACITY.
+     */
+    GrowthPolicy DOUBLING = (capacity, minCapacity) ->
+            clamp(Math.max(capacity * 2L, CustomList.DEFAULT_BASE_CAPACITY), minCapacity);
+
+    /**
+     * Возвращает новую емкость списка.
+     *
+     * @param capacity    текущая емкость списка
+     * @param minCapacity минимально необходимая емкость
+     * @return новая емкость, не меньше minCapacity
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Политика роста на фиксированное количество элементов.
+     *
+     * @param increment шаг роста
+     * @return политика роста
+     * @throws IllegalArgumentException если шаг меньше единицы
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("Increment cannot be less 1");
+        }
+        return (capacity, minCapacity) -> clamp((long) capacity + increment, minCapacity);
+    }
+
+    /**
+     * Политика, ограничивающая шаг роста базовой политики: за одно перевыделение емкость увеличивается
+     * не более чем на maxIncrement элементов (если только больше не требуется minCapacity).
+     *
+     * @param base         базовая политика
+     * @param maxIncrement максимальный шаг роста
+     * @return политика роста
+     * @throws IllegalArgumentException если шаг меньше единицы
+     */
+    static GrowthPolicy capped(GrowthPolicy base, int maxIncrement) {
+        if (maxIncrement < 1) {
+            throw new IllegalArgumentException("Increment cannot be less 1");
+        }
+        return (capacity, minCapacity) ->
+                clamp(Math.min(base.grow(capacity, minCapacity), (long) capacity + maxIncrement), minCapacity);
+    }
+
+    /**
+     * Политика, ограничивающая емкость базовой политики бюджетом памяти под массив элементов.
+     * Если даже минимально необходимая емкость не помещается в бюджет, генерируется IllegalStateException.
+     *
+     * @param base            базовая политика
+     * @param maxBytes        бюджет памяти в байтах
+     * @param bytesPerElement размер одного элемента массива в байтах
+     * @return политика роста
+     * @throws IllegalArgumentException если бюджет или размер элемента меньше единицы
+     */
+    static GrowthPolicy memoryBudget(GrowthPolicy base, long maxBytes, int bytesPerElement) {
+        if (maxBytes < 1 || bytesPerElement < 1) {
+            throw new IllegalArgumentException("Memory budget and element size cannot be less 1");
+        }
+        long maxCapacity = Math.min(maxBytes / bytesPerElement, MAX_CAPACITY);
+        return (capacity, minCapacity) -> {
+            if (minCapacity > maxCapacity) {
+                throw new IllegalStateException("Memory budget exceeded: required capacity " + minCapacity
+                        + ", budget capacity " + maxCapacity);
+            }
+            return (int) Math.min(base.grow(capacity, minCapacity), maxCapacity);
+        };
+    }
+
+    private static int clamp(long newCapacity, int minCapacity) {
+        return (int) Math.max(Math.min(newCapacity, MAX_CAPACITY), minCapacity);
+    }
+}
@@ -0,0 +1,255 @@
+package org.example;
+
+import java.util.HashMap;
+
+/**
+ * Вторичный хеш-индекс списка: для каждого различного элемента хранит количество вхождений,
+ * а также позиции первого и последнего вхождения.
+ * Количества поддерживаются точно при каждом изменении списка, поэтому проверка наличия выполняется за O(1).
+ * <p>
+ * Позиции хранятся не индексами, а номерами слотов: каждый элемент при добавлении в конец получает следующий слот,
+ * а дерево Фенвика по слотам отмечает живые элементы. Индекс элемента равен числу живых слотов перед его слотом,
+ * поэтому удаление по индексу или по значению не сдвигает хранимые позиции, а только гасит слот за O(log n),
+ * и indexOf/lastIndexOf после удалений по-прежнему отвечают из индекса за O(log n).
+ * <p>
+ * Вставка в середину, пакетные удаления (removeRange, removeIf) и сортировка делают позиции устаревшими.
+ * Пока они устаревшие, позиция ищется линейным проходом до первого (последнего) совпадения; когда суммарная длина
+ * таких проходов достигает размера списка, позиции пересчитываются одним проходом. Так стоимость пересчета
+ * распределяется по запросам и не превышает стоимости уже выполненных проходов.
+ *
+ * @param <T> тип элементов в списке
+ */
+final class HashIndex<T> {
+    private static final long MAP_BYTES = MemoryEstimates.object(6L * MemoryEstimates.REFERENCE + 4L * Integer.BYTES);
+    private static final long NODE_BYTES = MemoryEstimates.object(3L * MemoryEstimates.REFERENCE + Integer.BYTES);
+    private static final long OCCURRENCES_BYTES = MemoryEstimates.object(3L * Integer.BYTES);
+    private static final int MIN_SLOTS = 16;
+
+    private final HashMap<T, Occurrences> occurrences;
+    /**
+     * Дерево Фенвика (с единицы) по слотам: 1 - в слоте живой элемент, 0 - слот свободен или погашен.
+     */
+    private int[] liveSlots;
+    private int slotCount;
+    private boolean positionsValid;
+    /**
+     * Суммарная длина линейных проходов с момента, когда позиции стали устаревшими.
+     */
+    private long staleWork;
+
+    HashIndex(T[] data, int size) {
+        this.occurrences = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            this.occurrences.computeIfAbsent(data[i], key -> new Occurrences()).count++;
+        }
+        rebuildPositions(data, size);
+    }
+
+    void appended(T element, int index) {
+        Occurrences entry = this.occurrences.computeIfAbsent(element, key -> new Occurrences());
+        entry.count++;
+        if (!this.positionsValid) {
+            return;
+        }
+        if (this.slotCount == this.liveSlots.length - 1) {
+            invalidate();
+            return;
+        }
+        int slot = this.slotCount++;
+        increment(slot, 1);
+        if (entry.count == 1) {
+            entry.first = slot;
+        }
+        entry.last = slot;
+    }
+
+    void inserted(T element) {
+        this.occurrences.computeIfAbsent(element, key -> new Occurrences()).count++;
+        invalidate();
+    }
+
+    /**
+     * Учитывает удаление элемента по индексу; вызывается до сдвига элементов в массиве.
+     * Если удаляется первое или последнее вхождение, соседнее вхождение ищется проходом от удаляемого индекса.
+     */
+    void removedAt(T element, int index, T[] data) {
+        Occurrences entry = this.occurrences.get(element);
+        if (--entry.count == 0) {
+            this.occurrences.remove(element);
+        }
+        if (!this.positionsValid) {
+            return;
+        }
+        int slot = slotAt(index);
+        if (entry.count > 0 && entry.first == slot) {
+            int next = index + 1;
+            while (!data[next].equals(element)) {
+                next++;
+            }
+            entry.first = slotAt(next);
+        }
+        if (entry.count > 0 && entry.last == slot) {
+            int previous = index - 1;
+            while (!data[previous].equals(element)) {
+                previous--;
+            }
+            entry.last = slotAt(previous);
+        }
+        increment(slot, -1);
+    }
+
+    void removed(T element) {
+        Occurrences entry = this.occurrences.get(element);
+        if (--entry.count == 0) {
+            this.occurrences.remove(element);
+        }
+        invalidate();
+    }
+
+    void reordered() {
+        invalidate();
+    }
+
+    void cleared() {
+        this.occurrences.clear();
+        resetSlots(0);
+    }
+
+    boolean contains(T element) {
+        return this.occurrences.containsKey(element);
+    }
+
+    int indexOf(T element, T[] data, int size) {
+        Occurrences entry = this.occurrences.get(element);
+        if (entry == null) {
+            return -1;
+        }
+        if (!this.positionsValid && this.staleWork >= size) {
+            rebuildPositions(data, size);
+        }
+        if (this.positionsValid) {
+            return rank(entry.first);
+        }
+        for (int i = 0; i < size; i++) {
+            if (data[i].equals(element)) {
+                this.staleWork += i + 1;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int lastIndexOf(T element, T[] data, int size) {
+        Occurrences entry = this.occurrences.get(element);
+        if (entry == null) {
+            return -1;
+        }
+        if (!this.positionsValid && this.staleWork >= size) {
+            rebuildPositions(data, size);
+        }
+        if (this.positionsValid) {
+            return rank(entry.last);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (data[i].equals(element)) {
+                this.staleWork += size - i;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает true, если позиции вхождений актуальны и indexOf/lastIndexOf отвечают без прохода по списку.
+     */
+    boolean positionsValid() {
+        return this.positionsValid;
+    }
+
+    long estimatedMemoryBytes() {
+        int entries = this.occurrences.size();
+        int minTableLength = (int) Math.ceil(entries / 0.75);
+        int tableLength = minTableLength <= 16 ? 16 : Integer.highestOneBit(minTableLength - 1) << 1;
+        return MAP_BYTES
+                + MemoryEstimates.referenceArray(tableLength)
+                + entries * (NODE_BYTES + OCCURRENCES_BYTES)
+                + MemoryEstimates.primitiveArray(this.liveSlots.length, Integer.BYTES);
+    }
+
+    private void invalidate() {
+        if (this.positionsValid) {
+            this.positionsValid = false;
+            this.staleWork = 0;
+        }
+    }
+
+    /**
+     * Пересчитывает позиции одним проходом: слот каждого элемента снова равен его индексу.
+     */
+    private void rebuildPositions(T[] data, int size) {
+        for (Occurrences entry : this.occurrences.values()) {
+            entry.first = -1;
+        }
+        for (int i = 0; i < size; i++) {
+            Occurrences entry = this.occurrences.get(data[i]);
+            if (entry.first < 0) {
+                entry.first = i;
+            }
+            entry.last = i;
+        }
+        resetSlots(size);
+    }
+
+    /**
+     * Заполняет первые size слотов и оставляет столько же свободных под последующие добавления в конец.
+     */
+    private void resetSlots(int size) {
+        int capacity = Math.max(MIN_SLOTS, 2 * size);
+        this.liveSlots = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            this.liveSlots[i] = Math.max(0, Math.min(i, size) - (i - (i & -i)));
+        }
+        this.slotCount = size;
+        this.positionsValid = true;
+        this.staleWork = 0;
+    }
+
+    private void increment(int slot, int delta) {
+        for (int i = slot + 1; i < this.liveSlots.length; i += i & -i) {
+            this.liveSlots[i] += delta;
+        }
+    }
+
+    /**
+     * Количество живых слотов перед указанным слотом, то есть текущий индекс элемента в этом слоте.
+     */
+    private int rank(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += this.liveSlots[i];
+        }
+        return count;
+    }
+
+    /**
+     * Слот элемента с указанным текущим индексом: спуск по дереву к (index + 1)-му живому слоту.
+     */
+    private int slotAt(int index) {
+        int position = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(this.liveSlots.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < this.liveSlots.length && this.liveSlots[next] < remaining) {
+                position = next;
+                remaining -= this.liveSlots[next];
+            }
+        }
+        return position;
+    }
+
+    private static final class Occurrences {
+        private int count;
+        private int first;
+        private int last;
+    }
+}
@@ -0,0 +1,206 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Стабильные сортировки диапазона массива по целочисленному ключу элемента.
+ * Ключи извлекаются один раз в примитивный массив и приводятся к смещению от минимального ключа,
+ * после чего диапазон сортируется без компаратора:
+ * <ul>
+ *     <li>подсчетом, если разброс ключей не больше COUNTING_SORT_RANGE и не больше удвоенного числа элементов
+ *     (возраст, код статуса) - два прохода;</li>
+ *     <li>поразрядной LSD-сортировкой по байтам смещения - по проходу на значимый байт разброса,
+ *     байты, одинаковые у всех ключей, пропускаются;</li>
+ *     <li>стабильной сортировкой слиянием перестановки индексов по уже извлеченным ключам, если разброс настолько
+ *     широк, что проходов по байтам больше, чем половина log2(n);</li>
+ *     <li>сортировкой слиянием с компаратором по ключу, если элементов меньше COMPARISON_SORT_THRESHOLD.</li>
+ * </ul>
+ */
+final class KeySorts {
+    static final int COMPARISON_SORT_THRESHOLD = 64;
+    static final int COUNTING_SORT_RANGE = 1 << 16;
+    private static final int RADIX = 256;
+
+    private KeySorts() {
+    }
+
+    static <T> void sortByIntKey(T[] array, int from, int to, ToIntFunction<? super T> key) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        if (length < COMPARISON_SORT_THRESHOLD) {
+            ArraySorts.mergeSort(array, from, to, Comparator.comparingInt(key));
+            return;
+        }
+        long[] keys = new long[length];
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            long value = key.applyAsInt(array[from + i]);
+            keys[i] = value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        if (!sortByKeys(array, from, keys, min, max)) {
+            mergeSortByKeys(array, from, keys);
+        }
+    }
+
+    static <T> void sortByLongKey(T[] array, int from, int to, ToLongFunction<? super T> key) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        if (length < COMPARISON_SORT_THRESHOLD) {
+            ArraySorts.mergeSort(array, from, to, Comparator.comparingLong(key));
+            return;
+        }
+        long[] keys = new long[length];
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            long value = key.applyAsLong(array[from + i]);
+            keys[i] = value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        if (!sortByKeys(array, from, keys, min, max)) {
+            mergeSortByKeys(array, from, keys);
+        }
+    }
+
+    /**
+     * Сортирует элементы по заранее извлеченным ключам подсчетом или поразрядно.
+     *
+     * @return false, если разброс ключей слишком широк и нужна сортировка сравнением
+     */
+    private static boolean sortByKeys(Object[] array, int from, long[] keys, long min, long max) {
+        int length = keys.length;
+        long range = max - min;
+        if (range == 0) {
+            return true;
+        }
+        if (Long.compareUnsigned(range, Math.min(COUNTING_SORT_RANGE, 2L * length)) <= 0) {
+            countingSort(array, from, keys, min, (int) range + 1);
+            return true;
+        }
+        int passes = (64 - Long.numberOfLeadingZeros(range) + 7) >>> 3;
+        if (passes > (32 - Integer.numberOfLeadingZeros(length)) / 2) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            keys[i] -= min;
+        }
+        radixSort(array, from, keys, passes);
+        return true;
+    }
+
+    /**
+     * Стабильно сортирует слиянием перестановку индексов, сравнивая ключи из массива keys, и переставляет элементы
+     * по готовой перестановке за один проход. Функция ключа повторно не вызывается.
+     */
+    private static void mergeSortByKeys(Object[] array, int from, long[] keys) {
+        int length = keys.length;
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[length], keys, 0, length);
+        Object[] sorted = new Object[length];
+        for (int i = 0; i < length; i++) {
+            sorted[i] = array[from + order[i]];
+        }
+        System.arraycopy(sorted, 0, array, from, length);
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, long[] keys, int from, int to) {
+        if (to - from <= ArraySorts.INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = order[i];
+                int j = i;
+                for (; j > from && keys[order[j - 1]] > keys[index]; j--) {
+                    order[j] = order[j - 1];
+                }
+                order[j] = index;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(order, buffer, keys, from, middle);
+        mergeSort(order, buffer, keys, middle, to);
+        if (keys[order[middle - 1]] <= keys[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, from, buffer, from, to - from);
+        int l = from;
+        int r = middle;
+        int i = from;
+        while (l < middle && r < to) {
+            order[i++] = keys[buffer[r]] < keys[buffer[l]] ? buffer[r++] : buffer[l++];
+        }
+        while (l < middle) {
+            order[i++] = buffer[l++];
+        }
+        while (r < to) {
+            order[i++] = buffer[r++];
+        }
+    }
+
+    private static void countingSort(Object[] array, int from, long[] keys, long min, int buckets) {
+        int[] offsets = new int[buckets + 1];
+        for (long key : keys) {
+            offsets[(int) (key - min) + 1]++;
+        }
+        for (int i = 1; i <= buckets; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        Object[] sorted = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            sorted[offsets[(int) (keys[i] - min)]++] = array[from + i];
+        }
+        System.arraycopy(sorted, 0, array, from, sorted.length);
+    }
+
+    /**
+     * LSD-сортировка по младшим passes байтам неотрицательных смещений: на каждом проходе ключи и элементы
+     * стабильно раскладываются по корзинам текущего байта из одной пары массивов в другую.
+     */
+    private static void radixSort(Object[] array, int from, long[] keys, int passes) {
+        int length = keys.length;
+        Object[] elements = new Object[length];
+        System.arraycopy(array, from, elements, 0, length);
+        Object[] elementBuffer = new Object[length];
+        long[] keyBuffer = new long[length];
+        int[] offsets = new int[RADIX];
+        for (int pass = 0, shift = 0; pass < passes; pass++, shift += 8) {
+            Arrays.fill(offsets, 0);
+            for (long key : keys) {
+                offsets[(int) (key >>> shift) & (RADIX - 1)]++;
+            }
+            if (offsets[(int) (keys[0] >>> shift) & (RADIX - 1)] == length) {
+                continue;
+            }
+            for (int i = 0, sum = 0; i < RADIX; i++) {
+                int count = offsets[i];
+                offsets[i] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int target = offsets[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                keyBuffer[target] = keys[i];
+                elementBuffer[target] = elements[i];
+            }
+            long[] swapKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swapKeys;
+            Object[] swapElements = elements;
+            elements = elementBuffer;
+            elementBuffer = swapElements;
+        }
+        System.arraycopy(elements, 0, array, from, length);
+    }
+}
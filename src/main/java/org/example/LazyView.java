@@ -0,0 +1,173 @@
+package org.example;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ленивый конвейер преобразований над CustomList: map, filter и limit не выполняют работы,
+ * а только добавляют стадию к описанию конвейера. Терминальная операция (forEach, count, toCustomArrayList)
+ * проходит исходный список один раз курсором, передавая каждый элемент через все стадии подряд,
+ * поэтому промежуточные списки не создаются, а limit прекращает обход, как только набрано нужное количество.
+ * <p>
+ * toCustomArrayList выделяет массив точного размера, если в конвейере нет filter, иначе размера верхней оценки
+ * (размер источника или limit), который становится массивом результата без копирования. Если filter пропустил
+ * меньше половины оценки, массив урезается до размера результата вторым выделением; иначе емкость результата
+ * может превышать его размер до двух раз.
+ * Представление не хранит элементов и отражает состояние источника на момент терминальной операции.
+ *
+ * @param <T> тип элементов на выходе конвейера
+ */
+public final class LazyView<T> {
+    private final CustomList<?> source;
+    private final Function<Sink, Sink> stages;
+    private final long maxSize;
+    private final boolean exactSize;
+
+    private LazyView(CustomList<?> source, Function<Sink, Sink> stages, long maxSize, boolean exactSize) {
+        this.source = source;
+        this.stages = stages;
+        this.maxSize = maxSize;
+        this.exactSize = exactSize;
+    }
+
+    /**
+     * Создает конвейер без стадий над указанным списком.
+     *
+     * @param source исходный список
+     * @param <T>    тип элементов списка
+     * @return ленивое представление списка
+     */
+    public static <T> LazyView<T> of(CustomList<T> source) {
+        return new LazyView<>(Objects.requireNonNull(source), Function.identity(), Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Добавляет стадию преобразования элементов.
+     *
+     * @param mapper функция преобразования
+     * @param <R>    тип элементов после преобразования
+     * @return новый конвейер
+     */
+    @SuppressWarnings("unchecked")
+    public <R> LazyView<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new LazyView<>(this.source,
+                this.stages.compose(downstream -> element -> downstream.accept(mapper.apply((T) element))),
+                this.maxSize, this.exactSize);
+    }
+
+    /**
+     * Добавляет стадию отбора элементов, удовлетворяющих условию.
+     *
+     * @param predicate условие отбора
+     * @return новый конвейер
+     */
+    @SuppressWarnings("unchecked")
+    public LazyView<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return new LazyView<>(this.source,
+                this.stages.compose(downstream -> element -> !predicate.test((T) element) || downstream.accept(element)),
+                this.maxSize, false);
+    }
+
+    /**
+     * Ограничивает конвейер первыми maxSize элементами; обход источника прекращается, когда они набраны.
+     *
+     * @param maxSize максимальное количество элементов
+     * @return новый конвейер
+     * @throws IllegalArgumentException если maxSize меньше нуля
+     */
+    public LazyView<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Limit cannot be less 0");
+        }
+        return new LazyView<>(this.source, this.stages.compose(downstream -> new Sink() {
+            private long remaining = maxSize;
+
+            @Override
+            public boolean accept(Object element) {
+                if (this.remaining == 0) {
+                    return false;
+                }
+                this.remaining--;
+                return downstream.accept(element) && this.remaining > 0;
+            }
+        }), Math.min(this.maxSize, maxSize), this.exactSize);
+    }
+
+    /**
+     * Выполняет действие для каждого элемента на выходе конвейера за один проход по источнику.
+     *
+     * @param action действие над элементом
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        run(element -> {
+            action.accept((T) element);
+            return true;
+        });
+    }
+
+    /**
+     * Возвращает количество элементов на выходе конвейера.
+     *
+     * @return количество элементов
+     */
+    public long count() {
+        if (this.exactSize) {
+            return Math.min(this.source.size(), this.maxSize);
+        }
+        long[] count = new long[1];
+        run(element -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    /**
+     * Материализует конвейер в новый CustomArrayList за один проход. С filter емкость результата
+     * может быть больше его размера (но не более чем вдвое): массив урезается, только если заполнен меньше чем наполовину.
+     *
+     * @return список элементов на выходе конвейера
+     */
+    public CustomArrayList<T> toCustomArrayList() {
+        Object[] elements = new Object[(int) Math.min(this.source.size(), this.maxSize)];
+        int[] size = new int[1];
+        if (elements.length > 0) {
+            run(element -> {
+                elements[size[0]++] = element;
+                return size[0] < elements.length;
+            });
+        }
+        CustomArrayList<T> result = CustomArrayList.adopt(elements, size[0]);
+        if (size[0] < elements.length / 2) {
+            result.trimCapacityToSize();
+        }
+        return result;
+    }
+
+    private void run(Sink terminal) {
+        if (this.maxSize == 0) {
+            return;
+        }
+        Sink sink = this.stages.apply(terminal);
+        Cursor<?> cursor = this.source.cursor();
+        while (cursor.next()) {
+            if (!sink.accept(cursor.element())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Стадия конвейера. accept возвращает false, когда дальнейшие элементы не нужны.
+     */
+    @FunctionalInterface
+    interface Sink {
+        boolean accept(Object element);
+    }
+}
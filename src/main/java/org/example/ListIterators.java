@@ -0,0 +1,97 @@
+package org.example;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Итератор и курсор по умолчанию для реализаций CustomList, обращающиеся к элементам через get(int).
+ * Изменение списка в обход итератора обнаруживается по изменению размера списка.
+ */
+final class ListIterators {
+
+    private ListIterators() {
+    }
+
+    static final class IndexIterator<T> implements Iterator<T> {
+        private final CustomList<T> list;
+        private int next;
+        private int lastReturned = -1;
+        private int expectedSize;
+
+        IndexIterator(CustomList<T> list) {
+            this.list = list;
+            this.expectedSize = list.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.expectedSize;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (this.next >= this.expectedSize) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.next++;
+            return this.list.get(this.lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            this.list.remove(this.lastReturned);
+            this.next = this.lastReturned;
+            this.lastReturned = -1;
+            this.expectedSize--;
+        }
+
+        private void checkForComodification() {
+            if (this.list.size() != this.expectedSize) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    static final class IndexCursor<T> implements Cursor<T> {
+        private final CustomList<T> list;
+        private int index = -1;
+
+        IndexCursor(CustomList<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public boolean next() {
+            if (this.index + 1 < this.list.size()) {
+                this.index++;
+                return true;
+            }
+            this.index = this.list.size();
+            return false;
+        }
+
+        @Override
+        public T element() {
+            if (this.index < 0 || this.index >= this.list.size()) {
+                throw new IllegalStateException("Cursor is not positioned on an element");
+            }
+            return this.list.get(this.index);
+        }
+
+        @Override
+        public int index() {
+            return this.index;
+        }
+
+        @Override
+        public void reset() {
+            this.index = -1;
+        }
+    }
+}
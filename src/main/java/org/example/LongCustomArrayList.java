@@ -0,0 +1,401 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Класс LongCustomArrayList представляет собой список примитивов long с динамически расширяемой емкостью.
+ * Реализует интерфейс CustomList, но хранит элементы в массиве long[] без упаковки,
+ * а для горячих участков кода предоставляет методы, работающие с примитивами напрямую.
+ */
+public class LongCustomArrayList implements CustomList<Long> {
+    private int capacity;
+    private int size;
+    private long[] data;
+    private GrowthPolicy growthPolicy = GrowthPolicy.ONE_AND_HALF;
+
+    /**
+     * Конструктор без параметров, создает экземпляр LongCustomArrayList с емкостью по умолчанию (10).
+     */
+    public LongCustomArrayList() {
+        this.capacity = DEFAULT_BASE_CAPACITY;
+        this.data = new long[this.capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Конструктор с параметром, создает экземпляр LongCustomArrayList с указанной начальной емкостью.
+     *
+     * @param capacity начальная емкость списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public LongCustomArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.capacity = capacity;
+        this.data = new long[this.capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Конструктор с параметрами, создает экземпляр LongCustomArrayList с указанной начальной емкостью и политикой роста.
+     *
+     * @param capacity     начальная емкость списка
+     * @param growthPolicy политика роста, применяемая при заполнении списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public LongCustomArrayList(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
+    /**
+     * Добавляет элемент в конец списка без упаковки.
+     *
+     * @param element элемент, который нужно добавить
+     */
+    public void addLong(long element) {
+        ensureCapacity();
+        this.data[this.size++] = element;
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу без упаковки.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс массива, по которому в него будет добавлен элемент
+     */
+    public void addLong(long element, int index) {
+        checkIndex(index);
+        ensureCapacity();
+        addByIndex(element, index);
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу без упаковки.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу массива
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return this.data[index];
+    }
+
+    /**
+     * Удаляет первое вхождение значения из списка.
+     *
+     * @param element значение, которое нужно удалить
+     */
+    public void removeLong(long element) {
+        int index = indexOfLong(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Проверяет, находится ли значение в списке.
+     *
+     * @param element искомое значение
+     * @return true, если искомое значение найдено в списке, иначе false
+     */
+    public boolean hasLong(long element) {
+        return indexOfLong(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения значения. Поиск выполняется векторным ядром,
+     * если доступен модуль jdk.incubator.vector (см. NumericKernels).
+     *
+     * @param element искомое значение
+     * @return индекс первого вхождения или -1, если значение не найдено
+     */
+    public int indexOfLong(long element) {
+        return NumericKernels.get().indexOf(this.data, this.size, element);
+    }
+
+    /**
+     * Возвращает количество вхождений значения в список.
+     *
+     * @param element искомое значение
+     * @return количество вхождений
+     */
+    public int countLong(long element) {
+        return NumericKernels.get().count(this.data, this.size, element);
+    }
+
+    /**
+     * Возвращает наименьшее значение в списке.
+     *
+     * @return наименьшее значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public long min() {
+        checkNotEmpty();
+        return NumericKernels.get().min(this.data, this.size);
+    }
+
+    /**
+     * Возвращает наибольшее значение в списке.
+     *
+     * @return наибольшее значение
+     * @throws NoSuchElementException если список пуст
+     */
+    public long max() {
+        checkNotEmpty();
+        return NumericKernels.get().max(this.data, this.size);
+    }
+
+    /**
+     * Возвращает сумму значений списка.
+     *
+     * @return сумма значений, 0 для пустого списка
+     */
+    public long sum() {
+        return NumericKernels.get().sum(this.data, this.size);
+    }
+
+    /**
+     * Возвращает количество значений из диапазона [from, to] (границы включаются).
+     *
+     * @param from нижняя граница
+     * @param to   верхняя граница
+     * @return количество значений в диапазоне
+     */
+    public int countInRange(long from, long to) {
+        return NumericKernels.get().countInRange(this.data, this.size, from, to);
+    }
+
+    /**
+     * Возвращает новый список из значений диапазона [from, to] в исходном порядке.
+     * Результат заполняется за один проход и урезается до точного размера.
+     *
+     * @param from нижняя граница
+     * @param to   верхняя граница
+     * @return список значений в диапазоне
+     */
+    public LongCustomArrayList filterRange(long from, long to) {
+        LongCustomArrayList result = new LongCustomArrayList(this.size);
+        result.size = NumericKernels.get().filterRange(this.data, this.size, from, to, result.data);
+        result.trimCapacityToSize();
+        return result;
+    }
+
+    /**
+     * Создает список примитивов с распакованными значениями другого списка, например CustomArrayList&lt;Long&gt;.
+     * Распаковка выполняется один раз, после чего поиск и агрегаты работают без упаковки.
+     *
+     * @param elements исходный список (без null)
+     * @return новый список примитивов с теми же значениями
+     */
+    public static LongCustomArrayList copyOf(CustomList<Long> elements) {
+        LongCustomArrayList result = new LongCustomArrayList(elements.size());
+        for (Long element : elements) {
+            result.addLong(element);
+        }
+        return result;
+    }
+
+    /**
+     * Сортирует элементы списка по возрастанию без упаковки.
+     */
+    public void sort() {
+        Arrays.sort(this.data, 0, this.size);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Значение распаковывается и добавляется через {@link #addLong(long)}.
+     */
+    @Override
+    public void add(Long element) {
+        addLong(element);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Значение распаковывается и добавляется через {@link #addLong(long, int)}.
+     */
+    @Override
+    public void add(Long element, int index) {
+        addLong(element, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Для доступа без упаковки используйте {@link #getLong(int)}.
+     */
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка. Null в списке примитивов отсутствует, поэтому игнорируется.
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(Long element) {
+        if (element != null) {
+            removeLong(element);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка (сохраняет текущую вместимость)
+     */
+    @Override
+    public void removeAll() {
+        this.size = 0;
+    }
+
+    /**
+     * Увеличивает вместимость списка ровно до minCapacity, если текущая вместимость меньше.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > this.capacity) {
+            this.capacity = minCapacity;
+            this.data = Arrays.copyOf(this.data, this.capacity);
+        }
+    }
+
+    /**
+     * Устанавливает политику роста, применяемую при последующих заполнениях списка.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если политика равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy cannot be null");
+    }
+
+    /**
+     * Урезает вместимость списка до текущего количества элементов в списке.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        if (this.size == 0) {
+            if (this.capacity > DEFAULT_BASE_CAPACITY) {
+                this.capacity = DEFAULT_BASE_CAPACITY;
+            }
+            this.data = new long[this.capacity];
+        } else {
+            this.capacity = this.size;
+            this.data = Arrays.copyOf(this.data, this.capacity);
+        }
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе.
+     * Каждое сравнение упаковывает значения, поэтому для естественного порядка предпочтительнее {@link #sort()}.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    public void sort(Comparator<? super Long> comp) {
+        long[] array = this.data;
+        ArraySorts.introSort(new ArraySorts.Sortable() {
+            @Override
+            public int compare(int first, int second) {
+                return comp.compare(array[first], array[second]);
+            }
+
+            @Override
+            public void swap(int first, int second) {
+                long value = array[first];
+                array[first] = array[second];
+                array[second] = value;
+            }
+        }, 0, this.size);
+    }
+
+    /**
+     * Проверяет, находится ли элемент в списке. Null в списке примитивов отсутствует.
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(Long element) {
+        return element != null && hasLong(element);
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void ensureCapacity() {
+        if (this.size == this.capacity) {
+            this.capacity = getNewCapacity(this.size + 1);
+            this.data = Arrays.copyOf(this.data, this.capacity);
+        }
+    }
+
+    private int getNewCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        int newCapacity = this.growthPolicy.grow(this.capacity, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("Growth policy returned capacity " + newCapacity
+                    + " less than required " + minCapacity);
+        }
+        return newCapacity;
+    }
+
+    private void addByIndex(long element, int index) {
+        System.arraycopy(this.data, index, this.data, index + 1, this.size - index);
+        this.data[index] = element;
+        this.size++;
+    }
+
+    private void removeByIndex(int index) {
+        System.arraycopy(this.data, index + 1, this.data, index, this.size - index - 1);
+        this.size--;
+    }
+
+    private void checkNotEmpty() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+/**
+ * Класс MappedCustomList представляет собой список только для чтения поверх снимка,
+ * отображенного в память (см. {@link CustomListSnapshots#map}).
+ * Элементы не загружаются заранее: get декодирует элемент прямо из отображенного буфера,
+ * а страницы файла подгружаются операционной системой по мере обращения.
+ * Все изменяющие методы генерируют UnsupportedOperationException.
+ * Реализует интерфейс AutoCloseable: после {@link #close()} отображение освобождается,
+ * а любое обращение к списку приводит к IllegalStateException.
+ * Чтение из нескольких потоков допустимо, но close() освобождает отображение сразу и не ждет читателей:
+ * вызывать его можно только когда ни один поток не читает список, иначе чтение из освобожденной памяти
+ * может завершить JVM аварийно.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class MappedCustomList<T> implements CustomList<T>, AutoCloseable {
+    private final ByteBuffer buffer;
+    private final BinaryCodec<T> codec;
+    private final int size;
+    private final int dataStart;
+    private final int offsetsStart;
+    private final int elementSize;
+    private volatile boolean closed;
+
+    MappedCustomList(ByteBuffer buffer, BinaryCodec<T> codec, int size, int dataStart, int offsetsStart) {
+        this.buffer = buffer;
+        this.codec = codec;
+        this.size = size;
+        this.dataStart = dataStart;
+        this.offsetsStart = offsetsStart;
+        this.elementSize = codec.fixedSize();
+    }
+
+    @Override
+    public void add(T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(T element, int index) {
+        throw readOnly();
+    }
+
+    /**
+     * Декодирует элемент по указанному индексу из отображенного буфера.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        checkIndex(index);
+        return element(index);
+    }
+
+    @Override
+    public void remove(T element) {
+        throw readOnly();
+    }
+
+    @Override
+    public void remove(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeAll() {
+        throw readOnly();
+    }
+
+    @Override
+    public void reserve(int minCapacity) {
+        throw readOnly();
+    }
+
+    @Override
+    public void trimCapacityToSize() {
+        throw readOnly();
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comp) {
+        throw readOnly();
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        ensureOpen();
+        for (int i = 0; i < this.size; i++) {
+            if (element(i).equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в снимке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Освобождает отображение файла в память. Повторный вызов ничего не делает.
+     * Вызывающий код должен гарантировать, что список в этот момент не читают другие потоки.
+     */
+    @Override
+    public void close() {
+        if (!this.closed) {
+            this.closed = true;
+            DirectMemory.release(this.buffer);
+        }
+    }
+
+    T element(int index) {
+        if (this.offsetsStart < 0) {
+            return this.codec.read(this.buffer, this.dataStart + index * this.elementSize, this.elementSize);
+        }
+        int offset = this.offsetsStart + index * Integer.BYTES;
+        int start = this.buffer.getInt(offset);
+        int end = this.buffer.getInt(offset + Integer.BYTES);
+        return this.codec.read(this.buffer, this.dataStart + start, end - start);
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Snapshot list is read-only");
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
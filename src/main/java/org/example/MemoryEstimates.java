@@ -0,0 +1,31 @@
+package org.example;
+
+/**
+ * Оценка размера объектов в куче для 64-битной JVM со сжатыми указателями
+ * (заголовок объекта 12 байт, заголовок массива 16 байт, ссылка 4 байта, выравнивание 8 байт).
+ */
+final class MemoryEstimates {
+    static final int OBJECT_HEADER = 12;
+    static final int ARRAY_HEADER = 16;
+    static final int REFERENCE = 4;
+    static final int ALIGNMENT = 8;
+
+    private MemoryEstimates() {
+    }
+
+    static long object(long fieldBytes) {
+        return align(OBJECT_HEADER + fieldBytes);
+    }
+
+    static long referenceArray(long length) {
+        return align(ARRAY_HEADER + length * REFERENCE);
+    }
+
+    static long primitiveArray(long length, int elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+
+    static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
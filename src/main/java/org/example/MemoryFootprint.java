@@ -0,0 +1,78 @@
+package org.example;
+
+/**
+ * Оценка памяти, занимаемой одним списком, для 64-битной JVM со сжатыми указателями (см. MemoryEstimates):
+ * объект списка, его массив элементов и вспомогательные структуры. Сами элементы не учитываются.
+ */
+public final class MemoryFootprint {
+    private final int size;
+    private final int capacity;
+    private final long objectBytes;
+    private final long arrayBytes;
+    private final long indexBytes;
+
+    MemoryFootprint(int size, int capacity, long objectBytes, long arrayBytes, long indexBytes) {
+        this.size = size;
+        this.capacity = capacity;
+        this.objectBytes = objectBytes;
+        this.arrayBytes = arrayBytes;
+        this.indexBytes = indexBytes;
+    }
+
+    /**
+     * Количество элементов в списке.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Количество ячеек, под которые фактически выделена память: длина массива (0, пока массив не выделен)
+     * или число полей, если элементы хранятся в полях объекта.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Размер объекта списка: заголовок и поля.
+     */
+    public long getObjectBytes() {
+        return objectBytes;
+    }
+
+    /**
+     * Размер собственного массива элементов (0 для общего пустого массива и элементов, хранящихся в полях).
+     */
+    public long getArrayBytes() {
+        return arrayBytes;
+    }
+
+    /**
+     * Размер вспомогательного индекса (например, хеш-индекса CustomArrayList).
+     */
+    public long getIndexBytes() {
+        return indexBytes;
+    }
+
+    /**
+     * Память, занятая незаполненными ячейками.
+     */
+    public long getUnusedBytes() {
+        return (long) (capacity - size) * MemoryEstimates.REFERENCE;
+    }
+
+    /**
+     * Суммарный размер списка без учета элементов.
+     */
+    public long getTotalBytes() {
+        return objectBytes + arrayBytes + indexBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size + ", capacity=" + capacity + ", objectBytes=" + objectBytes
+                + ", arrayBytes=" + arrayBytes + ", indexBytes=" + indexBytes
+                + ", unusedBytes=" + getUnusedBytes() + ", totalBytes=" + getTotalBytes();
+    }
+}
@@ -0,0 +1,244 @@
+package org.example;
+
+/**
+ * Ядра сканирования массивов примитивов для IntCustomArrayList, LongCustomArrayList и DoubleCustomArrayList:
+ * поиск, подсчет, минимум, максимум, сумма и фильтрация по диапазону.
+ * <p>
+ * Этот класс - скалярная реализация. Если при запуске подключен модуль jdk.incubator.vector
+ * (--add-modules jdk.incubator.vector), {@link #get()} возвращает {@link VectorNumericKernels},
+ * которые обрабатывают по несколько элементов за инструкцию SIMD; иначе используется скалярная реализация.
+ * Принудительно выбрать скалярные ядра можно системным свойством org.example.scalarKernels=true.
+ * <p>
+ * Все методы обрабатывают первые length элементов массива. Сравнение double выполняется как в
+ * Double.compare (NaN равен NaN, 0.0 не равен -0.0); диапазоны включают обе границы.
+ * Сумма double в векторной реализации складывается в другом порядке и может отличаться в последних разрядах.
+ */
+class NumericKernels {
+    static final NumericKernels SCALAR = new NumericKernels();
+    private static final NumericKernels INSTANCE = load();
+
+    NumericKernels() {
+    }
+
+    /**
+     * Возвращает ядра, выбранные для текущей JVM.
+     */
+    static NumericKernels get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Проверяет, используются ли векторные ядра.
+     */
+    boolean isVectorized() {
+        return false;
+    }
+
+    private static NumericKernels load() {
+        if (Boolean.getBoolean("org.example.scalarKernels")
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return (NumericKernels) Class.forName("org.example.VectorNumericKernels")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    int indexOf(int[] array, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int count(int[] array, int length, int value) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int min(int[] array, int length) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    int max(int[] array, int length) {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    long sum(int[] array, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    int countInRange(int[] array, int length, int from, int to) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (array[i] >= from && array[i] <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Копирует значения из диапазона [from, to] в target (не короче length) и возвращает их количество.
+     */
+    int filterRange(int[] array, int length, int from, int to, int[] target) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            int value = array[i];
+            if (value >= from && value <= to) {
+                target[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    int indexOf(long[] array, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int count(long[] array, int length, long value) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    long min(long[] array, int length) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    long max(long[] array, int length) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    long sum(long[] array, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    int countInRange(long[] array, int length, long from, long to) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (array[i] >= from && array[i] <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int filterRange(long[] array, int length, long from, long to, long[] target) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            long value = array[i];
+            if (value >= from && value <= to) {
+                target[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    int indexOf(double[] array, int length, double value) {
+        for (int i = 0; i < length; i++) {
+            if (Double.compare(array[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int count(double[] array, int length, double value) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (Double.compare(array[i], value) == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    double min(double[] array, int length) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    double max(double[] array, int length) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    double sum(double[] array, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    int countInRange(double[] array, int length, double from, double to) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (array[i] >= from && array[i] <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    int filterRange(double[] array, int length, double from, double to, double[] target) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            double value = array[i];
+            if (value >= from && value <= to) {
+                target[count++] = value;
+            }
+        }
+        return count;
+    }
+}
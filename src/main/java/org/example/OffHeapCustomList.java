@@ -0,0 +1,322 @@
+package org.example;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Класс OffHeapCustomList представляет собой список элементов фиксированного размера, хранящихся вне кучи.
+ * Элементы кодируются с помощью {@link ElementCodec} и размещаются в прямых (direct) буферах одинакового размера.
+ * При заполнении списка выделяется только новый блок, ранее записанные данные не копируются.
+ * Реализует интерфейсы CustomList и AutoCloseable: после вызова {@link #close()} нативная память освобождается,
+ * а любое обращение к списку приводит к IllegalStateException.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class OffHeapCustomList<T> implements CustomList<T>, AutoCloseable {
+    public static final int DEFAULT_CHUNK_ELEMENTS = 1 << 14;
+
+    private final ElementCodec<T> codec;
+    private final int elementSize;
+    private final int chunkElements;
+    private final byte[] swapBuffer;
+    private final byte[] secondSwapBuffer;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private int capacity;
+    private int size;
+    private boolean closed;
+
+    /**
+     * Конструктор с кодеком, создает пустой список с размером блока по умолчанию (16384 элемента).
+     *
+     * @param codec кодек элементов списка
+     */
+    public OffHeapCustomList(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_ELEMENTS);
+    }
+
+    /**
+     * Конструктор с кодеком и размером блока. Память под первый блок выделяется при первом добавлении.
+     *
+     * @param codec         кодек элементов списка
+     * @param chunkElements количество элементов в одном блоке нативной памяти
+     * @throws IllegalArgumentException если размер блока меньше единицы или блок не помещается в один буфер
+     */
+    public OffHeapCustomList(ElementCodec<T> codec, int chunkElements) {
+        if (chunkElements < 1) {
+            throw new IllegalArgumentException("Chunk size cannot be less 1");
+        }
+        if ((long) chunkElements * codec.elementSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size is too large: " + chunkElements);
+        }
+        this.codec = codec;
+        this.elementSize = codec.elementSize();
+        this.chunkElements = chunkElements;
+        this.swapBuffer = new byte[this.elementSize];
+        this.secondSwapBuffer = new byte[this.elementSize];
+        this.chunks = new ByteBuffer[DEFAULT_BASE_CAPACITY];
+        this.chunkCount = 0;
+        this.capacity = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * Если на момент добавления список заполнен, выделяет новый блок нативной памяти.
+     *
+     * @param element элемент, который нужно добавить (не null)
+     */
+    @Override
+    public void add(T element) {
+        ensureOpen();
+        ensureCapacity();
+        write(this.size++, element);
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу, сдвигая последующие элементы вправо.
+     *
+     * @param element элемент, который нужно добавить (не null)
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        ensureOpen();
+        checkIndex(index);
+        ensureCapacity();
+        for (int i = this.size; i > index; i--) {
+            copy(i - 1, i);
+        }
+        write(index, element);
+        this.size++;
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу (декодирует его из нативной памяти).
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        ensureOpen();
+        checkIndex(index);
+        return read(index);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        ensureOpen();
+        for (int i = 0; i < this.size; i++) {
+            if (read(i).equals(element)) {
+                removeByIndex(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        ensureOpen();
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка (сохраняет выделенные блоки памяти)
+     */
+    @Override
+    public void removeAll() {
+        ensureOpen();
+        this.size = 0;
+    }
+
+    /**
+     * Заранее выделяет блоки нативной памяти, достаточные для хранения minCapacity элементов.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        ensureOpen();
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        while (this.capacity < minCapacity) {
+            addChunk();
+        }
+    }
+
+    /**
+     * Освобождает блоки нативной памяти, не содержащие элементов.
+     * Данные занятых блоков не копируются.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        ensureOpen();
+        int usedChunks = (this.size + this.chunkElements - 1) / this.chunkElements;
+        for (int i = usedChunks; i < this.chunkCount; i++) {
+            DirectMemory.release(this.chunks[i]);
+            this.chunks[i] = null;
+        }
+        this.chunkCount = usedChunks;
+        this.capacity = usedChunks * this.chunkElements;
+        if (this.chunks.length > DEFAULT_BASE_CAPACITY && this.chunks.length > usedChunks) {
+            this.chunks = Arrays.copyOf(this.chunks, Math.max(usedChunks, DEFAULT_BASE_CAPACITY));
+        }
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе.
+     * Используется интроспективная сортировка прямо в нативной памяти, без копирования списка в кучу:
+     * элементы сравниваются после чтения и переставляются обменом байтов.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    public void sort(Comparator<? super T> comp) {
+        ensureOpen();
+        ArraySorts.introSort(new ArraySorts.Sortable() {
+            @Override
+            public int compare(int first, int second) {
+                return comp.compare(read(first), read(second));
+            }
+
+            @Override
+            public void swap(int first, int second) {
+                OffHeapCustomList.this.swap(first, second);
+            }
+        }, 0, this.size);
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        ensureOpen();
+        for (int i = 0; i < this.size; i++) {
+            if (read(i).equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Возвращает объем выделенной нативной памяти в байтах.
+     *
+     * @return количество байт во всех выделенных блоках
+     */
+    public long allocatedBytes() {
+        return (long) this.chunkCount * this.chunkElements * this.elementSize;
+    }
+
+    /**
+     * Освобождает всю нативную память списка. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        for (int i = 0; i < this.chunkCount; i++) {
+            DirectMemory.release(this.chunks[i]);
+        }
+        this.chunks = null;
+        this.chunkCount = 0;
+        this.capacity = 0;
+        this.size = 0;
+        this.closed = true;
+    }
+
+    private void ensureCapacity() {
+        if (this.size == this.capacity) {
+            addChunk();
+        }
+    }
+
+    private void addChunk() {
+        if (this.chunkCount == this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, this.chunks.length * 2);
+        }
+        this.chunks[this.chunkCount++] = DirectMemory.allocate(this.chunkElements * this.elementSize);
+        this.capacity += this.chunkElements;
+    }
+
+    private T read(int index) {
+        return this.codec.read(this.chunks[index / this.chunkElements], offset(index));
+    }
+
+    private void write(int index, T element) {
+        this.codec.write(this.chunks[index / this.chunkElements], offset(index), element);
+    }
+
+    private int offset(int index) {
+        return (index % this.chunkElements) * this.elementSize;
+    }
+
+    private void copy(int from, int to) {
+        this.chunks[from / this.chunkElements].get(offset(from), this.swapBuffer);
+        this.chunks[to / this.chunkElements].put(offset(to), this.swapBuffer);
+    }
+
+    private void swap(int first, int second) {
+        ByteBuffer firstChunk = this.chunks[first / this.chunkElements];
+        ByteBuffer secondChunk = this.chunks[second / this.chunkElements];
+        int firstOffset = offset(first);
+        int secondOffset = offset(second);
+        firstChunk.get(firstOffset, this.swapBuffer);
+        secondChunk.get(secondOffset, this.secondSwapBuffer);
+        firstChunk.put(firstOffset, this.secondSwapBuffer);
+        secondChunk.put(secondOffset, this.swapBuffer);
+    }
+
+    private void removeByIndex(int index) {
+        for (int i = index + 1; i < this.size; i++) {
+            copy(i, i - 1);
+        }
+        this.size--;
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
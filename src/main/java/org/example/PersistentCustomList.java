@@ -0,0 +1,374 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Класс PersistentCustomList представляет собой неизменяемый (персистентный) список на основе
+ * префиксного дерева с ветвлением 32 (bit-partitioned vector trie).
+ * Изменяющие операции withAdded, withSet и withRemoved не меняют список, а возвращают новую версию,
+ * которая разделяет с исходной все узлы, кроме O(log32 n) узлов на пути к изменяемому элементу.
+ * Последние 1..32 элемента хранятся отдельно в хвостовом массиве, поэтому добавление в конец
+ * в большинстве случаев копирует только хвост.
+ * <p>
+ * Любую версию можно без синхронизации передавать другим потокам: она никогда не изменяется.
+ * Методы интерфейса CustomList, изменяющие список на месте, генерируют UnsupportedOperationException.
+ * Вставка и удаление не в конце списка стоят O((n - index) * log n): версия укорачивается до индекса
+ * и достраивается заново.
+ *
+ * @param <T> тип элементов в списке
+ */
+public final class PersistentCustomList<T> implements CustomList<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+    private static final PersistentCustomList<?> EMPTY = new PersistentCustomList<>(0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentCustomList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой персистентный список.
+     *
+     * @param <T> тип элементов в списке
+     * @return пустой список
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentCustomList<T> empty() {
+        return (PersistentCustomList<T>) EMPTY;
+    }
+
+    /**
+     * Создает персистентный список из элементов другого списка. Листья дерева заполняются блоками
+     * по 32 элемента, поэтому построение стоит O(n).
+     *
+     * @param elements исходный список
+     * @param <T>      тип элементов в списке
+     * @return персистентный список с теми же элементами в том же порядке
+     */
+    public static <T> PersistentCustomList<T> copyOf(CustomList<? extends T> elements) {
+        PersistentCustomList<T> result = empty();
+        int size = elements.size();
+        for (int from = 0; from < size; from += WIDTH) {
+            Object[] leaf = new Object[Math.min(WIDTH, size - from)];
+            for (int i = 0; i < leaf.length; i++) {
+                leaf[i] = elements.get(from + i);
+            }
+            result = result.withTail(leaf);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, добавленным в конец, за O(log32 n).
+     *
+     * @param element элемент, который нужно добавить
+     * @return новая версия списка
+     */
+    public PersistentCustomList<T> withAdded(T element) {
+        if (this.tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = element;
+            return new PersistentCustomList<>(this.size + 1, this.shift, this.root, newTail);
+        }
+        return withTail(new Object[]{element});
+    }
+
+    /**
+     * Возвращает новую версию списка с элементом, вставленным по указанному индексу.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     * @return новая версия списка
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentCustomList<T> withAdded(T element, int index) {
+        checkIndex(index);
+        PersistentCustomList<T> result = this;
+        Object[] suffix = new Object[this.size - index];
+        for (int i = suffix.length - 1; i >= 0; i--) {
+            suffix[i] = result.getLast();
+            result = result.withoutLast();
+        }
+        result = result.withAdded(element);
+        for (Object value : suffix) {
+            result = result.withAdded((T) value);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает новую версию списка, в которой элемент по указанному индексу заменен, за O(log32 n).
+     *
+     * @param index   индекс заменяемого элемента
+     * @param element новый элемент
+     * @return новая версия списка
+     */
+    public PersistentCustomList<T> withSet(int index, T element) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentCustomList<>(this.size, this.shift, this.root, newTail);
+        }
+        return new PersistentCustomList<>(this.size, this.shift, set(this.shift, this.root, index, element), this.tail);
+    }
+
+    /**
+     * Возвращает новую версию списка без элемента по указанному индексу.
+     * Удаление последнего элемента стоит O(log32 n).
+     *
+     * @param index индекс удаляемого элемента
+     * @return новая версия списка
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentCustomList<T> withRemoved(int index) {
+        checkIndex(index);
+        PersistentCustomList<T> result = this;
+        Object[] suffix = new Object[this.size - index - 1];
+        for (int i = suffix.length - 1; i >= 0; i--) {
+            suffix[i] = result.getLast();
+            result = result.withoutLast();
+        }
+        result = result.withoutLast();
+        for (Object value : suffix) {
+            result = result.withAdded((T) value);
+        }
+        return result;
+    }
+
+    @Override
+    public void add(T element) {
+        throw immutable();
+    }
+
+    @Override
+    public void add(T element, int index) {
+        throw immutable();
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу за O(log32 n).
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public void remove(T element) {
+        throw immutable();
+    }
+
+    @Override
+    public void remove(int index) {
+        throw immutable();
+    }
+
+    @Override
+    public void removeAll() {
+        throw immutable();
+    }
+
+    @Override
+    public void reserve(int minCapacity) {
+        throw immutable();
+    }
+
+    @Override
+    public void trimCapacityToSize() {
+        throw immutable();
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comp) {
+        throw immutable();
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список (листья просматриваются целиком).
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int from = 0; from < this.size; from += WIDTH) {
+            Object[] leaf = leafFor(from);
+            int length = Math.min(WIDTH, this.size - from);
+            for (int i = 0; i < length; i++) {
+                if (leaf[i].equals(element)) {
+                    return from + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int tailOffset() {
+        return this.size - this.tail.length;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object getLast() {
+        return this.tail[this.tail.length - 1];
+    }
+
+    /**
+     * Переносит заполненный хвост в дерево и делает newTail новым хвостом.
+     * Вызывается, только когда хвост пуст (пустой список) или заполнен.
+     */
+    private PersistentCustomList<T> withTail(Object[] newTail) {
+        if (this.size == 0) {
+            return new PersistentCustomList<>(newTail.length, BITS, EMPTY_NODE, newTail);
+        }
+        int newShift = this.shift;
+        Object[] newRoot;
+        if ((this.size >>> BITS) > (1 << this.shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = newPath(this.shift, this.tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(this.shift, this.root, this.tail);
+        }
+        return new PersistentCustomList<>(this.size + newTail.length, newShift, newRoot, newTail);
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int index = ((this.size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS) {
+            result[index] = leaf;
+        } else {
+            Object[] child = (Object[]) parent[index];
+            result[index] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] set(int level, Object[] node, int index, Object element) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            result[child] = set(level - BITS, (Object[]) node[child], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Новая версия без последнего элемента: укорачивается хвост или, если в хвосте один элемент,
+     * хвостом становится последний лист дерева.
+     */
+    private PersistentCustomList<T> withoutLast() {
+        if (this.size == 1) {
+            return empty();
+        }
+        if (this.tail.length > 1) {
+            return new PersistentCustomList<>(this.size - 1, this.shift, this.root,
+                    Arrays.copyOf(this.tail, this.tail.length - 1));
+        }
+        Object[] newTail = leafFor(this.size - 2);
+        Object[] newRoot = popTail(this.shift, this.root);
+        int newShift = this.shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (this.shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentCustomList<>(this.size - 1, newShift, newRoot, newTail);
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        int index = ((this.size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] child = popTail(level - BITS, (Object[]) node[index]);
+            if (child == null && index == 0) {
+                return null;
+            }
+            Object[] result = node.clone();
+            result[index] = child;
+            return result;
+        }
+        if (index == 0) {
+            return null;
+        }
+        Object[] result = node.clone();
+        result[index] = null;
+        return result;
+    }
+
+    private UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Persistent list is immutable");
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -0,0 +1,551 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Класс PersonColumnList представляет собой колоночный (struct-of-arrays) список записей Person.
+ * Возраст хранится в массиве int[], а имена - в словаре уникальных строк и массиве int[] с номерами имен,
+ * поэтому в куче нет отдельного объекта на каждую запись, а повторяющиеся имена хранятся один раз.
+ * <p>
+ * Реализует интерфейс CustomList: get материализует новый объект Person, остальные операции
+ * работают с колонками напрямую. Для сканирования и сортировки по возрасту без создания объектов
+ * предназначены методы {@link #getAge(int)}, {@link #sumAges()}, {@link #countAgeBetween(int, int)},
+ * {@link #indicesOfAgeBetween(int, int)} и {@link #sortByAge()}.
+ * Поиск и удаление по записи (hasElement, indexOf, lastIndexOf, remove, retainAll и те же методы
+ * представления subList) сравнивают записи по имени и возрасту прямо в колонках. Сам Person сравнивается
+ * по ссылке, а get и removeIf создают новый объект на каждую запись, поэтому объекты, полученные из списка,
+ * не равны ни переданным в него, ни друг другу. Null-записи не поддерживаются.
+ */
+public class PersonColumnList implements CustomList<Person> {
+    private static final int NULL_NAME = -1;
+
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private String[] names = new String[DEFAULT_BASE_CAPACITY];
+    private int nameCount;
+    private int capacity;
+    private int size;
+    private int[] ages;
+    private int[] nameColumn;
+    private GrowthPolicy growthPolicy = GrowthPolicy.ONE_AND_HALF;
+
+    /**
+     * Конструктор без параметров, создает экземпляр PersonColumnList с емкостью по умолчанию (10).
+     */
+    public PersonColumnList() {
+        this(DEFAULT_BASE_CAPACITY);
+    }
+
+    /**
+     * Конструктор с параметром, создает экземпляр PersonColumnList с указанной начальной емкостью.
+     *
+     * @param capacity начальная емкость списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public PersonColumnList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.capacity = capacity;
+        this.ages = new int[this.capacity];
+        this.nameColumn = new int[this.capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет запись в конец списка без создания объекта Person.
+     *
+     * @param name имя
+     * @param age  возраст
+     */
+    public void addPerson(String name, int age) {
+        ensureCapacity();
+        this.ages[this.size] = age;
+        this.nameColumn[this.size] = nameId(name);
+        this.size++;
+    }
+
+    /**
+     * Добавляет запись в конец списка.
+     *
+     * @param person запись, которую нужно добавить
+     * @throws NullPointerException если запись равна null
+     */
+    @Override
+    public void add(Person person) {
+        Objects.requireNonNull(person, "Element cannot be null");
+        addPerson(person.getName(), person.getAge());
+    }
+
+    /**
+     * Добавляет запись в список по указанному индексу, сдвигая обе колонки.
+     *
+     * @param person запись, которую нужно добавить
+     * @param index  индекс, по которому будет добавлена запись
+     * @throws NullPointerException если запись равна null
+     */
+    @Override
+    public void add(Person person, int index) {
+        Objects.requireNonNull(person, "Element cannot be null");
+        checkIndex(index);
+        ensureCapacity();
+        System.arraycopy(this.ages, index, this.ages, index + 1, this.size - index);
+        System.arraycopy(this.nameColumn, index, this.nameColumn, index + 1, this.size - index);
+        this.ages[index] = person.getAge();
+        this.nameColumn[index] = nameId(person.getName());
+        this.size++;
+    }
+
+    /**
+     * Возвращает новый объект Person, собранный из колонок по указанному индексу.
+     * Для доступа к отдельным полям без создания объекта используйте {@link #getAge(int)} и {@link #getName(int)}.
+     *
+     * @param index индекс записи, которую нужно получить
+     * @return запись, находящаяся по указанному индексу
+     */
+    @Override
+    public Person get(int index) {
+        checkIndex(index);
+        return new Person(name(this.nameColumn[index]), this.ages[index]);
+    }
+
+    /**
+     * Возвращает возраст записи по указанному индексу.
+     *
+     * @param index индекс записи
+     * @return возраст
+     */
+    public int getAge(int index) {
+        checkIndex(index);
+        return this.ages[index];
+    }
+
+    /**
+     * Возвращает имя записи по указанному индексу. Строка берется из словаря и не копируется.
+     *
+     * @param index индекс записи
+     * @return имя
+     */
+    public String getName(int index) {
+        checkIndex(index);
+        return name(this.nameColumn[index]);
+    }
+
+    /**
+     * Удаляет первое вхождение записи с такими же именем и возрастом.
+     *
+     * @param person запись, которую нужно удалить
+     */
+    @Override
+    public void remove(Person person) {
+        int index = indexOf(person);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет запись из списка по ее индексу
+     *
+     * @param index индекс, по которому находится запись для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все записи из списка (сохраняет текущую вместимость и словарь имен)
+     */
+    @Override
+    public void removeAll() {
+        this.size = 0;
+    }
+
+    /**
+     * Удаляет записи с индексами от fromIndex (включительно) до toIndex (не включительно).
+     * Хвост каждой колонки сдвигается один раз.
+     *
+     * @param fromIndex индекс первой удаляемой записи
+     * @param toIndex   индекс, следующий за последней удаляемой записью
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > this.size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        System.arraycopy(this.ages, toIndex, this.ages, fromIndex, this.size - toIndex);
+        System.arraycopy(this.nameColumn, toIndex, this.nameColumn, fromIndex, this.size - toIndex);
+        this.size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Удаляет все записи, удовлетворяющие условию, за один проход с уплотнением колонок.
+     * Для проверки условия каждая запись материализуется в объект Person.
+     *
+     * @param filter условие удаления
+     * @return true, если была удалена хотя бы одна запись, иначе false
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Person> filter) {
+        int oldSize = this.size;
+        int write = 0;
+        for (int read = 0; read < oldSize; read++) {
+            if (!filter.test(new Person(name(this.nameColumn[read]), this.ages[read]))) {
+                this.ages[write] = this.ages[read];
+                this.nameColumn[write] = this.nameColumn[read];
+                write++;
+            }
+        }
+        this.size = write;
+        return write != oldSize;
+    }
+
+    /**
+     * Оставляет в списке только записи, имя и возраст которых совпадают с какой-либо записью Person из коллекции.
+     * Коллекция переводится в множество ключей (номер имени, возраст) один раз, после чего колонки
+     * уплотняются за один проход без создания объектов.
+     *
+     * @param elements коллекция записей, которые нужно сохранить
+     * @return true, если была удалена хотя бы одна запись, иначе false
+     */
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        Set<Long> keys = new HashSet<>();
+        for (Object element : elements) {
+            if (element instanceof Person) {
+                Person person = (Person) element;
+                int id = findNameId(person.getName());
+                if (id != NULL_NAME || person.getName() == null) {
+                    keys.add(key(id, person.getAge()));
+                }
+            }
+        }
+        int oldSize = this.size;
+        int write = 0;
+        for (int read = 0; read < oldSize; read++) {
+            if (keys.contains(key(this.nameColumn[read], this.ages[read]))) {
+                this.ages[write] = this.ages[read];
+                this.nameColumn[write] = this.nameColumn[read];
+                write++;
+            }
+        }
+        this.size = write;
+        return write != oldSize;
+    }
+
+    /**
+     * Возвращает представление диапазона, которое ищет записи по имени и возрасту, как и сам список.
+     *
+     * @param fromIndex индекс первой записи диапазона
+     * @param toIndex   индекс, следующий за последней записью диапазона
+     * @return представление диапазона
+     */
+    @Override
+    public CustomList<Person> subList(int fromIndex, int toIndex) {
+        return new SubListView<>(this, fromIndex, toIndex, this::matches);
+    }
+
+    /**
+     * Увеличивает вместимость обеих колонок ровно до minCapacity, если текущая вместимость меньше.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > this.capacity) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Устанавливает политику роста, применяемую при последующих заполнениях списка.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если политика равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy cannot be null");
+    }
+
+    /**
+     * Урезает вместимость колонок до текущего количества записей в списке.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        resize(this.size == 0 ? Math.min(this.capacity, DEFAULT_BASE_CAPACITY) : this.size);
+    }
+
+    /**
+     * Сортирует все записи списка согласно условию в компараторе.
+     * Записи материализуются в объекты Person, поэтому для сортировки по возрасту предпочтительнее {@link #sortByAge()}.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    public void sort(Comparator<? super Person> comp) {
+        Person[] persons = new Person[this.size];
+        for (int i = 0; i < this.size; i++) {
+            persons[i] = new Person(name(this.nameColumn[i]), this.ages[i]);
+        }
+        ArraySorts.introSort(persons, 0, this.size, comp);
+        for (int i = 0; i < this.size; i++) {
+            this.ages[i] = persons[i].getAge();
+            this.nameColumn[i] = nameId(persons[i].getName());
+        }
+    }
+
+    /**
+     * Стабильно сортирует записи по возрасту без создания объектов Person.
+     * Возраст и исходная позиция упаковываются в один long, массив ключей сортируется как примитивы,
+     * после чего обе колонки переставляются одним проходом.
+     */
+    public void sortByAge() {
+        long[] keys = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            keys[i] = ((long) this.ages[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] sortedNames = new int[this.capacity];
+        for (int i = 0; i < this.size; i++) {
+            this.ages[i] = (int) (keys[i] >> 32);
+            sortedNames[i] = this.nameColumn[(int) keys[i]];
+        }
+        this.nameColumn = sortedNames;
+    }
+
+    /**
+     * Возвращает сумму возрастов всех записей. Цикл по int[] без ветвлений векторизуется JIT-компилятором.
+     *
+     * @return сумма возрастов
+     */
+    public long sumAges() {
+        int[] ages = this.ages;
+        long sum = 0;
+        for (int i = 0; i < this.size; i++) {
+            sum += ages[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Возвращает количество записей с возрастом в диапазоне [minAge, maxAge] без ветвлений в цикле.
+     *
+     * @param minAge минимальный возраст (включительно)
+     * @param maxAge максимальный возраст (включительно)
+     * @return количество подходящих записей
+     */
+    public int countAgeBetween(int minAge, int maxAge) {
+        if (minAge > maxAge) {
+            return 0;
+        }
+        int[] ages = this.ages;
+        int width = maxAge - minAge;
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            count += Integer.compareUnsigned(ages[i] - minAge, width) <= 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает индексы записей с возрастом в диапазоне [minAge, maxAge] в порядке возрастания.
+     *
+     * @param minAge минимальный возраст (включительно)
+     * @param maxAge максимальный возраст (включительно)
+     * @return список индексов подходящих записей
+     */
+    public IntCustomArrayList indicesOfAgeBetween(int minAge, int maxAge) {
+        IntCustomArrayList indices = new IntCustomArrayList();
+        for (int i = 0; i < this.size; i++) {
+            if (this.ages[i] >= minAge && this.ages[i] <= maxAge) {
+                indices.addInt(i);
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Возвращает количество записей с указанным именем. Имя ищется в словаре один раз,
+     * после чего колонка сканируется сравнением целых чисел.
+     *
+     * @param name искомое имя
+     * @return количество записей с этим именем
+     */
+    public int countName(String name) {
+        int id = findNameId(name);
+        if (id == NULL_NAME && name != null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            count += this.nameColumn[i] == id ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает количество различных имен в словаре.
+     *
+     * @return размер словаря имен
+     */
+    public int distinctNames() {
+        return this.nameCount;
+    }
+
+    /**
+     * Проверяет, есть ли в списке запись с такими же именем и возрастом.
+     *
+     * @param person искомая запись
+     * @return true, если запись найдена, иначе false
+     */
+    @Override
+    public boolean hasElement(Person person) {
+        return indexOf(person) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первой записи с такими же именем и возрастом.
+     *
+     * @param person искомая запись
+     * @return индекс первого вхождения или -1, если запись не найдена
+     */
+    @Override
+    public int indexOf(Person person) {
+        if (person == null) {
+            return -1;
+        }
+        int id = findNameId(person.getName());
+        if (id == NULL_NAME && person.getName() != null) {
+            return -1;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.ages[i] == person.getAge() && this.nameColumn[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последней записи с такими же именем и возрастом.
+     *
+     * @param person искомая запись
+     * @return индекс последнего вхождения или -1, если запись не найдена
+     */
+    @Override
+    public int lastIndexOf(Person person) {
+        if (person == null) {
+            return -1;
+        }
+        int id = findNameId(person.getName());
+        if (id == NULL_NAME && person.getName() != null) {
+            return -1;
+        }
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.ages[i] == person.getAge() && this.nameColumn[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество записей в списке.
+     *
+     * @return количество записей в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private boolean matches(int index, Object element) {
+        if (!(element instanceof Person)) {
+            return false;
+        }
+        Person person = (Person) element;
+        return this.ages[index] == person.getAge() && Objects.equals(name(this.nameColumn[index]), person.getName());
+    }
+
+    private static long key(int nameId, int age) {
+        return ((long) nameId << 32) | (age & 0xFFFFFFFFL);
+    }
+
+    private int nameId(String name) {
+        if (name == null) {
+            return NULL_NAME;
+        }
+        Integer id = this.nameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (this.nameCount == this.names.length) {
+            this.names = Arrays.copyOf(this.names, GrowthPolicy.ONE_AND_HALF.grow(this.nameCount, this.nameCount + 1));
+        }
+        this.names[this.nameCount] = name;
+        this.nameIds.put(name, this.nameCount);
+        return this.nameCount++;
+    }
+
+    private int findNameId(String name) {
+        if (name == null) {
+            return NULL_NAME;
+        }
+        Integer id = this.nameIds.get(name);
+        return id == null ? NULL_NAME : id;
+    }
+
+    private String name(int id) {
+        return id == NULL_NAME ? null : this.names[id];
+    }
+
+    private void ensureCapacity() {
+        if (this.size == this.capacity) {
+            int minCapacity = this.size + 1;
+            if (minCapacity < 0) {
+                throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+            }
+            int newCapacity = this.growthPolicy.grow(this.capacity, minCapacity);
+            if (newCapacity < minCapacity) {
+                throw new IllegalStateException("Growth policy returned capacity " + newCapacity
+                        + " less than required " + minCapacity);
+            }
+            resize(newCapacity);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        this.capacity = newCapacity;
+        this.ages = Arrays.copyOf(this.ages, newCapacity);
+        this.nameColumn = Arrays.copyOf(this.nameColumn, newCapacity);
+    }
+
+    private void removeByIndex(int index) {
+        System.arraycopy(this.ages, index + 1, this.ages, index, this.size - index - 1);
+        System.arraycopy(this.nameColumn, index + 1, this.nameColumn, index, this.size - index - 1);
+        this.size--;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Класс RingBufferCustomList представляет собой двусторонний список на основе кольцевого массива.
+ * Элементы занимают непрерывный по модулю емкости участок, начинающийся с индекса head, поэтому добавление
+ * и удаление в начале и в конце списка выполняются за O(1) без сдвига остальных элементов,
+ * а get(i) вычисляет позицию в массиве переносом индекса через границу.
+ * Вставка и удаление по индексу сдвигают меньшую из двух частей списка.
+ * Рост (GrowthPolicy), reserve и trimCapacityToSize ведут себя так же, как у CustomArrayList.
+ * Реализует интерфейс CustomList.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class RingBufferCustomList<T> implements CustomList<T> {
+    private Object[] data;
+    private int head;
+    private int size;
+    private GrowthPolicy growthPolicy = GrowthPolicy.ONE_AND_HALF;
+
+    /**
+     * Конструктор без параметров, создает экземпляр RingBufferCustomList с емкостью по умолчанию (10).
+     */
+    public RingBufferCustomList() {
+        this(DEFAULT_BASE_CAPACITY);
+    }
+
+    /**
+     * Конструктор с параметром, создает экземпляр RingBufferCustomList с указанной начальной емкостью.
+     *
+     * @param capacity начальная емкость списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public RingBufferCustomList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.data = new Object[capacity];
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить
+     */
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Добавляет элемент в начало списка за O(1).
+     *
+     * @param element элемент, который нужно добавить
+     */
+    public void addFirst(T element) {
+        ensureCapacity(this.size + 1);
+        this.head = this.head == 0 ? this.data.length - 1 : this.head - 1;
+        this.data[this.head] = element;
+        this.size++;
+    }
+
+    /**
+     * Добавляет элемент в конец списка за O(1).
+     *
+     * @param element элемент, который нужно добавить
+     */
+    public void addLast(T element) {
+        ensureCapacity(this.size + 1);
+        this.data[position(this.size)] = element;
+        this.size++;
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу. Сдвигается меньшая из частей списка:
+     * элементы до индекса - на одну позицию к началу или элементы после индекса - на одну позицию к концу.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        ensureCapacity(this.size + 1);
+        if (index < this.size / 2) {
+            this.head = this.head == 0 ? this.data.length - 1 : this.head - 1;
+            for (int i = 0; i < index; i++) {
+                this.data[position(i)] = this.data[position(i + 1)];
+            }
+        } else {
+            for (int i = this.size; i > index; i--) {
+                this.data[position(i)] = this.data[position(i - 1)];
+            }
+        }
+        this.data[position(index)] = element;
+        this.size++;
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) this.data[position(index)];
+    }
+
+    /**
+     * Возвращает первый элемент списка.
+     *
+     * @return первый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        checkNotEmpty();
+        return (T) this.data[this.head];
+    }
+
+    /**
+     * Возвращает последний элемент списка.
+     *
+     * @return последний элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        checkNotEmpty();
+        return (T) this.data[position(this.size - 1)];
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент списка за O(1).
+     *
+     * @return удаленный элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        checkNotEmpty();
+        T element = (T) this.data[this.head];
+        this.data[this.head] = null;
+        this.head = position(1);
+        this.size--;
+        return element;
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент списка за O(1).
+     *
+     * @return удаленный элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        checkNotEmpty();
+        int last = position(this.size - 1);
+        T element = (T) this.data[last];
+        this.data[last] = null;
+        this.size--;
+        return element;
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу, сдвигая меньшую из частей списка.
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка (сохраняет текущую вместимость)
+     */
+    @Override
+    public void removeAll() {
+        Arrays.fill(this.data, null);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход.
+     *
+     * @param filter условие удаления
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int write = 0;
+        for (int read = 0; read < this.size; read++) {
+            Object element = this.data[position(read)];
+            if (!filter.test((T) element)) {
+                this.data[position(write++)] = element;
+            }
+        }
+        if (write == this.size) {
+            return false;
+        }
+        for (int i = write; i < this.size; i++) {
+            this.data[position(i)] = null;
+        }
+        this.size = write;
+        return true;
+    }
+
+    /**
+     * Увеличивает вместимость списка ровно до minCapacity, если текущая вместимость меньше.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > this.data.length) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Устанавливает политику роста, применяемую при последующих заполнениях списка.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если политика равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy cannot be null");
+    }
+
+    /**
+     * Урезает вместимость списка до текущего количества элементов в списке
+     * (пустой список сохраняет емкость не больше емкости по умолчанию).
+     */
+    @Override
+    public void trimCapacityToSize() {
+        resize(this.size == 0 ? Math.min(this.data.length, DEFAULT_BASE_CAPACITY) : this.size);
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе (интроспективная сортировка).
+     * Если элементы переходят через границу массива, они предварительно переносятся в начало массива.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        if (this.head + this.size > this.data.length) {
+            resize(this.data.length);
+        }
+        ArraySorts.introSort((T[]) this.data, this.head, this.head + this.size, comp);
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.data[position(i)].equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Позиция логического индекса в массиве с переносом через границу (без деления).
+     */
+    private int position(int index) {
+        int position = this.head + index;
+        return position >= this.data.length ? position - this.data.length : position;
+    }
+
+    private void removeByIndex(int index) {
+        if (index < this.size / 2) {
+            for (int i = index; i > 0; i--) {
+                this.data[position(i)] = this.data[position(i - 1)];
+            }
+            this.data[this.head] = null;
+            this.head = position(1);
+        } else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.data[position(i)] = this.data[position(i + 1)];
+            }
+            this.data[position(this.size - 1)] = null;
+        }
+        this.size--;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        if (minCapacity > this.data.length) {
+            int newCapacity = this.growthPolicy.grow(this.data.length, minCapacity);
+            if (newCapacity < minCapacity) {
+                throw new IllegalStateException("Growth policy returned capacity " + newCapacity
+                        + " less than required " + minCapacity);
+            }
+            resize(newCapacity);
+        }
+    }
+
+    /**
+     * Переносит элементы в новый массив указанной емкости, начиная с нулевой позиции (двумя блоками, если
+     * элементы переходят через границу массива).
+     */
+    private void resize(int newCapacity) {
+        Object[] newData = new Object[newCapacity];
+        int firstPart = Math.min(this.size, this.data.length - this.head);
+        System.arraycopy(this.data, this.head, newData, 0, firstPart);
+        System.arraycopy(this.data, 0, newData, firstPart, this.size - firstPart);
+        this.data = newData;
+        this.head = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
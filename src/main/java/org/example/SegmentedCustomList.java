@@ -0,0 +1,306 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Класс SegmentedCustomList представляет собой список, хранящий элементы в геометрически растущих сегментах.
+ * Сегмент k вмещает 16 * 2^k элементов, а каталог сегментов имеет фиксированный размер,
+ * поэтому при росте списка выделяется только новый сегмент и ранее добавленные элементы не копируются.
+ * Реализует интерфейс CustomList.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class SegmentedCustomList<T> implements CustomList<T> {
+    private final Object[][] segments;
+    private int capacity;
+    private int size;
+
+    /**
+     * Конструктор без параметров, создает пустой список. Первый сегмент выделяется при первом добавлении.
+     */
+    public SegmentedCustomList() {
+        this.segments = new Object[Segments.MAX_SEGMENTS][];
+        this.capacity = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     * Если на момент добавления список заполнен, выделяет следующий сегмент без копирования данных.
+     *
+     * @param element элемент, который нужно добавить
+     */
+    @Override
+    public void add(T element) {
+        ensureCapacity();
+        this.segments[Segments.segment(this.size)][Segments.offset(this.size)] = element;
+        this.size++;
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу.
+     * Элементы сдвигаются внутри каждого сегмента одним копированием, а последний элемент сегмента
+     * переносится в начало следующего.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        ensureCapacity();
+        int firstSegment = Segments.segment(index);
+        int lastSegment = Segments.segment(this.size);
+        Object carry = element;
+        for (int segment = firstSegment; segment <= lastSegment; segment++) {
+            Object[] elements = this.segments[segment];
+            int start = segment == firstSegment ? Segments.offset(index) : 0;
+            int end = segment == lastSegment ? Segments.offset(this.size) : elements.length - 1;
+            Object pushedOut = elements[end];
+            System.arraycopy(elements, start, elements, start + 1, end - start);
+            elements[start] = carry;
+            carry = pushedOut;
+        }
+        this.size++;
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return element(index);
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет элементы с индексами от fromIndex (включительно) до toIndex (не включительно) за один проход.
+     *
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex   индекс, следующий за последним удаляемым элементом
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > this.size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        int write = fromIndex;
+        for (int read = toIndex; read < this.size; read++) {
+            setElement(write++, element(read));
+        }
+        truncate(write);
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход с уплотнением сегментов.
+     *
+     * @param filter условие удаления
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = this.size;
+        int write = 0;
+        for (int read = 0; read < oldSize; read++) {
+            T element = element(read);
+            if (!filter.test(element)) {
+                setElement(write++, element);
+            }
+        }
+        truncate(write);
+        return write != oldSize;
+    }
+
+    /**
+     * Удаляет все элементы из списка (сохраняет выделенные сегменты)
+     */
+    @Override
+    public void removeAll() {
+        truncate(0);
+    }
+
+    /**
+     * Заранее выделяет сегменты, достаточные для хранения minCapacity элементов.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля или больше максимального размера списка
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > Segments.MAX_SIZE) {
+            throw new IllegalArgumentException("Capacity must be between 0 and " + Segments.MAX_SIZE);
+        }
+        while (this.capacity < minCapacity) {
+            allocateSegment(Segments.segment(this.capacity));
+        }
+    }
+
+    /**
+     * Освобождает сегменты после последнего элемента и урезает последний занятый сегмент до фактического
+     * количества элементов в нем. Копируется только этот сегмент.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        int usedSegments = Segments.segmentsFor(this.size);
+        for (int segment = usedSegments; segment < this.segments.length; segment++) {
+            this.segments[segment] = null;
+        }
+        if (usedSegments > 0) {
+            int lastSegment = usedSegments - 1;
+            int used = Segments.offset(this.size - 1) + 1;
+            if (this.segments[lastSegment].length > used) {
+                this.segments[lastSegment] = Arrays.copyOf(this.segments[lastSegment], used);
+            }
+        }
+        this.capacity = this.size;
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе.
+     * Элементы копируются в непрерывный массив, сортируются интроспективной сортировкой и записываются обратно.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        T[] elements = (T[]) new Object[this.size];
+        for (int segment = 0, start = 0; start < this.size; start += Segments.capacity(segment++)) {
+            int length = Math.min(Segments.capacity(segment), this.size - start);
+            System.arraycopy(this.segments[segment], 0, elements, start, length);
+        }
+        ArraySorts.introSort(elements, 0, this.size, comp);
+        for (int segment = 0, start = 0; start < this.size; start += Segments.capacity(segment++)) {
+            int length = Math.min(Segments.capacity(segment), this.size - start);
+            System.arraycopy(elements, start, this.segments[segment], 0, length);
+        }
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int segment = 0, start = 0; start < this.size; start += Segments.capacity(segment++)) {
+            Object[] elements = this.segments[segment];
+            int length = Math.min(Segments.capacity(segment), this.size - start);
+            for (int i = 0; i < length; i++) {
+                if (elements[i].equals(element)) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private void ensureCapacity() {
+        if (this.size == this.capacity) {
+            if (this.size == Segments.MAX_SIZE) {
+                throw new IllegalStateException("List is full");
+            }
+            allocateSegment(Segments.segment(this.size));
+        }
+    }
+
+    private void allocateSegment(int segment) {
+        Object[] elements = this.segments[segment];
+        if (elements == null) {
+            this.segments[segment] = new Object[Segments.capacity(segment)];
+        } else {
+            this.segments[segment] = Arrays.copyOf(elements, Segments.capacity(segment));
+        }
+        this.capacity = Segments.start(segment) + Segments.capacity(segment);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) this.segments[Segments.segment(index)][Segments.offset(index)];
+    }
+
+    private void setElement(int index, T element) {
+        this.segments[Segments.segment(index)][Segments.offset(index)] = element;
+    }
+
+    private void removeByIndex(int index) {
+        int firstSegment = Segments.segment(index);
+        int lastSegment = Segments.segment(this.size - 1);
+        for (int segment = firstSegment; segment <= lastSegment; segment++) {
+            Object[] elements = this.segments[segment];
+            int start = segment == firstSegment ? Segments.offset(index) : 0;
+            int end = segment == lastSegment ? Segments.offset(this.size - 1) : elements.length - 1;
+            System.arraycopy(elements, start + 1, elements, start, end - start);
+            elements[end] = segment == lastSegment ? null : this.segments[segment + 1][0];
+        }
+        this.size--;
+    }
+
+    private void truncate(int newSize) {
+        for (int index = newSize; index < this.size; index++) {
+            setElement(index, null);
+        }
+        this.size = newSize;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
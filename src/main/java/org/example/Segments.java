@@ -0,0 +1,40 @@
+package org.example;
+
+/**
+ * Адресация элементов в сегментированных списках с геометрически растущими сегментами.
+ * Сегмент k имеет емкость FIRST_SEGMENT_CAPACITY * 2^k, поэтому каталог из MAX_SEGMENTS ссылок
+ * покрывает весь диапазон индексов int и никогда не перевыделяется.
+ */
+final class Segments {
+    static final int FIRST_SEGMENT_SHIFT = 4;
+    static final int FIRST_SEGMENT_CAPACITY = 1 << FIRST_SEGMENT_SHIFT;
+    static final int MAX_SEGMENTS = 31 - FIRST_SEGMENT_SHIFT;
+    static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_CAPACITY;
+
+    private Segments() {
+    }
+
+    static int segment(int index) {
+        return 31 - Integer.numberOfLeadingZeros(index + FIRST_SEGMENT_CAPACITY) - FIRST_SEGMENT_SHIFT;
+    }
+
+    static int offset(int index) {
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        return position - Integer.highestOneBit(position);
+    }
+
+    static int capacity(int segment) {
+        return FIRST_SEGMENT_CAPACITY << segment;
+    }
+
+    static int start(int segment) {
+        return (FIRST_SEGMENT_CAPACITY << segment) - FIRST_SEGMENT_CAPACITY;
+    }
+
+    /**
+     * Возвращает количество сегментов, необходимых для хранения указанного количества элементов.
+     */
+    static int segmentsFor(int size) {
+        return size == 0 ? 0 : segment(size - 1) + 1;
+    }
+}
@@ -0,0 +1,570 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Класс SortedCustomList представляет собой список, всегда упорядоченный по заданному компаратору.
+ * Добавление находит позицию двоичным поиском и сдвигает хвост одним копированием массива,
+ * поэтому повторная сортировка после каждого добавления не нужна.
+ * Поиск (hasElement, indexOf, lastIndexOf, floor, ceiling, lower, higher) выполняется за O(log n);
+ * среди элементов, равных по компаратору, нужный элемент ищется через equals.
+ * Равные по компаратору элементы хранятся в порядке добавления.
+ * Реализует интерфейс CustomList.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class SortedCustomList<T> implements CustomList<T> {
+    private Comparator<? super T> comparator;
+    private int capacity;
+    private int size;
+    private T[] data;
+    private GrowthPolicy growthPolicy = GrowthPolicy.ONE_AND_HALF;
+    private int modCount;
+
+    /**
+     * Конструктор с компаратором, создает пустой список с емкостью по умолчанию (10).
+     *
+     * @param comparator компаратор, задающий порядок элементов
+     */
+    public SortedCustomList(Comparator<? super T> comparator) {
+        this(comparator, DEFAULT_BASE_CAPACITY);
+    }
+
+    /**
+     * Конструктор с компаратором и начальной емкостью.
+     *
+     * @param comparator компаратор, задающий порядок элементов
+     * @param capacity   начальная емкость списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    @SuppressWarnings("unchecked")
+    public SortedCustomList(Comparator<? super T> comparator, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.comparator = Objects.requireNonNull(comparator, "Comparator cannot be null");
+        this.capacity = capacity;
+        this.data = (T[]) new Object[this.capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент на его место в порядке сортировки (после всех равных ему элементов).
+     *
+     * @param element элемент, который нужно добавить
+     */
+    @Override
+    public void add(T element) {
+        ensureCapacity(this.size + 1);
+        int index = upperBound(element);
+        System.arraycopy(this.data, index, this.data, index + 1, this.size - index);
+        this.data[index] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Добавляет элемент по указанному индексу, если это не нарушает порядок сортировки.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     * @throws IllegalArgumentException если элемент на этой позиции нарушит порядок сортировки
+     */
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        if ((index > 0 && this.comparator.compare(this.data[index - 1], element) > 0)
+                || this.comparator.compare(element, this.data[index]) > 0) {
+            throw new IllegalArgumentException("Element at index " + index + " breaks the sort order");
+        }
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.data, index, this.data, index + 1, this.size - index);
+        this.data[index] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Добавляет все элементы коллекции. Пакет сортируется отдельно (стабильно) и сливается со списком
+     * за один проход с конца массива, поэтому каждый элемент списка сдвигается не более одного раза.
+     *
+     * @param elements коллекция добавляемых элементов
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? extends T> elements) {
+        mergeBatch((T[]) elements.toArray());
+    }
+
+    /**
+     * Добавляет все элементы массива одним слиянием (см. {@link #addAll(Collection)}).
+     * Переданный массив не изменяется.
+     *
+     * @param elements массив добавляемых элементов
+     */
+    @Override
+    public void addAll(T[] elements) {
+        mergeBatch(Arrays.copyOf(elements, elements.length));
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return this.data[index];
+    }
+
+    /**
+     * Удаляет первое вхождение элемента. Позиция находится двоичным поиском.
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка (сохраняет текущую вместимость)
+     */
+    @Override
+    public void removeAll() {
+        Arrays.fill(this.data, 0, this.size, null);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Удаляет элементы с индексами от fromIndex (включительно) до toIndex (не включительно).
+     *
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex   индекс, следующий за последним удаляемым элементом
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > this.size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        System.arraycopy(this.data, toIndex, this.data, fromIndex, this.size - toIndex);
+        int newSize = this.size - (toIndex - fromIndex);
+        Arrays.fill(this.data, newSize, this.size, null);
+        this.size = newSize;
+        this.modCount++;
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход. Порядок оставшихся элементов сохраняется.
+     *
+     * @param filter условие удаления
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = this.size;
+        int read = 0;
+        int write = 0;
+        try {
+            for (; read < oldSize; read++) {
+                T element = this.data[read];
+                if (!filter.test(element)) {
+                    this.data[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(this.data, read, this.data, write, oldSize - read);
+            write += oldSize - read;
+            Arrays.fill(this.data, write, oldSize, null);
+            if (write != oldSize) {
+                this.size = write;
+                this.modCount++;
+            }
+        }
+        return this.size != oldSize;
+    }
+
+    /**
+     * Увеличивает вместимость списка ровно до minCapacity, если текущая вместимость меньше.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity > this.capacity) {
+            this.capacity = minCapacity;
+            this.data = Arrays.copyOf(this.data, this.capacity);
+        }
+    }
+
+    /**
+     * Устанавливает политику роста, применяемую при последующих заполнениях списка.
+     *
+     * @param growthPolicy политика роста
+     * @throws NullPointerException если политика равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy, "Growth policy cannot be null");
+    }
+
+    /**
+     * Урезает вместимость списка до текущего количества элементов в списке.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        this.capacity = this.size == 0 ? Math.min(this.capacity, DEFAULT_BASE_CAPACITY) : this.size;
+        this.data = Arrays.copyOf(this.data, this.capacity);
+    }
+
+    /**
+     * Пересортировывает список по новому компаратору, который становится порядком списка для последующих операций.
+     * Сортировка стабильна: элементы, равные по новому компаратору, сохраняют прежний взаимный порядок.
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    public void sort(Comparator<? super T> comp) {
+        this.comparator = Objects.requireNonNull(comp, "Comparator cannot be null");
+        ArraySorts.mergeSort(this.data, 0, this.size, comp);
+        this.modCount++;
+    }
+
+    /**
+     * Возвращает компаратор, задающий порядок списка.
+     *
+     * @return компаратор списка
+     */
+    public Comparator<? super T> comparator() {
+        return this.comparator;
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке, за O(log n).
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента: двоичный поиск первого равного по компаратору
+     * и проверка equals в диапазоне равных.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        int end = upperBound(element);
+        for (int i = lowerBound(element); i < end; i++) {
+            if (Objects.equals(this.data[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает индекс последнего вхождения элемента.
+     *
+     * @param element искомый элемент
+     * @return индекс последнего вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        int start = lowerBound(element);
+        for (int i = upperBound(element) - 1; i >= start; i--) {
+            if (Objects.equals(this.data[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает наибольший элемент, меньший или равный указанному.
+     *
+     * @param element граница поиска
+     * @return найденный элемент или null, если такого нет
+     */
+    public T floor(T element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? this.data[index] : null;
+    }
+
+    /**
+     * Возвращает наименьший элемент, больший или равный указанному.
+     *
+     * @param element граница поиска
+     * @return найденный элемент или null, если такого нет
+     */
+    public T ceiling(T element) {
+        int index = lowerBound(element);
+        return index < this.size ? this.data[index] : null;
+    }
+
+    /**
+     * Возвращает наибольший элемент, строго меньший указанного.
+     *
+     * @param element граница поиска
+     * @return найденный элемент или null, если такого нет
+     */
+    public T lower(T element) {
+        int index = lowerBound(element) - 1;
+        return index >= 0 ? this.data[index] : null;
+    }
+
+    /**
+     * Возвращает наименьший элемент, строго больший указанного.
+     *
+     * @param element граница поиска
+     * @return найденный элемент или null, если такого нет
+     */
+    public T higher(T element) {
+        int index = upperBound(element);
+        return index < this.size ? this.data[index] : null;
+    }
+
+    /**
+     * Возвращает представление только для чтения элементов из диапазона [fromElement, toElement).
+     * Границы находятся двоичным поиском; представление не копирует элементы.
+     * После структурного изменения списка обращение к представлению приводит к ConcurrentModificationException.
+     *
+     * @param fromElement нижняя граница (включительно)
+     * @param toElement   верхняя граница (не включительно)
+     * @return представление диапазона
+     * @throws IllegalArgumentException если fromElement больше toElement
+     */
+    public CustomList<T> range(T fromElement, T toElement) {
+        if (this.comparator.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("From element is greater than to element");
+        }
+        return new RangeView(lowerBound(fromElement), lowerBound(toElement));
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int lowerBound(T element) {
+        return lowerBound(element, 0, this.size);
+    }
+
+    private int lowerBound(T element, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.comparator.compare(this.data[mid], element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(T element) {
+        return upperBound(element, 0, this.size);
+    }
+
+    private int upperBound(T element, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.comparator.compare(this.data[mid], element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void mergeBatch(T[] batch) {
+        if (batch.length == 0) {
+            return;
+        }
+        ArraySorts.mergeSort(batch, 0, batch.length, this.comparator);
+        ensureCapacity(this.size + batch.length);
+        int i = this.size - 1;
+        int j = batch.length - 1;
+        int write = this.size + batch.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && this.comparator.compare(this.data[i], batch[j]) > 0) {
+                this.data[write--] = this.data[i--];
+            } else {
+                this.data[write--] = batch[j--];
+            }
+        }
+        this.size += batch.length;
+        this.modCount++;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.capacity) {
+            if (minCapacity < 0) {
+                throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+            }
+            int newCapacity = this.growthPolicy.grow(this.capacity, minCapacity);
+            if (newCapacity < minCapacity) {
+                throw new IllegalStateException("Growth policy returned capacity " + newCapacity
+                        + " less than required " + minCapacity);
+            }
+            this.capacity = newCapacity;
+            this.data = Arrays.copyOf(this.data, this.capacity);
+        }
+    }
+
+    private void removeByIndex(int index) {
+        System.arraycopy(this.data, index + 1, this.data, index, this.size - index - 1);
+        this.data[--this.size] = null;
+        this.modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Представление диапазона [from, to) списка только для чтения.
+     */
+    private class RangeView implements CustomList<T> {
+        private final int from;
+        private final int to;
+        private final int expectedModCount;
+
+        RangeView(int from, int to) {
+            this.from = from;
+            this.to = to;
+            this.expectedModCount = SortedCustomList.this.modCount;
+        }
+
+        @Override
+        public void add(T element) {
+            throw readOnly();
+        }
+
+        @Override
+        public void add(T element, int index) {
+            throw readOnly();
+        }
+
+        @Override
+        public T get(int index) {
+            checkForComodification();
+            if (index < 0) {
+                throw new IllegalArgumentException("Index cannot be negative");
+            }
+            if (index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return SortedCustomList.this.data[this.from + index];
+        }
+
+        @Override
+        public void remove(T element) {
+            throw readOnly();
+        }
+
+        @Override
+        public void remove(int index) {
+            throw readOnly();
+        }
+
+        @Override
+        public void removeAll() {
+            throw readOnly();
+        }
+
+        @Override
+        public void reserve(int minCapacity) {
+            throw readOnly();
+        }
+
+        @Override
+        public void trimCapacityToSize() {
+            throw readOnly();
+        }
+
+        @Override
+        public void sort(Comparator<? super T> comp) {
+            throw readOnly();
+        }
+
+        @Override
+        public boolean hasElement(T element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public int indexOf(T element) {
+            checkForComodification();
+            int end = upperBound(element, this.from, this.to);
+            for (int i = lowerBound(element, this.from, this.to); i < end; i++) {
+                if (Objects.equals(SortedCustomList.this.data[i], element)) {
+                    return i - this.from;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return this.to - this.from;
+        }
+
+        private void checkForComodification() {
+            if (SortedCustomList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Range view is read-only");
+        }
+    }
+}
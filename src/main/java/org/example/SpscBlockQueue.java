@@ -0,0 +1,119 @@
+package org.example;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ограниченная очередь блоков для одного производителя и одного потребителя (SPSC).
+ * Производитель пишет элементы через {@link BatchWriter} ({@link #writer(int)}): заполненный буфер
+ * целиком передается в очередь без копирования, а писатель продолжает со свежим буфером.
+ * Потребитель в другом потоке забирает опубликованные блоки методом {@link #drainTo(CustomArrayList)},
+ * добавляя каждый блок в конец списка одним копированием.
+ * <p>
+ * Очередь - кольцевой массив слотов; индексы производителя и потребителя публикуются
+ * упорядоченной записью (lazySet), поэтому обмен блоком не требует блокировок.
+ * Если все слоты заняты, производитель ожидает, пока потребитель освободит слот: сначала в коротком
+ * цикле активного ожидания, затем уступая процессор (Thread.yield).
+ *
+ * @param <T> тип элементов
+ */
+public final class SpscBlockQueue<T> {
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final Object[][] blocks;
+    private final int[] lengths;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private volatile boolean closed;
+    private boolean writerCreated;
+
+    /**
+     * Создает очередь на указанное количество блоков (округляется вверх до степени двойки).
+     *
+     * @param capacity максимальное количество опубликованных, но еще не забранных блоков
+     * @throws IllegalArgumentException если емкость меньше единицы или больше 2^30
+     */
+    public SpscBlockQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int slots = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.blocks = new Object[slots][];
+        this.lengths = new int[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * Создает писатель производителя. Закрытие писателя закрывает очередь.
+     *
+     * @param batchSize размер блока
+     * @return пакетный писатель
+     * @throws IllegalStateException если писатель уже создан
+     */
+    public synchronized BatchWriter<T> writer(int batchSize) {
+        if (this.writerCreated) {
+            throw new IllegalStateException("Queue already has a producer");
+        }
+        BatchWriter<T> writer = new BatchWriter<>(batchSize, new BatchWriter.Sink() {
+            @Override
+            public Object[] publish(Object[] block, int length) {
+                offer(block, length);
+                return new Object[block.length];
+            }
+
+            @Override
+            public void closed() {
+                SpscBlockQueue.this.closed = true;
+            }
+        });
+        this.writerCreated = true;
+        return writer;
+    }
+
+    /**
+     * Забирает все опубликованные блоки и добавляет их элементы в конец списка. Вызывается только потребителем.
+     *
+     * @param target список, в который добавляются элементы
+     * @return количество добавленных элементов
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(CustomArrayList<? super T> target) {
+        long head = this.head.get();
+        long tail = this.tail.get();
+        int drained = 0;
+        for (; head < tail; head++) {
+            int slot = (int) head & this.mask;
+            Object[] block = this.blocks[slot];
+            int length = this.lengths[slot];
+            this.blocks[slot] = null;
+            ((CustomArrayList<Object>) target).appendBlock(block, length);
+            drained += length;
+            this.head.lazySet(head + 1);
+        }
+        return drained;
+    }
+
+    /**
+     * Проверяет, что производитель закрыл писатель и все опубликованные блоки забраны.
+     *
+     * @return true, если новых элементов больше не будет
+     */
+    public boolean isFinished() {
+        return this.closed && this.head.get() == this.tail.get();
+    }
+
+    private void offer(Object[] block, int length) {
+        long tail = this.tail.get();
+        for (int spins = 0; tail - this.head.get() > this.mask; spins++) {
+            if (spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        int slot = (int) tail & this.mask;
+        this.blocks[slot] = block;
+        this.lengths[slot] = length;
+        this.tail.lazySet(tail + 1);
+    }
+}
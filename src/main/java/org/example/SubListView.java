@@ -0,0 +1,241 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * Представление диапазона [fromIndex, toIndex) произвольного CustomList без копирования элементов.
+ * Чтение и изменения выполняются через методы исходного списка со смещением индекса.
+ * Изменение размера исходного списка в обход представления обнаруживается при следующем обращении
+ * и приводит к ConcurrentModificationException.
+ * Поиск сравнивает элементы через equals, если исходный список не передал собственное сравнение
+ * ({@link Matcher}) - оно нужно спискам, которые при каждом get создают новый объект.
+ *
+ * @param <T> тип элементов в списке
+ */
+final class SubListView<T> implements CustomList<T> {
+    private final CustomList<T> parent;
+    private final Matcher matcher;
+    private final int offset;
+    private int size;
+    private int expectedParentSize;
+
+    /**
+     * Сравнение элемента исходного списка, заданного индексом, с искомым значением.
+     */
+    interface Matcher {
+        boolean matches(int index, Object element);
+    }
+
+    SubListView(CustomList<T> parent, int fromIndex, int toIndex) {
+        this(parent, fromIndex, toIndex, null);
+    }
+
+    /**
+     * Создает представление, которое ищет элементы сравнением matcher по индексам исходного списка
+     * (null - сравнение через equals).
+     */
+    SubListView(CustomList<T> parent, int fromIndex, int toIndex, Matcher matcher) {
+        checkRange(fromIndex, toIndex, parent.size());
+        this.parent = parent;
+        this.matcher = matcher;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.expectedParentSize = parent.size();
+    }
+
+    static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        checkForComodification();
+        int end = this.offset + this.size;
+        if (end == this.parent.size()) {
+            this.parent.add(element);
+        } else {
+            this.parent.add(element, end);
+        }
+        changed(1);
+    }
+
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        this.parent.add(element, this.offset + index);
+        changed(1);
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return this.parent.get(this.offset + index);
+    }
+
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            remove(index);
+        }
+    }
+
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        this.parent.remove(this.offset + index);
+        changed(-1);
+    }
+
+    @Override
+    public void removeAll() {
+        checkForComodification();
+        this.parent.removeRange(this.offset, this.offset + this.size);
+        changed(-this.size);
+    }
+
+    /**
+     * Резервирует место в исходном списке под minCapacity элементов представления.
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        checkForComodification();
+        this.parent.reserve(this.expectedParentSize - this.size + minCapacity);
+    }
+
+    /**
+     * Представление не владеет емкостью, поэтому ничего не делает.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        checkForComodification();
+    }
+
+    /**
+     * Сортирует диапазон: элементы копируются во временный массив, сортируются и записываются на место диапазона.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        checkForComodification();
+        Object[] elements = new Object[this.size];
+        for (int i = 0; i < this.size; i++) {
+            elements[i] = this.parent.get(this.offset + i);
+        }
+        ArraySorts.introSort((T[]) elements, 0, elements.length, comp);
+        this.parent.removeRange(this.offset, this.offset + this.size);
+        if (this.offset == this.parent.size()) {
+            this.parent.addAll((T[]) elements);
+        } else {
+            this.parent.addAll(Arrays.asList((T[]) elements), this.offset);
+        }
+        this.expectedParentSize = this.parent.size();
+    }
+
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        checkForComodification();
+        for (int i = 0; i < this.size; i++) {
+            if (matches(i, element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(T element) {
+        checkForComodification();
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (matches(i, element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Оставляет в диапазоне только элементы, содержащиеся в переданной коллекции.
+     * С собственным сравнением исходного списка каждый элемент диапазона сверяется со всей коллекцией.
+     */
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        if (this.matcher == null) {
+            return CustomList.super.retainAll(elements);
+        }
+        checkForComodification();
+        boolean removed = false;
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (!matchesAny(i, elements)) {
+                remove(i);
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return this.size;
+    }
+
+    @Override
+    public CustomList<T> subList(int fromIndex, int toIndex) {
+        checkForComodification();
+        checkRange(fromIndex, toIndex, this.size);
+        return new SubListView<>(this, fromIndex, toIndex, this.matcher == null ? null : this::matches);
+    }
+
+    private boolean matches(int index, Object element) {
+        if (this.matcher != null) {
+            return this.matcher.matches(this.offset + index, element);
+        }
+        return Objects.equals(this.parent.get(this.offset + index), element);
+    }
+
+    private boolean matchesAny(int index, Collection<?> elements) {
+        for (Object element : elements) {
+            if (matches(index, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void changed(int delta) {
+        this.size += delta;
+        this.expectedParentSize = this.parent.size();
+    }
+
+    private void checkForComodification() {
+        if (this.parent.size() != this.expectedParentSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void checkIndex(int index) {
+        checkForComodification();
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
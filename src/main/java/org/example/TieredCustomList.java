@@ -0,0 +1,477 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Класс TieredCustomList представляет собой многоуровневый вектор (tiered vector): список хранится в блоках
+ * одинакового размера B (степень двойки), каждый блок - кольцевой буфер. Все блоки, кроме последнего, заполнены,
+ * поэтому get(i) находит блок и смещение за O(1) сдвигами.
+ * <p>
+ * Вставка и удаление по произвольному индексу сдвигают элементы только внутри одного блока (O(B)),
+ * а остальные блоки обмениваются крайними элементами за O(1) на блок (O(n / B)). Размер блока поддерживается
+ * около sqrt(n): когда блоков становится больше 2B, список перестраивается с блоками вдвое большего размера,
+ * так что правка в произвольном месте стоит O(sqrt n).
+ * Реализует интерфейс CustomList.
+ *
+ * @param <T> тип элементов в списке
+ */
+public class TieredCustomList<T> implements CustomList<T> {
+    private static final int MIN_BLOCK_SHIFT = 4;
+    private static final int MAX_BLOCK_SHIFT = 15;
+
+    private Block[] blocks;
+    private int blockCount;
+    private int blockShift;
+    private int size;
+
+    /**
+     * Конструктор без параметров, создает экземпляр TieredCustomList с емкостью по умолчанию (10).
+     */
+    public TieredCustomList() {
+        this(DEFAULT_BASE_CAPACITY);
+    }
+
+    /**
+     * Конструктор с параметром, создает экземпляр TieredCustomList, размер блоков которого рассчитан
+     * на указанную емкость.
+     *
+     * @param capacity ожидаемая емкость списка
+     * @throws IllegalArgumentException если начальная емкость меньше нуля
+     */
+    public TieredCustomList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        this.blockShift = shiftFor(capacity);
+        this.blocks = new Block[0];
+    }
+
+    /**
+     * Добавляет элемент в конец списка.
+     *
+     * @param element элемент, который нужно добавить
+     */
+    @Override
+    public void add(T element) {
+        ensureRoom();
+        this.blocks[this.blockCount - 1].addLast(element);
+        this.size++;
+    }
+
+    /**
+     * Добавляет элемент в список по указанному индексу. Каждый следующий блок отдает свой последний элемент
+     * в начало следующего блока, после чего элемент вставляется в свой блок.
+     *
+     * @param element элемент, который нужно добавить
+     * @param index   индекс, по которому будет добавлен элемент
+     */
+    @Override
+    public void add(T element, int index) {
+        checkIndex(index);
+        ensureRoom();
+        int block = index >>> this.blockShift;
+        for (int i = this.blockCount - 1; i > block; i--) {
+            this.blocks[i].addFirst(this.blocks[i - 1].removeLast());
+        }
+        this.blocks[block].insert(index & blockMask(), element);
+        this.size++;
+    }
+
+    /**
+     * Извлекает элемент из списка по указанному индексу.
+     *
+     * @param index индекс элемента, который нужно получить
+     * @return элемент, находящийся по указанному индексу
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) this.blocks[index >>> this.blockShift].get(index & blockMask());
+    }
+
+    /**
+     * Удаляет первое вхождение элемента из списка (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element элемент, который нужно удалить
+     */
+    @Override
+    public void remove(T element) {
+        int index = indexOf(element);
+        if (index >= 0) {
+            removeByIndex(index);
+        }
+    }
+
+    /**
+     * Удаляет элемент из списка по его индексу. Освободившееся место в блоке заполняется первым элементом
+     * следующего блока, и так до последнего блока.
+     *
+     * @param index индекс, по которому находится элемент для удаления
+     */
+    @Override
+    public void remove(int index) {
+        checkIndex(index);
+        removeByIndex(index);
+    }
+
+    /**
+     * Удаляет все элементы из списка (выделенные блоки сохраняются)
+     */
+    @Override
+    public void removeAll() {
+        for (int i = 0; i < this.blockCount; i++) {
+            this.blocks[i].clear();
+        }
+        this.blockCount = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Удаляет элементы с индексами от fromIndex (включительно) до toIndex (не включительно) за один проход.
+     *
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex   индекс, следующий за последним удаляемым элементом
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > this.size) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + this.size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Object[] elements = toArray();
+        System.arraycopy(elements, toIndex, elements, fromIndex, this.size - toIndex);
+        refill(elements, this.size - (toIndex - fromIndex));
+    }
+
+    /**
+     * Удаляет все элементы, удовлетворяющие условию, за один проход.
+     *
+     * @param filter условие удаления
+     * @return true, если был удален хотя бы один элемент, иначе false
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        Object[] elements = toArray();
+        int write = 0;
+        for (int read = 0; read < this.size; read++) {
+            if (!filter.test((T) elements[read])) {
+                elements[write++] = elements[read];
+            }
+        }
+        if (write == this.size) {
+            return false;
+        }
+        refill(elements, write);
+        return true;
+    }
+
+    /**
+     * Выделяет блоки так, чтобы в списке поместилось не менее minCapacity элементов.
+     * Если для такой емкости блоки слишком малы, список перестраивается с блоками большего размера.
+     *
+     * @param minCapacity минимальная необходимая вместимость
+     * @throws IllegalArgumentException если minCapacity меньше нуля
+     */
+    @Override
+    public void reserve(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be less 0");
+        }
+        if (minCapacity <= capacity()) {
+            return;
+        }
+        int shift = Math.max(this.blockShift, shiftFor(minCapacity));
+        if (shift != this.blockShift) {
+            rebuild(shift);
+        }
+        int requiredBlocks = (int) ((minCapacity + (long) blockMask()) >>> this.blockShift);
+        if (requiredBlocks > this.blocks.length) {
+            this.blocks = Arrays.copyOf(this.blocks, requiredBlocks);
+        }
+        for (int i = 0; i < requiredBlocks; i++) {
+            if (this.blocks[i] == null) {
+                this.blocks[i] = new Block(1 << this.blockShift);
+            }
+        }
+    }
+
+    /**
+     * Урезает вместимость списка: размер блоков пересчитывается по текущему количеству элементов,
+     * незанятые блоки освобождаются.
+     */
+    @Override
+    public void trimCapacityToSize() {
+        rebuild(shiftFor(this.size));
+        this.blocks = Arrays.copyOf(this.blocks, this.blockCount);
+    }
+
+    /**
+     * Сортирует все элементы списка согласно условию в компараторе (интроспективная сортировка
+     * во временном массиве, после чего элементы раскладываются по блокам заново).
+     *
+     * @param comp компаратор, на основе которого происходит сортировка
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comp) {
+        T[] elements = (T[]) toArray();
+        ArraySorts.introSort(elements, 0, this.size, comp);
+        refill(elements, this.size);
+    }
+
+    /**
+     * Проверяет, находится ли объект в списке (в классе элемента должен быть корректно реализован equals)
+     *
+     * @param element искомый элемент
+     * @return true, если искомый элемент найден в списке, иначе false
+     */
+    @Override
+    public boolean hasElement(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения элемента в список (блоки просматриваются по порядку).
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1, если элемент не найден
+     */
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0; i < this.blockCount; i++) {
+            Block block = this.blocks[i];
+            for (int j = 0; j < block.count; j++) {
+                if (block.get(j).equals(element)) {
+                    return (i << this.blockShift) + j;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return количество элементов в списке
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int blockMask() {
+        return (1 << this.blockShift) - 1;
+    }
+
+    private int capacity() {
+        int allocated = 0;
+        while (allocated < this.blocks.length && this.blocks[allocated] != null) {
+            allocated++;
+        }
+        return allocated << this.blockShift;
+    }
+
+    /**
+     * Минимальный сдвиг s, при котором 2^s * 2^s блоков вмещают capacity элементов.
+     */
+    private static int shiftFor(int capacity) {
+        int bits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(capacity - 1, 0));
+        return Math.min(MAX_BLOCK_SHIFT, Math.max(MIN_BLOCK_SHIFT, (bits + 1) / 2));
+    }
+
+    /**
+     * Гарантирует свободное место в последнем блоке: при необходимости увеличивает размер блоков
+     * или добавляет новый блок.
+     */
+    private void ensureRoom() {
+        if (this.size < this.blockCount << this.blockShift) {
+            return;
+        }
+        if (this.blockCount >= 2 << this.blockShift && this.blockShift < MAX_BLOCK_SHIFT) {
+            rebuild(this.blockShift + 1);
+            if (this.size < this.blockCount << this.blockShift) {
+                return;
+            }
+        }
+        if (this.size == Integer.MAX_VALUE) {
+            throw new OutOfMemoryError("Required capacity exceeds maximum array size");
+        }
+        if (this.blockCount == this.blocks.length) {
+            this.blocks = Arrays.copyOf(this.blocks, Math.max(4, this.blocks.length * 2));
+        }
+        if (this.blocks[this.blockCount] == null) {
+            this.blocks[this.blockCount] = new Block(1 << this.blockShift);
+        }
+        this.blockCount++;
+    }
+
+    private void removeByIndex(int index) {
+        int block = index >>> this.blockShift;
+        this.blocks[block].removeAt(index & blockMask());
+        for (int i = block + 1; i < this.blockCount; i++) {
+            this.blocks[i - 1].addLast(this.blocks[i].removeFirst());
+        }
+        this.size--;
+        if (this.blocks[this.blockCount - 1].count == 0) {
+            this.blockCount--;
+        }
+    }
+
+    private Object[] toArray() {
+        Object[] elements = new Object[this.size];
+        for (int i = 0; i < this.blockCount; i++) {
+            this.blocks[i].copyTo(elements, i << this.blockShift);
+        }
+        return elements;
+    }
+
+    /**
+     * Раскладывает элементы по блокам заново с блоками размера 2^shift.
+     */
+    private void rebuild(int shift) {
+        Object[] elements = toArray();
+        this.blockShift = shift;
+        this.blocks = new Block[0];
+        this.blockCount = 0;
+        refill(elements, elements.length);
+    }
+
+    /**
+     * Записывает первые length элементов массива в блоки текущего размера, переиспользуя выделенные блоки.
+     */
+    private void refill(Object[] elements, int length) {
+        int blockSize = 1 << this.blockShift;
+        int requiredBlocks = (length + blockSize - 1) >>> this.blockShift;
+        if (requiredBlocks > this.blocks.length) {
+            this.blocks = Arrays.copyOf(this.blocks, requiredBlocks);
+        }
+        for (int i = 0; i < this.blockCount; i++) {
+            this.blocks[i].clear();
+        }
+        for (int i = 0; i < requiredBlocks; i++) {
+            if (this.blocks[i] == null) {
+                this.blocks[i] = new Block(blockSize);
+            }
+            int offset = i << this.blockShift;
+            this.blocks[i].fill(elements, offset, Math.min(blockSize, length - offset));
+        }
+        this.blockCount = requiredBlocks;
+        this.size = length;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+
+        if (index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Блок - кольцевой буфер фиксированной емкости (степень двойки). Вставка и удаление внутри блока
+     * сдвигают меньшую из двух частей.
+     */
+    private static final class Block {
+        private final Object[] elements;
+        private final int mask;
+        private int head;
+        private int count;
+
+        Block(int capacity) {
+            this.elements = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        Object get(int index) {
+            return this.elements[(this.head + index) & this.mask];
+        }
+
+        private void set(int index, Object element) {
+            this.elements[(this.head + index) & this.mask] = element;
+        }
+
+        void addFirst(Object element) {
+            this.head = (this.head - 1) & this.mask;
+            this.elements[this.head] = element;
+            this.count++;
+        }
+
+        void addLast(Object element) {
+            this.elements[(this.head + this.count) & this.mask] = element;
+            this.count++;
+        }
+
+        Object removeFirst() {
+            Object element = this.elements[this.head];
+            this.elements[this.head] = null;
+            this.head = (this.head + 1) & this.mask;
+            this.count--;
+            return element;
+        }
+
+        Object removeLast() {
+            int last = (this.head + this.count - 1) & this.mask;
+            Object element = this.elements[last];
+            this.elements[last] = null;
+            this.count--;
+            return element;
+        }
+
+        void insert(int index, Object element) {
+            if (index < this.count / 2) {
+                this.head = (this.head - 1) & this.mask;
+                for (int i = 0; i < index; i++) {
+                    set(i, get(i + 1));
+                }
+            } else {
+                for (int i = this.count; i > index; i--) {
+                    set(i, get(i - 1));
+                }
+            }
+            set(index, element);
+            this.count++;
+        }
+
+        void removeAt(int index) {
+            if (index < this.count / 2) {
+                for (int i = index; i > 0; i--) {
+                    set(i, get(i - 1));
+                }
+                this.elements[this.head] = null;
+                this.head = (this.head + 1) & this.mask;
+            } else {
+                for (int i = index; i < this.count - 1; i++) {
+                    set(i, get(i + 1));
+                }
+                set(this.count - 1, null);
+            }
+            this.count--;
+        }
+
+        void copyTo(Object[] target, int offset) {
+            for (int i = 0; i < this.count; i++) {
+                target[offset + i] = get(i);
+            }
+        }
+
+        void fill(Object[] source, int offset, int length) {
+            this.head = 0;
+            System.arraycopy(source, offset, this.elements, 0, length);
+            this.count = length;
+        }
+
+        void clear() {
+            Arrays.fill(this.elements, null);
+            this.head = 0;
+            this.count = 0;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * Ограниченный сборщик k первых по компаратору элементов (наименьших, если компаратор - естественный порядок).
+ * Хранит не больше k элементов в двоичной куче, на вершине которой худший из отобранных;
+ * новый элемент сравнивается с вершиной и в большинстве случаев отбрасывается одним сравнением.
+ * Отбор из n элементов стоит O(n * log k) в худшем случае и O(n) при случайном порядке, память - O(k).
+ * Источник не изменяется и не копируется, поэтому сборщик подходит и для потоков ({@link #collector(int, Comparator)}).
+ *
+ * @param <T> тип элементов
+ */
+public final class TopK<T> {
+    private final Object[] heap;
+    private final Comparator<? super T> comp;
+    private int size;
+
+    /**
+     * Создает пустой сборщик.
+     *
+     * @param k    максимальное количество отбираемых элементов
+     * @param comp компаратор, задающий порядок отбора
+     * @throws IllegalArgumentException если k меньше нуля
+     */
+    public TopK(int k, Comparator<? super T> comp) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be less 0");
+        }
+        this.heap = new Object[k];
+        this.comp = Objects.requireNonNull(comp);
+    }
+
+    /**
+     * Сборщик для потоков: отбирает k первых элементов и возвращает их упорядоченными.
+     *
+     * @param k    максимальное количество отбираемых элементов
+     * @param comp компаратор, задающий порядок отбора
+     * @param <T>  тип элементов
+     * @return сборщик в CustomArrayList
+     */
+    public static <T> Collector<T, ?, CustomArrayList<T>> collector(int k, Comparator<? super T> comp) {
+        return Collector.of(() -> new TopK<T>(k, comp), TopK::offer, TopK::merge, TopK::toCustomArrayList);
+    }
+
+    /**
+     * Предлагает элемент: он сохраняется, если отобрано меньше k элементов или он лучше худшего из отобранных.
+     *
+     * @param element элемент
+     * @return true, если элемент сохранен
+     */
+    @SuppressWarnings("unchecked")
+    public boolean offer(T element) {
+        if (this.size < this.heap.length) {
+            siftUp(this.size++, element);
+            return true;
+        }
+        if (this.size == 0 || this.comp.compare(element, (T) this.heap[0]) >= 0) {
+            return false;
+        }
+        siftDown(element);
+        return true;
+    }
+
+    /**
+     * Предлагает все элементы списка за один проход курсором.
+     *
+     * @param elements список элементов
+     */
+    public void offerAll(CustomList<? extends T> elements) {
+        Cursor<? extends T> cursor = elements.cursor();
+        while (cursor.next()) {
+            offer(cursor.element());
+        }
+    }
+
+    /**
+     * Возвращает количество отобранных элементов.
+     *
+     * @return количество отобранных элементов (не больше k)
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Возвращает отобранные элементы, упорядоченные по компаратору. Сборщик можно продолжать использовать.
+     *
+     * @return новый список из не более чем k элементов
+     */
+    @SuppressWarnings("unchecked")
+    public CustomArrayList<T> toCustomArrayList() {
+        Object[] elements = Arrays.copyOf(this.heap, this.size);
+        ArraySorts.introSort((T[]) elements, 0, elements.length, this.comp);
+        return CustomArrayList.adopt(elements, elements.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TopK<T> merge(TopK<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer((T) other.heap[i]);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (this.comp.compare(element, (T) this.heap[parent]) <= 0) {
+                break;
+            }
+            this.heap[index] = this.heap[parent];
+            index = parent;
+        }
+        this.heap[index] = element;
+    }
+
+    /**
+     * Заменяет вершину кучи элементом и опускает его на свое место.
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(T element) {
+        int index = 0;
+        int child;
+        while ((child = 2 * index + 1) < this.size) {
+            if (child + 1 < this.size && this.comp.compare((T) this.heap[child], (T) this.heap[child + 1]) < 0) {
+                child++;
+            }
+            if (this.comp.compare(element, (T) this.heap[child]) >= 0) {
+                break;
+            }
+            this.heap[index] = this.heap[child];
+            index = child;
+        }
+        this.heap[index] = element;
+    }
+}
@@ -0,0 +1,422 @@
+package org.example;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторная реализация {@link NumericKernels} на JDK Vector API (инкубаторный модуль jdk.incubator.vector).
+ * Основная часть массива обрабатывается векторами предпочтительной для процессора ширины,
+ * хвост короче одного вектора - скалярным циклом.
+ * Класс загружается только через {@link NumericKernels#get()} и только если модуль подключен к JVM.
+ */
+final class VectorNumericKernels extends NumericKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    /**
+     * Вектор int вдвое меньшей ширины: при расширении до long он занимает ровно один вектор LONGS.
+     */
+    private static final VectorSpecies<Integer> HALF_INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    @Override
+    boolean isVectorized() {
+        return true;
+    }
+
+    @Override
+    int indexOf(int[] array, int length, int value) {
+        int upper = INTS.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += INTS.length()) {
+            VectorMask<Integer> mask = IntVector.fromArray(INTS, array, i).eq(value);
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+        for (; i < length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(int[] array, int length, int value) {
+        int upper = INTS.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, array, i).eq(value).trueCount();
+        }
+        for (; i < length; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    int min(int[] array, int length) {
+        int upper = INTS.loopBound(length);
+        IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (; i < upper; i += INTS.length()) {
+            min = min.min(IntVector.fromArray(INTS, array, i));
+        }
+        int result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    int max(int[] array, int length) {
+        int upper = INTS.loopBound(length);
+        IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (; i < upper; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, array, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Значения расширяются до long перед сложением, поэтому сумма не переполняется так же, как в скалярной версии.
+     */
+    @Override
+    long sum(int[] array, int length) {
+        int upper = HALF_INTS.loopBound(length);
+        LongVector sum = LongVector.zero(LONGS);
+        int i = 0;
+        for (; i < upper; i += HALF_INTS.length()) {
+            sum = sum.add((LongVector) IntVector.fromArray(HALF_INTS, array, i)
+                    .convertShape(VectorOperators.I2L, LONGS, 0));
+        }
+        long result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    @Override
+    int countInRange(int[] array, int length, int from, int to) {
+        int upper = INTS.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, array, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LE, to)).trueCount();
+        }
+        for (; i < length; i++) {
+            if (array[i] >= from && array[i] <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    int filterRange(int[] array, int length, int from, int to, int[] target) {
+        int upper = INTS.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += INTS.length()) {
+            IntVector vector = IntVector.fromArray(INTS, array, i);
+            VectorMask<Integer> mask = vector.compare(VectorOperators.GE, from)
+                    .and(vector.compare(VectorOperators.LE, to));
+            if (mask.allTrue()) {
+                vector.intoArray(target, count);
+                count += INTS.length();
+            } else if (mask.anyTrue()) {
+                for (int lane = 0; lane < INTS.length(); lane++) {
+                    if (mask.laneIsSet(lane)) {
+                        target[count++] = array[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < length; i++) {
+            int value = array[i];
+            if (value >= from && value <= to) {
+                target[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    int indexOf(long[] array, int length, long value) {
+        int upper = LONGS.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            VectorMask<Long> mask = LongVector.fromArray(LONGS, array, i).eq(value);
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+        for (; i < length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(long[] array, int length, long value) {
+        int upper = LONGS.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            count += LongVector.fromArray(LONGS, array, i).eq(value).trueCount();
+        }
+        for (; i < length; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    long min(long[] array, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    long max(long[] array, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    long sum(long[] array, int length) {
+        int upper = LONGS.loopBound(length);
+        LongVector sum = LongVector.zero(LONGS);
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            sum = sum.add(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    @Override
+    int countInRange(long[] array, int length, long from, long to) {
+        int upper = LONGS.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            LongVector vector = LongVector.fromArray(LONGS, array, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LE, to)).trueCount();
+        }
+        for (; i < length; i++) {
+            if (array[i] >= from && array[i] <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    int filterRange(long[] array, int length, long from, long to, long[] target) {
+        int upper = LONGS.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += LONGS.length()) {
+            LongVector vector = LongVector.fromArray(LONGS, array, i);
+            VectorMask<Long> mask = vector.compare(VectorOperators.GE, from)
+                    .and(vector.compare(VectorOperators.LE, to));
+            if (mask.allTrue()) {
+                vector.intoArray(target, count);
+                count += LONGS.length();
+            } else if (mask.anyTrue()) {
+                for (int lane = 0; lane < LONGS.length(); lane++) {
+                    if (mask.laneIsSet(lane)) {
+                        target[count++] = array[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < length; i++) {
+            long value = array[i];
+            if (value >= from && value <= to) {
+                target[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Для числа, отличного от NaN, равенство по Double.compare совпадает с равенством битовых представлений,
+     * поэтому сравниваются биты; поиск NaN выполняется скалярно.
+     */
+    @Override
+    int indexOf(double[] array, int length, double value) {
+        if (Double.isNaN(value)) {
+            return super.indexOf(array, length, value);
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int upper = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            VectorMask<Long> mask = DoubleVector.fromArray(DOUBLES, array, i).viewAsIntegralLanes().eq(bits);
+            if (mask.anyTrue()) {
+                return i + mask.firstTrue();
+            }
+        }
+        for (; i < length; i++) {
+            if (Double.compare(array[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    int count(double[] array, int length, double value) {
+        if (Double.isNaN(value)) {
+            return super.count(array, length, value);
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int upper = DOUBLES.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            count += DoubleVector.fromArray(DOUBLES, array, i).viewAsIntegralLanes().eq(bits).trueCount();
+        }
+        for (; i < length; i++) {
+            if (Double.compare(array[i], value) == 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    double min(double[] array, int length) {
+        int upper = DOUBLES.loopBound(length);
+        DoubleVector min = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    double max(double[] array, int length) {
+        int upper = DOUBLES.loopBound(length);
+        DoubleVector max = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    double sum(double[] array, int length) {
+        int upper = DOUBLES.loopBound(length);
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+
+    @Override
+    int countInRange(double[] array, int length, double from, double to) {
+        int upper = DOUBLES.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, array, i);
+            count += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LE, to)).trueCount();
+        }
+        for (; i < length; i++) {
+            if (array[i] >= from && array[i] <= to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    int filterRange(double[] array, int length, double from, double to, double[] target) {
+        int upper = DOUBLES.loopBound(length);
+        int count = 0;
+        int i = 0;
+        for (; i < upper; i += DOUBLES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLES, array, i);
+            VectorMask<Double> mask = vector.compare(VectorOperators.GE, from)
+                    .and(vector.compare(VectorOperators.LE, to));
+            if (mask.allTrue()) {
+                vector.intoArray(target, count);
+                count += DOUBLES.length();
+            } else if (mask.anyTrue()) {
+                for (int lane = 0; lane < DOUBLES.length(); lane++) {
+                    if (mask.laneIsSet(lane)) {
+                        target[count++] = array[i + lane];
+                    }
+                }
+            }
+        }
+        for (; i < length; i++) {
+            double value = array[i];
+            if (value >= from && value <= to) {
+                target[count++] = value;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArrayPoolTest {
+
+    @Nested
+    @DisplayName("acquire() / release()")
+    public class Methods {
+        @Test
+        public void acquire_roundsUpToSizeClass() {
+            ArrayPool pool = new ArrayPool();
+
+            assertEquals(16, pool.acquire(0).length);
+            assertEquals(16, pool.acquire(16).length);
+            assertEquals(32, pool.acquire(17).length);
+            assertEquals(1 << 20, pool.acquire((1 << 19) + 1).length);
+            assertEquals((1 << 20) + 1, pool.acquire((1 << 20) + 1).length);
+        }
+
+        @Test
+        public void release_reusesClearedArray() {
+            ArrayPool pool = new ArrayPool();
+            Object[] array = pool.acquire(100);
+            array[0] = "value";
+            array[127] = "value";
+
+            pool.release(array);
+            Object[] reused = pool.acquire(70);
+
+            assertTrue(reused == array);
+            assertNull(reused[0]);
+            assertNull(reused[127]);
+            assertFalse(pool.acquire(70) == array);
+        }
+
+        @Test
+        public void release_ignoresForeignLengths() {
+            ArrayPool pool = new ArrayPool(64, 4, 4);
+            Object[] odd = new Object[20];
+            Object[] large = new Object[128];
+
+            pool.release(odd);
+            pool.release(large);
+
+            assertFalse(pool.acquire(20) == odd);
+            assertFalse(pool.acquire(128) == large);
+        }
+
+        @Test
+        public void sharedTier_passesArraysBetweenThreads() throws InterruptedException {
+            ArrayPool pool = new ArrayPool(1024, 0, 2);
+            Object[] first = pool.acquire(16);
+            Object[] second = pool.acquire(16);
+            Object[] third = pool.acquire(16);
+            pool.release(first);
+            pool.release(second);
+            pool.release(third);
+
+            AtomicReference<Object[]> fromOtherThread = new AtomicReference<>();
+            Thread thread = new Thread(() -> fromOtherThread.set(pool.acquire(16)));
+            thread.start();
+            thread.join();
+
+            assertTrue(fromOtherThread.get() == first);
+            assertTrue(pool.acquire(16) == second);
+            assertFalse(pool.acquire(16) == third);
+        }
+
+        @Test
+        public void constructor_checksLimits() {
+            assertThrows(IllegalArgumentException.class, () -> new ArrayPool(8, 1, 1));
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new ArrayPool(64, -1, 1));
+            assertEquals("Capacity cannot be less 0", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchWriterTest {
+
+    @Nested
+    @DisplayName("CustomArrayList.batchWriter")
+    public class ListWriter {
+        @Test
+        public void add_publishesFullBlocksOnly() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            BatchWriter<Integer> writer = integerList.batchWriter(4);
+
+            for (int i = 0; i < 10; i++) {
+                writer.add(i);
+            }
+
+            assertEquals(8, integerList.size());
+            assertEquals(2, writer.pending());
+            writer.flush();
+            assertEquals(10, integerList.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, integerList.get(i));
+            }
+        }
+
+        @Test
+        public void close_flushesAndRejectsFurtherWrites() {
+            CustomArrayList<String> stringList = new CustomArrayList<>();
+            stringList.add("first");
+            BatchWriter<String> writer = stringList.batchWriter(100);
+            writer.add("second");
+            writer.close();
+            writer.close();
+
+            assertEquals(2, stringList.size());
+            assertEquals("second", stringList.get(1));
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> writer.add("third"));
+            assertEquals("Writer is closed", exception.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> stringList.batchWriter(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("SpscBlockQueue")
+    public class SingleProducerSingleConsumer {
+        @Test
+        public void consumer_drainsAllBlocksInOrder() throws Exception {
+            SpscBlockQueue<Integer> queue = new SpscBlockQueue<>(2);
+            BatchWriter<Integer> writer = queue.writer(7);
+            CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    writer.add(i);
+                }
+                writer.close();
+            });
+
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            while (!queue.isFinished()) {
+                queue.drainTo(integerList);
+            }
+            producer.get(10, TimeUnit.SECONDS);
+
+            assertEquals(100_000, integerList.size());
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(i, integerList.get(i));
+            }
+            assertEquals(0, queue.drainTo(integerList));
+        }
+
+        @Test
+        public void writer_isCreatedOnce() {
+            SpscBlockQueue<Integer> queue = new SpscBlockQueue<>(1);
+            BatchWriter<Integer> writer = queue.writer(2);
+            writer.add(1);
+
+            assertFalse(queue.isFinished());
+            assertThrows(IllegalStateException.class, () -> queue.writer(2));
+            writer.close();
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            assertEquals(1, queue.drainTo(integerList));
+            assertTrue(queue.isFinished());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactCustomListTest {
+
+    private static Object data(CompactCustomList<?> list) throws NoSuchFieldException, IllegalAccessException {
+        Field dataField = CompactCustomList.class.getDeclaredField("data");
+        dataField.setAccessible(true);
+        return dataField.get(list);
+    }
+
+    @Nested
+    @DisplayName("add / get / remove")
+    public class Methods {
+        @Test
+        public void smallList_staysInline() throws NoSuchFieldException, IllegalAccessException {
+            CompactCustomList<String> stringList = new CompactCustomList<>();
+            stringList.add("b");
+            stringList.add("d");
+            stringList.add("a", 0);
+            stringList.add("c", 2);
+
+            assertNull(data(stringList));
+            assertEquals(4, stringList.size());
+            assertEquals("a", stringList.get(0));
+            assertEquals("b", stringList.get(1));
+            assertEquals("c", stringList.get(2));
+            assertEquals("d", stringList.get(3));
+
+            stringList.remove("b");
+            stringList.remove(0);
+
+            assertEquals(2, stringList.size());
+            assertEquals("c", stringList.get(0));
+            assertEquals(1, stringList.indexOf("d"));
+            assertFalse(stringList.hasElement("a"));
+        }
+
+        @Test
+        public void fifthElement_spillsToArrayAndBack() throws NoSuchFieldException, IllegalAccessException {
+            CompactCustomList<Integer> integerList = new CompactCustomList<>();
+            for (int i = 0; i < 5; i++) {
+                integerList.add(i);
+            }
+
+            assertEquals(10, ((Object[]) data(integerList)).length);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i, integerList.get(i));
+            }
+
+            integerList.remove(4);
+            integerList.add(100, 1);
+            integerList.remove(0);
+            integerList.trimCapacityToSize();
+
+            assertNull(data(integerList));
+            assertEquals(4, integerList.size());
+            assertEquals(100, integerList.get(0));
+            assertEquals(3, integerList.get(3));
+        }
+
+        @Test
+        public void matchesCustomArrayListOnRandomOperations() {
+            CompactCustomList<Integer> compactList = new CompactCustomList<>();
+            CustomArrayList<Integer> arrayList = new CustomArrayList<>();
+            Random random = new Random(5);
+
+            for (int step = 0; step < 5_000; step++) {
+                int operation = random.nextInt(4);
+                if (operation == 0 || arrayList.size() == 0) {
+                    int value = random.nextInt(100);
+                    compactList.add(value);
+                    arrayList.add(value);
+                } else if (operation == 1) {
+                    int index = random.nextInt(arrayList.size());
+                    compactList.add(step, index);
+                    arrayList.add(step, index);
+                } else if (operation == 2) {
+                    int index = random.nextInt(arrayList.size());
+                    compactList.remove(index);
+                    arrayList.remove(index);
+                } else if (arrayList.size() > 8) {
+                    compactList.removeAll();
+                    arrayList.removeAll();
+                }
+                if (step % 97 == 0) {
+                    compactList.trimCapacityToSize();
+                }
+
+                assertEquals(arrayList.size(), compactList.size());
+                for (int i = 0; i < arrayList.size(); i++) {
+                    assertEquals(arrayList.get(i), compactList.get(i));
+                }
+            }
+        }
+
+        @Test
+        public void get_checksIndex() {
+            CompactCustomList<Integer> integerList = new CompactCustomList<>();
+            integerList.add(1);
+
+            IllegalArgumentException negative = assertThrows(IllegalArgumentException.class, () -> integerList.get(-1));
+            assertEquals("Index cannot be negative", negative.getMessage());
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.get(1));
+            assertEquals("Index: 1, Size: 1", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("sort() / reserve() / footprint()")
+    public class MethodsCapacity {
+        @Test
+        public void sort_inlineAndSpilled() {
+            CompactCustomList<Integer> integerList = new CompactCustomList<>();
+            integerList.add(3);
+            integerList.add(1);
+            integerList.add(2);
+
+            integerList.sort(Comparator.naturalOrder());
+
+            assertEquals(1, integerList.get(0));
+            assertEquals(3, integerList.get(2));
+
+            for (int i = 0; i < 50; i++) {
+                integerList.add(100 - i);
+            }
+            integerList.sort(Comparator.reverseOrder());
+
+            for (int i = 1; i < integerList.size(); i++) {
+                assertTrue(integerList.get(i - 1) >= integerList.get(i));
+            }
+        }
+
+        @Test
+        public void reserve_allocatesExactCapacity() throws NoSuchFieldException, IllegalAccessException {
+            CompactCustomList<Integer> integerList = new CompactCustomList<>();
+            integerList.add(1);
+
+            integerList.reserve(3);
+            assertNull(data(integerList));
+
+            integerList.reserve(20);
+            assertEquals(20, ((Object[]) data(integerList)).length);
+            assertEquals(1, integerList.get(0));
+            assertThrows(IllegalArgumentException.class, () -> integerList.reserve(-1));
+        }
+
+        @Test
+        public void footprint_smallerThanCustomArrayList() {
+            CompactCustomList<Integer> compactList = new CompactCustomList<>();
+            CustomArrayList<Integer> arrayList = new CustomArrayList<>();
+            compactList.add(1);
+            arrayList.add(1);
+
+            MemoryFootprint compact = compactList.footprint();
+
+            assertEquals(40, compact.getTotalBytes());
+            assertEquals(0, compact.getArrayBytes());
+            assertEquals(4, compact.getCapacity());
+            assertEquals(12, compact.getUnusedBytes());
+            assertTrue(compact.getTotalBytes() * 2 < arrayList.footprint().getTotalBytes());
+
+            compactList.removeAll();
+            assertEquals(40, compactList.footprint().getTotalBytes());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentCustomListTest {
+    private static final int PRODUCERS = 8;
+    private static final int ELEMENTS_PER_PRODUCER = 20_000;
+
+    @Nested
+    @DisplayName("single thread")
+    public class SingleThread {
+        @Test
+        public void add_andStructuralModifications() {
+            CustomList<Integer> integerList = new ConcurrentCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(99 - i);
+            }
+
+            integerList.add(1000, 10);
+            integerList.remove(Integer.valueOf(0));
+            integerList.remove(0);
+            integerList.sort(Comparator.naturalOrder());
+
+            assertEquals(99, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(1000, integerList.get(98));
+            assertTrue(integerList.hasElement(50));
+            assertFalse(integerList.hasElement(99));
+
+            integerList.trimCapacityToSize();
+            integerList.add(5000);
+            assertEquals(5000, integerList.get(99));
+
+            integerList.removeAll();
+            assertEquals(0, integerList.size());
+        }
+
+        @Test
+        public void get_whenIndexIsMoreSize() {
+            CustomList<Integer> integerList = new ConcurrentCustomList<>();
+            integerList.add(1);
+
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.get(1));
+            assertEquals("Index: " + 1 + ", Size: " + 1, exception.getMessage());
+        }
+
+        @Test
+        public void iterator_traversesSnapshot() {
+            CustomList<Integer> integerList = new ConcurrentCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            int count = 0;
+            for (Integer element : integerList) {
+                assertEquals(count++, element);
+                integerList.add(element);
+            }
+
+            assertEquals(100, count);
+            assertEquals(200, integerList.size());
+            assertEquals(9900, integerList.stream().mapToInt(Integer::intValue).sum());
+        }
+
+        @Test
+        public void add_whenElementIsNull() {
+            CustomList<Integer> integerList = new ConcurrentCustomList<>();
+
+            assertThrows(NullPointerException.class, () -> integerList.add(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("stress")
+    public class Stress {
+        @Test
+        public void add_fromManyProducers_whileReadersObservePrefix() throws Exception {
+            ConcurrentCustomList<Integer> integerList = new ConcurrentCustomList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + 1);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean producing = new AtomicBoolean(true);
+            try {
+                Future<?> reader = executor.submit(() -> {
+                    int lastSize = 0;
+                    while (producing.get()) {
+                        int size = integerList.size();
+                        assertTrue(size >= lastSize, "size must never decrease");
+                        for (int i = lastSize; i < size; i++) {
+                            assertNotNull(integerList.get(i), "published element must be visible");
+                        }
+                        lastSize = size;
+                    }
+                    return null;
+                });
+                List<Future<?>> producers = new ArrayList<>();
+                for (int p = 0; p < PRODUCERS; p++) {
+                    int producer = p;
+                    producers.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                            integerList.add(producer * ELEMENTS_PER_PRODUCER + i);
+                        }
+                        return null;
+                    }));
+                }
+
+                start.countDown();
+                for (Future<?> producer : producers) {
+                    producer.get(30, TimeUnit.SECONDS);
+                }
+                producing.set(false);
+                reader.get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER, integerList.size());
+            boolean[] seen = new boolean[PRODUCERS * ELEMENTS_PER_PRODUCER];
+            int[] lastPerProducer = new int[PRODUCERS];
+            Arrays.fill(lastPerProducer, -1);
+            for (int i = 0; i < integerList.size(); i++) {
+                int value = integerList.get(i);
+                assertFalse(seen[value], "element added twice: " + value);
+                seen[value] = true;
+                int producer = value / ELEMENTS_PER_PRODUCER;
+                assertTrue(value > lastPerProducer[producer], "per-producer order must be preserved");
+                lastPerProducer[producer] = value;
+            }
+        }
+
+        @Test
+        public void structuralModifications_whileProducersAppend() throws Exception {
+            ConcurrentCustomList<Integer> integerList = new ConcurrentCustomList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+            int removals = 500;
+            try {
+                List<Future<?>> producers = new ArrayList<>();
+                for (int p = 0; p < PRODUCERS; p++) {
+                    producers.add(executor.submit(() -> {
+                        for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                            integerList.add(i);
+                        }
+                        return null;
+                    }));
+                }
+                int removed = 0;
+                while (removed < removals) {
+                    if (integerList.size() > 0) {
+                        integerList.remove(0);
+                        removed++;
+                    }
+                }
+                integerList.sort(Comparator.reverseOrder());
+                for (Future<?> producer : producers) {
+                    producer.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(PRODUCERS * ELEMENTS_PER_PRODUCER - removals, integerList.size());
+        }
+    }
+}
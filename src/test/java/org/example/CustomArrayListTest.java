@@ -7,6 +7,13 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -264,6 +271,106 @@ class CustomArrayListTest {
         }
     }
 
+    @Nested
+    @DisplayName("addAll() / removeRange() / removeIf() / retainAll()")
+    public class BulkMethods {
+        @Test
+        public void addAll_whenCollectionIsLargerThanCapacity() {
+            CustomList<Integer> integerList = new CustomArrayList<>(2);
+            integerList.add(-1);
+            integerList.addAll(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+            integerList.addAll(new Integer[]{12, 13});
+
+            assertEquals(15, integerList.size());
+            assertEquals(-1, integerList.get(0));
+            assertEquals(13, integerList.get(14));
+        }
+
+        @Test
+        public void addAll_byIndex() {
+            CustomList<String> stringList = new CustomArrayList<>();
+            stringList.add("first str");
+            stringList.add("fourth str");
+            stringList.addAll(List.of("second str", "third str"), 1);
+
+            assertEquals(4, stringList.size());
+            assertEquals("first str", stringList.get(0));
+            assertEquals("second str", stringList.get(1));
+            assertEquals("third str", stringList.get(2));
+            assertEquals("fourth str", stringList.get(3));
+        }
+
+        @Test
+        public void removeRange_whenRangeIsCorrect() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                integerList.add(i);
+            }
+
+            integerList.removeRange(5, 15);
+
+            assertEquals(10, integerList.size());
+            assertEquals(4, integerList.get(4));
+            assertEquals(15, integerList.get(5));
+            assertFalse(integerList.hasElement(10));
+        }
+
+        @Test
+        public void removeRange_whenRangeIsIncorrect() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            integerList.add(1);
+
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.removeRange(0, 2));
+            assertEquals("From: 0, To: 2, Size: 1", exception.getMessage());
+        }
+
+        @Test
+        public void removeIf_removesMatchingInOnePass() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+            integerList.enableHashIndex();
+
+            assertTrue(integerList.removeIf(value -> value % 2 == 0));
+            assertFalse(integerList.removeIf(value -> value > 1000));
+
+            assertEquals(50, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(99, integerList.get(49));
+            assertFalse(integerList.hasElement(50));
+            assertEquals(25, integerList.indexOf(51));
+        }
+
+        @Test
+        public void retainAll_keepsOnlyGivenElements() {
+            CustomList<String> stringList = new CustomArrayList<>();
+            stringList.add("first str");
+            stringList.add("second str");
+            stringList.add("third str");
+
+            assertTrue(stringList.retainAll(Set.of("first str", "third str")));
+
+            assertEquals(2, stringList.size());
+            assertEquals("third str", stringList.get(1));
+        }
+
+        @Test
+        public void removeByIndex_whenListIsFull() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < CustomList.DEFAULT_BASE_CAPACITY; i++) {
+                integerList.add(i);
+            }
+
+            integerList.remove(0);
+
+            assertEquals(CustomList.DEFAULT_BASE_CAPACITY - 1, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(CustomList.DEFAULT_BASE_CAPACITY - 1, integerList.get(integerList.size() - 1));
+        }
+    }
+
     @Nested
     @DisplayName("removeAll()")
     public class MethodRemoveAll {
@@ -333,6 +440,74 @@ class CustomArrayListTest {
         }
     }
 
+    @Nested
+    @DisplayName("reserve() / GrowthPolicy")
+    public class MethodReserveAndGrowthPolicy {
+        @Test
+        public void reserve_setsExactCapacity() throws NoSuchFieldException, IllegalAccessException {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            Field capacity = integerList.getClass().getDeclaredField("capacity");
+            capacity.setAccessible(true);
+
+            integerList.reserve(1000);
+            assertEquals(1000, capacity.getInt(integerList));
+            for (int i = 0; i < 1000; i++) {
+                integerList.add(i);
+            }
+            assertEquals(1000, capacity.getInt(integerList));
+
+            integerList.reserve(5);
+            assertEquals(1000, capacity.getInt(integerList));
+        }
+
+        @Test
+        public void reserve_whenCapacityIsNegative() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> integerList.reserve(-1));
+            assertEquals("Capacity cannot be less 0", exception.getMessage());
+        }
+
+        @Test
+        public void growthPolicy_doublingAndFixedIncrement() throws NoSuchFieldException, IllegalAccessException {
+            CustomList<Integer> doublingList = new CustomArrayList<>(10, GrowthPolicy.DOUBLING);
+            CustomList<Integer> fixedList = new CustomArrayList<>(10, GrowthPolicy.fixedIncrement(5));
+            Field capacity = CustomArrayList.class.getDeclaredField("capacity");
+            capacity.setAccessible(true);
+
+            for (int i = 0; i < 11; i++) {
+                doublingList.add(i);
+                fixedList.add(i);
+            }
+
+            assertEquals(20, capacity.getInt(doublingList));
+            assertEquals(15, capacity.getInt(fixedList));
+        }
+
+        @Test
+        public void growthPolicy_cappedAndMemoryBudget() throws NoSuchFieldException, IllegalAccessException {
+            CustomList<Integer> cappedList = new CustomArrayList<>(100, GrowthPolicy.capped(GrowthPolicy.DOUBLING, 10));
+            CustomList<Integer> budgetList = new CustomArrayList<>(10,
+                    GrowthPolicy.memoryBudget(GrowthPolicy.DOUBLING, 64, MemoryEstimates.REFERENCE));
+            Field capacity = CustomArrayList.class.getDeclaredField("capacity");
+            capacity.setAccessible(true);
+
+            for (int i = 0; i < 101; i++) {
+                cappedList.add(i);
+            }
+            for (int i = 0; i < 16; i++) {
+                budgetList.add(i);
+            }
+
+            assertEquals(110, capacity.getInt(cappedList));
+            assertEquals(16, capacity.getInt(budgetList));
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> budgetList.add(16));
+            assertEquals("Memory budget exceeded: required capacity 17, budget capacity 16", exception.getMessage());
+            assertEquals(16, budgetList.size());
+        }
+    }
+
     @Nested
     @DisplayName("sort()")
     public class MethodSort {
@@ -400,6 +575,308 @@ class CustomArrayListTest {
         }
     }
 
+    @Nested
+    @DisplayName("parallelSort() / stableSort()")
+    public class MethodParallelAndStableSort {
+        @Test
+        public void sort_withAdversarialInputs() {
+            int size = 50_000;
+            int[][] patterns = {new int[size], new int[size], new int[size], new int[size]};
+            Random random = new Random(7);
+            for (int i = 0; i < size; i++) {
+                patterns[0][i] = i;
+                patterns[1][i] = size - i;
+                patterns[2][i] = 5;
+                patterns[3][i] = i < size / 2 ? i : size - i;
+            }
+
+            for (int[] pattern : patterns) {
+                CustomArrayList<Integer> sequential = new CustomArrayList<>();
+                CustomArrayList<Integer> parallel = new CustomArrayList<>();
+                for (int value : pattern) {
+                    sequential.add(value + random.nextInt(3));
+                    parallel.add(sequential.get(sequential.size() - 1));
+                }
+
+                sequential.sort(Comparator.naturalOrder());
+                parallel.parallelSort(Comparator.naturalOrder());
+
+                for (int i = 1; i < size; i++) {
+                    assertTrue(sequential.get(i - 1) <= sequential.get(i));
+                    assertEquals(sequential.get(i), parallel.get(i));
+                }
+            }
+        }
+
+        @Test
+        public void stableSort_keepsOrderOfEqualElements() {
+            CustomArrayList<Person> personList = new CustomArrayList<>();
+            personList.add(new Person("Thom", 35));
+            personList.add(new Person("Alice", 23));
+            personList.add(new Person("Peggy", 35));
+            personList.add(new Person("Claire", 23));
+            personList.add(new Person("Nick", 18));
+
+            personList.stableSort(Comparator.comparing(Person::getName));
+            personList.stableSort(Comparator.comparing(Person::getAge));
+
+            assertEquals("Nick", personList.get(0).getName());
+            assertEquals("Alice", personList.get(1).getName());
+            assertEquals("Claire", personList.get(2).getName());
+            assertEquals("Peggy", personList.get(3).getName());
+            assertEquals("Thom", personList.get(4).getName());
+        }
+
+        @Test
+        public void parallelStableSort_keepsOrderOfEqualElements() {
+            int size = 40_000;
+            CustomArrayList<Person> personList = new CustomArrayList<>();
+            for (int i = 0; i < size; i++) {
+                personList.add(new Person(String.valueOf(i), (i * 7) % 100));
+            }
+
+            personList.parallelStableSort(Comparator.comparing(Person::getAge));
+
+            for (int i = 1; i < size; i++) {
+                Person previous = personList.get(i - 1);
+                Person current = personList.get(i);
+                assertTrue(previous.getAge() <= current.getAge());
+                if (previous.getAge() == current.getAge()) {
+                    assertTrue(Integer.parseInt(previous.getName()) < Integer.parseInt(current.getName()));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("sortByIntKey() / sortByLongKey()")
+    public class MethodSortByKey {
+        @Test
+        public void sortByIntKey_narrowRangeIsStable() {
+            CustomArrayList<Person> personList = new CustomArrayList<>();
+            Random random = new Random(3);
+            for (int i = 0; i < 1_000; i++) {
+                personList.add(new Person("p" + i, 18 + random.nextInt(60)));
+            }
+            CustomArrayList<Person> expected = new CustomArrayList<>();
+            for (int i = 0; i < personList.size(); i++) {
+                expected.add(personList.get(i));
+            }
+            expected.stableSort(Comparator.comparingInt(Person::getAge));
+
+            personList.sortByIntKey(Person::getAge);
+
+            for (int i = 0; i < personList.size(); i++) {
+                assertTrue(expected.get(i) == personList.get(i));
+            }
+        }
+
+        @Test
+        public void sortByIntKey_wideRangeAndNegativeKeys() {
+            for (int size : new int[]{10, 100, 50_000}) {
+                CustomArrayList<Integer> integerList = new CustomArrayList<>();
+                Random random = new Random(size);
+                for (int i = 0; i < size; i++) {
+                    integerList.add(i % 7 == 0 ? Integer.MIN_VALUE + i : random.nextInt());
+                }
+                integerList.add(Integer.MAX_VALUE);
+
+                integerList.sortByIntKey(Integer::intValue);
+
+                for (int i = 1; i < integerList.size(); i++) {
+                    assertTrue(integerList.get(i - 1) <= integerList.get(i));
+                }
+            }
+        }
+
+        @Test
+        public void sortByKey_wideRangeFallbackIsStableAndExtractsKeysOnce() {
+            Random random = new Random(9);
+            long[] table = new long[40];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = random.nextLong();
+            }
+            for (int size : new int[]{100, 5_000}) {
+                CustomArrayList<Integer> intList = new CustomArrayList<>();
+                CustomArrayList<Integer> longList = new CustomArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    intList.add(i);
+                    longList.add(i);
+                }
+                int[] calls = new int[2];
+
+                intList.sortByIntKey(value -> {
+                    calls[0]++;
+                    return (int) (table[value % table.length] >> 32);
+                });
+                longList.sortByLongKey(value -> {
+                    calls[1]++;
+                    return table[value % table.length];
+                });
+
+                assertEquals(size, calls[0]);
+                assertEquals(size, calls[1]);
+                for (int i = 1; i < size; i++) {
+                    long previousInt = table[intList.get(i - 1) % table.length] >> 32;
+                    long currentInt = table[intList.get(i) % table.length] >> 32;
+                    assertTrue(previousInt < currentInt || previousInt == currentInt && intList.get(i - 1) < intList.get(i));
+                    long previousLong = table[longList.get(i - 1) % table.length];
+                    long currentLong = table[longList.get(i) % table.length];
+                    assertTrue(previousLong < currentLong || previousLong == currentLong && longList.get(i - 1) < longList.get(i));
+                }
+            }
+        }
+
+        @Test
+        public void sortByLongKey_fullLongRange() {
+            for (int size : new int[]{1_000, 100_000}) {
+                CustomArrayList<Long> longList = new CustomArrayList<>();
+                Random random = new Random(size);
+                for (int i = 0; i < size; i++) {
+                    longList.add(random.nextLong());
+                }
+                longList.add(Long.MIN_VALUE);
+                longList.add(Long.MAX_VALUE);
+
+                longList.sortByLongKey(Long::longValue);
+
+                assertEquals(Long.MIN_VALUE, longList.get(0));
+                assertEquals(Long.MAX_VALUE, longList.get(longList.size() - 1));
+                for (int i = 1; i < longList.size(); i++) {
+                    assertTrue(longList.get(i - 1) <= longList.get(i));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("select() / selectInPlace() / partialSort() / topK()")
+    public class MethodSelection {
+        private CustomArrayList<Integer> shuffled(int size, int bound) {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            Random random = new Random(11);
+            for (int i = 0; i < size; i++) {
+                integerList.add(random.nextInt(bound));
+            }
+            return integerList;
+        }
+
+        @Test
+        public void select_doesNotModifyList() {
+            CustomArrayList<Integer> integerList = shuffled(1_000, 1_000_000);
+            CustomArrayList<Integer> original = shuffled(1_000, 1_000_000);
+            CustomArrayList<Integer> sorted = shuffled(1_000, 1_000_000);
+            sorted.sort(Comparator.naturalOrder());
+            CustomList<Integer> subList = integerList.subList(100, 200);
+            CustomArrayList<Integer> sortedRange = new CustomArrayList<>();
+            subList.forEach(sortedRange::add);
+            sortedRange.sort(Comparator.naturalOrder());
+
+            assertEquals(sorted.get(500), integerList.select(500, Comparator.naturalOrder()));
+            assertEquals(sortedRange.get(10), subList.select(10, Comparator.naturalOrder()));
+            for (int i = 0; i < integerList.size(); i++) {
+                assertEquals(original.get(i), integerList.get(i));
+            }
+        }
+
+        @Test
+        public void selectInPlace_defaultUsesPartialSort() {
+            CustomList<Integer> integerList = new GapBufferCustomList<>();
+            for (int value : new int[]{5, 3, 9, 1, 7}) {
+                integerList.add(value);
+            }
+
+            assertEquals(5, integerList.select(2, Comparator.naturalOrder()));
+            assertEquals(3, integerList.get(1));
+            assertEquals(5, integerList.selectInPlace(2, Comparator.naturalOrder()));
+            assertEquals(5, integerList.get(2));
+            assertTrue(integerList.get(0) <= 5 && integerList.get(1) <= 5);
+            assertTrue(integerList.get(3) >= 5 && integerList.get(4) >= 5);
+        }
+
+        @Test
+        public void selectInPlace_returnsElementOfSortedOrder() {
+            for (int bound : new int[]{5, 1_000_000}) {
+                CustomArrayList<Integer> integerList = shuffled(10_000, bound);
+                CustomArrayList<Integer> sorted = shuffled(10_000, bound);
+                sorted.sort(Comparator.naturalOrder());
+
+                for (int k : new int[]{0, 1, 17, 5_000, 9_999}) {
+                    Integer selected = integerList.selectInPlace(k, Comparator.naturalOrder());
+
+                    assertEquals(sorted.get(k), selected);
+                    assertEquals(selected, integerList.get(k));
+                    for (int i = 0; i < integerList.size(); i++) {
+                        assertTrue(i < k ? integerList.get(i) <= selected : integerList.get(i) >= selected);
+                    }
+                }
+            }
+        }
+
+        @Test
+        public void select_checksIndex() {
+            CustomArrayList<Integer> integerList = shuffled(3, 10);
+
+            assertThrows(IllegalArgumentException.class, () -> integerList.select(-1, Comparator.naturalOrder()));
+            assertThrows(IllegalArgumentException.class, () -> integerList.selectInPlace(-1, Comparator.naturalOrder()));
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.select(3, Comparator.naturalOrder()));
+            assertEquals("Index: 3, Size: 3", exception.getMessage());
+        }
+
+        @Test
+        public void partialSort_ordersPrefixOnly() {
+            CustomArrayList<Integer> integerList = shuffled(5_000, 100_000);
+            CustomArrayList<Integer> sorted = shuffled(5_000, 100_000);
+            sorted.sort(Comparator.reverseOrder());
+
+            integerList.partialSort(100, Comparator.reverseOrder());
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(sorted.get(i), integerList.get(i));
+            }
+            for (int i = 100; i < integerList.size(); i++) {
+                assertTrue(integerList.get(i) <= integerList.get(99));
+            }
+            assertEquals(5_000, integerList.size());
+        }
+
+        @Test
+        public void partialSort_onSubListAndBounds() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int value : new int[]{100, 5, 3, 4, 1, 2, -100}) {
+                integerList.add(value);
+            }
+
+            integerList.subList(1, 6).partialSort(2, Comparator.naturalOrder());
+
+            assertEquals(100, integerList.get(0));
+            assertEquals(1, integerList.get(1));
+            assertEquals(2, integerList.get(2));
+            assertEquals(-100, integerList.get(6));
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.partialSort(8, Comparator.naturalOrder()));
+            assertEquals("K: 8, Size: 7", exception.getMessage());
+        }
+
+        @Test
+        public void topK_doesNotModifyList() {
+            CustomArrayList<Integer> integerList = shuffled(1_000, 1_000_000);
+            CustomArrayList<Integer> sorted = shuffled(1_000, 1_000_000);
+            sorted.sort(Comparator.naturalOrder());
+            Integer first = integerList.get(0);
+
+            CustomArrayList<Integer> top = integerList.topK(10, Comparator.naturalOrder());
+
+            assertEquals(10, top.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(sorted.get(i), top.get(i));
+            }
+            assertEquals(first, integerList.get(0));
+            assertEquals(3, shuffled(3, 10).topK(10, Comparator.naturalOrder()).size());
+        }
+    }
+
     @Nested
     @DisplayName("hasElement()")
     public class MethodHasElement {
@@ -436,6 +913,616 @@ class CustomArrayListTest {
         }
     }
 
+    @Nested
+    @DisplayName("indexOf() / lastIndexOf()")
+    public class MethodIndexOf {
+        @Test
+        public void indexOf_withDuplicate() {
+            CustomList<String> stringList = new CustomArrayList<>();
+            stringList.add("first str");
+            stringList.add("second str");
+            stringList.add("first str");
+
+            assertEquals(0, stringList.indexOf("first str"));
+            assertEquals(2, stringList.lastIndexOf("first str"));
+            assertEquals(-1, stringList.indexOf("i'm not in the list!"));
+        }
+    }
+
+    @Nested
+    @DisplayName("enableHashIndex()")
+    public class MethodHashIndex {
+        @Test
+        public void hashIndex_followsModifications() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i % 50);
+            }
+            integerList.enableHashIndex();
+
+            assertTrue(integerList.isHashIndexEnabled());
+            assertTrue(integerList.hasElement(49));
+            assertEquals(10, integerList.indexOf(10));
+            assertEquals(60, integerList.lastIndexOf(10));
+
+            integerList.add(500, 0);
+            integerList.add(501);
+            assertEquals(11, integerList.indexOf(10));
+            assertEquals(101, integerList.indexOf(501));
+            assertEquals(0, integerList.indexOf(500));
+
+            integerList.remove(Integer.valueOf(10));
+            assertEquals(60, integerList.indexOf(10));
+            integerList.remove(Integer.valueOf(10));
+            assertFalse(integerList.hasElement(10));
+            assertEquals(-1, integerList.indexOf(10));
+
+            integerList.remove(0);
+            assertFalse(integerList.hasElement(500));
+
+            integerList.sort(Comparator.reverseOrder());
+            assertEquals(0, integerList.indexOf(501));
+            assertEquals(1, integerList.indexOf(49));
+            assertEquals(2, integerList.lastIndexOf(49));
+
+            integerList.removeAll();
+            assertFalse(integerList.hasElement(501));
+            integerList.add(7);
+            assertEquals(0, integerList.indexOf(7));
+        }
+
+        @Test
+        public void hashIndex_removeFromFrontAfterEdits() {
+            CustomArrayList<Integer> indexedList = new CustomArrayList<>();
+            CustomArrayList<Integer> plainList = new CustomArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                indexedList.add(i % 700);
+                plainList.add(i % 700);
+            }
+            indexedList.enableHashIndex();
+            indexedList.add(-1, 5);
+            plainList.add(-1, 5);
+
+            for (int i = 0; i < 1_000; i++) {
+                Integer element = plainList.get(0);
+                indexedList.remove(element);
+                plainList.remove(element);
+                assertEquals(plainList.indexOf(element), indexedList.indexOf(element));
+                assertEquals(plainList.lastIndexOf(element), indexedList.lastIndexOf(element));
+            }
+            assertEquals(-1, indexedList.indexOf(5_000));
+            assertEquals(plainList.size(), indexedList.size());
+            for (int i = 0; i < plainList.size(); i++) {
+                assertEquals(plainList.get(i), indexedList.get(i));
+            }
+        }
+
+        @Test
+        public void hashIndex_servesLookupsAfterRemoveByValue() throws NoSuchFieldException, IllegalAccessException {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i % 40);
+            }
+            integerList.enableHashIndex();
+            Field indexField = CustomArrayList.class.getDeclaredField("hashIndex");
+            indexField.setAccessible(true);
+            HashIndex<?> index = (HashIndex<?>) indexField.get(integerList);
+
+            integerList.remove(Integer.valueOf(3));
+            integerList.remove(Integer.valueOf(39));
+            integerList.remove(0);
+            integerList.add(7);
+
+            assertTrue(index.positionsValid());
+            assertEquals(40, integerList.indexOf(3));
+            assertEquals(80, integerList.lastIndexOf(3));
+            assertEquals(5, integerList.indexOf(7));
+            assertEquals(97, integerList.lastIndexOf(7));
+            assertEquals(76, integerList.indexOf(39));
+            assertTrue(index.positionsValid());
+        }
+
+        @Test
+        public void hashIndex_matchesScanOnRandomOperations() {
+            CustomArrayList<Integer> indexedList = new CustomArrayList<>();
+            CustomArrayList<Integer> plainList = new CustomArrayList<>();
+            indexedList.enableHashIndex();
+            Random random = new Random(17);
+
+            for (int step = 0; step < 5_000; step++) {
+                int operation = random.nextInt(10);
+                int value = random.nextInt(60);
+                if (operation < 4 || plainList.size() < 2) {
+                    indexedList.add(value);
+                    plainList.add(value);
+                } else if (operation < 7) {
+                    indexedList.remove(Integer.valueOf(value));
+                    plainList.remove(Integer.valueOf(value));
+                } else if (operation == 7) {
+                    int index = random.nextInt(plainList.size());
+                    indexedList.remove(index);
+                    plainList.remove(index);
+                } else if (operation == 8) {
+                    int index = random.nextInt(plainList.size());
+                    indexedList.add(value, index);
+                    plainList.add(value, index);
+                } else if (step % 50 == 0) {
+                    indexedList.sort(Comparator.reverseOrder());
+                    plainList.sort(Comparator.reverseOrder());
+                } else {
+                    indexedList.removeIf(element -> element == value);
+                    plainList.removeIf(element -> element == value);
+                }
+
+                int probe = random.nextInt(60);
+                assertEquals(plainList.indexOf(probe), indexedList.indexOf(probe));
+                assertEquals(plainList.lastIndexOf(probe), indexedList.lastIndexOf(probe));
+            }
+        }
+
+        @Test
+        public void hashIndexMemoryBytes_whenIndexIsDisabled() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                integerList.add(i);
+            }
+
+            assertEquals(0, integerList.hashIndexMemoryBytes());
+            integerList.enableHashIndex();
+            long withIndex = integerList.hashIndexMemoryBytes();
+            assertTrue(withIndex > 1000L * 32);
+            integerList.disableHashIndex();
+            assertEquals(0, integerList.hashIndexMemoryBytes());
+            assertFalse(integerList.isHashIndexEnabled());
+        }
+    }
+
+    @Nested
+    @DisplayName("iterator() / cursor() / spliterator()")
+    public class Iteration {
+        @Test
+        public void iterator_visitsElementsInOrderAndRemoves() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+
+            int expected = 0;
+            for (Integer element : integerList) {
+                assertEquals(expected++, element);
+            }
+            assertEquals(10, expected);
+
+            Iterator<Integer> iterator = integerList.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+            assertEquals(5, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(9, integerList.get(4));
+        }
+
+        @Test
+        public void iterator_whenListModified() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            integerList.add(1);
+            integerList.add(2);
+
+            Iterator<Integer> iterator = integerList.iterator();
+            iterator.next();
+            integerList.add(3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> integerList.forEach(element -> integerList.remove(0)));
+        }
+
+        @Test
+        public void cursor_isReusableAfterReset() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                integerList.add(i);
+            }
+
+            Cursor<Integer> cursor = integerList.cursor();
+            for (int pass = 0; pass < 2; pass++) {
+                int sum = 0;
+                while (cursor.next()) {
+                    assertEquals(cursor.index(), cursor.element());
+                    sum += cursor.element();
+                }
+                assertEquals(10, sum);
+                assertThrows(IllegalStateException.class, cursor::element);
+                cursor.reset();
+            }
+
+            integerList.sort(Comparator.reverseOrder());
+            assertThrows(ConcurrentModificationException.class, cursor::next);
+            cursor.reset();
+            assertTrue(cursor.next());
+            assertEquals(4, cursor.element());
+        }
+
+        @Test
+        public void spliterator_isSizedAndSplits() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            Spliterator<Integer> spliterator = integerList.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+            Spliterator<Integer> prefix = spliterator.trySplit();
+            assertEquals(50, prefix.estimateSize());
+            assertEquals(50, spliterator.estimateSize());
+            assertTrue(prefix.tryAdvance(element -> assertEquals(0, element)));
+        }
+
+        @Test
+        public void stream_sequentialAndParallel() {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                integerList.add(i);
+            }
+
+            assertEquals(4_999_950_000L, integerList.stream().mapToLong(Integer::longValue).sum());
+            assertEquals(4_999_950_000L, integerList.parallelStream().mapToLong(Integer::longValue).sum());
+            assertEquals(List.of(0, 1, 2), integerList.parallelStream().limit(3).collect(Collectors.toList()));
+        }
+
+        @Test
+        public void iterator_defaultImplementation() {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            assertEquals(4950, integerList.stream().mapToInt(Integer::intValue).sum());
+            Iterator<Integer> iterator = integerList.iterator();
+            iterator.next();
+            integerList.remove(0);
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot()")
+    public class MethodSnapshot {
+        @Test
+        public void snapshot_isNotAffectedByLaterChanges() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                integerList.add(i);
+            }
+
+            CustomList<Integer> snapshot = integerList.snapshot();
+            integerList.add(5);
+            integerList.remove(0);
+            integerList.sort(Comparator.reverseOrder());
+            CustomList<Integer> second = integerList.snapshot();
+            integerList.removeAll();
+
+            assertEquals(5, snapshot.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i, snapshot.get(i));
+            }
+            assertEquals(5, second.size());
+            assertEquals(5, second.get(0));
+            assertEquals(1, second.get(4));
+            assertEquals(0, integerList.size());
+        }
+
+        @Test
+        public void snapshot_sharesArrayUntilFirstWrite() throws NoSuchFieldException, IllegalAccessException {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            integerList.add(1);
+            integerList.add(2);
+            Field dataField = integerList.getClass().getDeclaredField("data");
+            dataField.setAccessible(true);
+            Object data = dataField.get(integerList);
+
+            CustomList<Integer> snapshot = integerList.snapshot();
+            assertTrue(data == dataField.get(integerList));
+            integerList.removeIf(value -> value == 2);
+
+            assertFalse(data == dataField.get(integerList));
+            assertEquals(2, snapshot.size());
+            assertTrue(snapshot.hasElement(2));
+            assertEquals(1, integerList.size());
+        }
+
+        @Test
+        public void snapshot_isReadOnly() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            integerList.add(1);
+            CustomList<Integer> snapshot = integerList.snapshot();
+
+            UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> snapshot.add(2));
+            assertEquals("Snapshot list is read-only", exception.getMessage());
+            assertThrows(UnsupportedOperationException.class, () -> snapshot.sort(Comparator.naturalOrder()));
+            assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("subList()")
+    public class MethodSubList {
+        @Test
+        public void subList_readsAndWritesThroughToList() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+
+            CustomList<Integer> subList = integerList.subList(2, 6);
+
+            assertEquals(4, subList.size());
+            assertEquals(2, subList.get(0));
+            assertEquals(3, subList.indexOf(5));
+
+            subList.add(100);
+            subList.remove(0);
+
+            assertEquals(10, integerList.size());
+            assertEquals(3, integerList.get(2));
+            assertEquals(100, integerList.get(5));
+            assertEquals(6, integerList.get(6));
+
+            subList.removeAll();
+
+            assertEquals(0, subList.size());
+            assertEquals(6, integerList.size());
+            assertEquals(6, integerList.get(2));
+        }
+
+        @Test
+        public void subList_sortsOnlyRange() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int value : new int[]{9, 8, 7, 6, 5, 4, 3}) {
+                integerList.add(value);
+            }
+
+            integerList.subList(1, 5).sort(Comparator.naturalOrder());
+
+            assertEquals(List.of(9, 5, 6, 7, 8, 4, 3), integerList.stream().collect(Collectors.toList()));
+        }
+
+        @Test
+        public void subList_nestedViewUsesSameData() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+
+            CustomList<Integer> nested = integerList.subList(2, 8).subList(1, 3);
+            nested.remove(0);
+
+            assertEquals(1, nested.size());
+            assertEquals(4, nested.get(0));
+            assertEquals(9, integerList.size());
+        }
+
+        @Test
+        public void subList_failsFastAfterStructuralChange() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+            CustomList<Integer> subList = integerList.subList(0, 5);
+
+            integerList.add(10);
+
+            assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        }
+
+        @Test
+        public void subList_checksRange() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            integerList.add(1);
+
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.subList(0, 2));
+            assertEquals("From: 0, To: 2, Size: 1", exception.getMessage());
+            assertEquals(0, integerList.subList(1, 1).size());
+        }
+
+        @Test
+        public void subList_worksOverAnyCustomList() {
+            RingBufferCustomList<Integer> integerList = new RingBufferCustomList<>();
+            for (int i = 0; i < 10; i++) {
+                integerList.addFirst(i);
+            }
+
+            CustomList<Integer> subList = integerList.subList(7, 10);
+            subList.add(-1);
+            subList.sort(Comparator.naturalOrder());
+
+            assertEquals(4, subList.size());
+            assertEquals(-1, subList.get(0));
+            assertEquals(2, integerList.get(10));
+            assertEquals(11, integerList.size());
+
+            integerList.removeFirst();
+
+            assertThrows(ConcurrentModificationException.class, subList::size);
+        }
+    }
+
+    @Nested
+    @DisplayName("footprint()")
+    public class MethodFootprint {
+        @Test
+        public void emptyList_sharesEmptyArrayUntilFirstAdd() throws NoSuchFieldException, IllegalAccessException {
+            CustomArrayList<Integer> first = new CustomArrayList<>();
+            CustomArrayList<Integer> second = new CustomArrayList<>();
+            Field dataField = CustomArrayList.class.getDeclaredField("data");
+            dataField.setAccessible(true);
+
+            assertTrue(dataField.get(first) == dataField.get(second));
+            assertEquals(0, first.footprint().getArrayBytes());
+            assertEquals(48, first.footprint().getTotalBytes());
+
+            first.add(1);
+
+            assertEquals(10, ((Object[]) dataField.get(first)).length);
+            assertEquals(0, ((Object[]) dataField.get(second)).length);
+            assertEquals(10, first.footprint().getCapacity());
+            assertEquals(104, first.footprint().getTotalBytes());
+            assertEquals(36, first.footprint().getUnusedBytes());
+        }
+
+        @Test
+        public void trimAndRemoveAll_releaseArray() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>(100);
+            integerList.add(1);
+            integerList.snapshot();
+
+            integerList.removeAll();
+
+            assertEquals(0, integerList.footprint().getArrayBytes());
+            integerList.add(2);
+            assertEquals(100, integerList.footprint().getCapacity());
+
+            integerList.remove(0);
+            integerList.trimCapacityToSize();
+
+            assertEquals(0, integerList.footprint().getCapacity());
+            integerList.add(3);
+            assertEquals(3, integerList.get(0));
+            assertEquals(10, integerList.footprint().getCapacity());
+        }
+
+        @Test
+        public void footprint_includesHashIndex() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>(0);
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+            long withoutIndex = integerList.footprint().getTotalBytes();
+
+            integerList.enableHashIndex();
+
+            assertEquals(withoutIndex + integerList.hashIndexMemoryBytes(), integerList.footprint().getTotalBytes());
+        }
+    }
+
+    @Nested
+    @DisplayName("ArrayPool / recycle()")
+    public class MethodRecycle {
+        @Test
+        public void pooledList_reusesArraysAfterRecycle() throws NoSuchFieldException, IllegalAccessException {
+            ArrayPool pool = new ArrayPool();
+            Field dataField = CustomArrayList.class.getDeclaredField("data");
+            dataField.setAccessible(true);
+            CustomArrayList<Integer> first = new CustomArrayList<>(pool);
+            for (int i = 0; i < 1000; i++) {
+                first.add(i);
+            }
+            Object data = dataField.get(first);
+            assertEquals(1024, ((Object[]) data).length);
+
+            first.recycle();
+
+            assertEquals(0, first.size());
+            CustomArrayList<Integer> second = new CustomArrayList<>(pool);
+            for (int i = 0; i < 1000; i++) {
+                second.add(-i);
+            }
+            assertTrue(data == dataField.get(second));
+            assertEquals(-999, second.get(999));
+        }
+
+        @Test
+        public void pooledList_growsThroughPoolAndKeepsElements() {
+            ArrayPool pool = new ArrayPool();
+            CustomArrayList<Integer> integerList = new CustomArrayList<>(pool);
+            for (int i = 0; i < 5000; i++) {
+                integerList.add(i);
+                if (i % 1000 == 0) {
+                    integerList.add(-1, i);
+                    integerList.remove(i);
+                }
+            }
+            integerList.reserve(10_000);
+            integerList.removeIf(value -> value % 2 == 0);
+
+            assertEquals(2500, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(4999, integerList.get(2499));
+
+            integerList.removeAll();
+            integerList.add(7);
+            assertEquals(7, integerList.get(0));
+        }
+
+        @Test
+        public void recycle_doesNotReleaseSnapshotArray() {
+            ArrayPool pool = new ArrayPool();
+            CustomArrayList<Integer> integerList = new CustomArrayList<>(pool);
+            for (int i = 0; i < 20; i++) {
+                integerList.add(i);
+            }
+            CustomList<Integer> snapshot = integerList.snapshot();
+
+            integerList.recycle();
+            CustomArrayList<Integer> other = new CustomArrayList<>(pool);
+            for (int i = 0; i < 20; i++) {
+                other.add(100);
+            }
+
+            assertEquals(20, snapshot.size());
+            assertEquals(19, snapshot.get(19));
+        }
+
+        @Test
+        public void pooledList_reportsPoolCapacityToMetrics() {
+            ArrayPool pool = new ArrayPool();
+            CustomListMetrics metrics = new CustomListMetrics();
+            CustomArrayList<Integer> integerList = new CustomArrayList<>(pool);
+            integerList.enableMetrics(metrics);
+
+            integerList.add(1);
+            assertEquals(16, integerList.footprint().getCapacity());
+            assertEquals(16, metrics.getCapacity());
+
+            for (int i = 0; i < 20; i++) {
+                integerList.add(i);
+            }
+            assertEquals(32, integerList.footprint().getCapacity());
+            assertEquals(32, metrics.getCapacity());
+
+            integerList.reserve(40);
+            integerList.snapshot();
+            integerList.add(2);
+            assertEquals(64, integerList.footprint().getCapacity());
+            assertEquals(64, metrics.getCapacity());
+
+            integerList.recycle();
+            integerList.add(3);
+            assertEquals(integerList.footprint().getCapacity(), metrics.getCapacity());
+            assertEquals(1, metrics.getLiveElements());
+        }
+
+        @Test
+        public void recycle_withoutPool() {
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            integerList.add(1);
+            integerList.enableHashIndex();
+
+            integerList.recycle();
+
+            assertEquals(0, integerList.size());
+            assertEquals(0, integerList.footprint().getArrayBytes());
+            assertFalse(integerList.hasElement(1));
+            integerList.add(2);
+            assertTrue(integerList.hasElement(2));
+            assertThrows(NullPointerException.class, () -> new CustomArrayList<Integer>((ArrayPool) null));
+        }
+    }
+
     @Nested
     @DisplayName("size()")
     public class MethodSize {
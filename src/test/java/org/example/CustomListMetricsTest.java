@@ -0,0 +1,85 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomListMetricsTest {
+
+    @Nested
+    @DisplayName("CustomArrayList metrics")
+    public class Recording {
+        @Test
+        public void metrics_countOperationsAndCapacity() {
+            CustomListMetrics metrics = new CustomListMetrics();
+            CustomArrayList<Integer> integerList = new CustomArrayList<>();
+            integerList.enableMetrics(metrics);
+
+            for (int i = 0; i < 11; i++) {
+                integerList.add(i);
+            }
+            integerList.add(-1, 0);
+            integerList.addAll(List.of(100, 200));
+            integerList.remove(0);
+            integerList.removeRange(0, 2);
+            integerList.hasElement(200);
+            integerList.hasElement(12345);
+            integerList.sort(Comparator.reverseOrder());
+
+            CustomListMetrics.Snapshot snapshot = metrics.snapshot();
+            assertEquals(13, snapshot.getAdds());
+            assertEquals(1, snapshot.getInserts());
+            assertEquals(3, snapshot.getRemoves());
+            assertEquals(1, snapshot.getResizes());
+            assertEquals(10 * MemoryEstimates.REFERENCE, snapshot.getCopiedBytes());
+            assertEquals(11, snapshot.getLiveElements());
+            assertEquals(16, snapshot.getCapacity());
+            assertEquals(5, snapshot.getWastedCapacity());
+            assertEquals(2, snapshot.getScans());
+            assertEquals(11, snapshot.getMeanScanLength());
+            assertEquals(15, snapshot.getScanLengthP99());
+            assertEquals(1, snapshot.getSorts());
+
+            integerList.trimCapacityToSize();
+            assertEquals(0, metrics.getWastedCapacity());
+
+            integerList.disableMetrics();
+            integerList.add(1);
+            assertNull(integerList.getMetrics());
+            assertEquals(0, metrics.getLiveElements());
+            assertEquals(13, metrics.getAdds());
+        }
+
+        @Test
+        public void register_publishesMXBean() throws Exception {
+            CustomListMetrics metrics = new CustomListMetrics();
+            CustomArrayList<String> stringList = new CustomArrayList<>();
+            stringList.enableMetrics(metrics);
+            stringList.add("Peggy");
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("org.example:type=CustomListMetrics,name=\"test lists\"");
+
+            metrics.register("test lists");
+            try {
+                assertTrue(server.isRegistered(name));
+                assertEquals(1L, server.getAttribute(name, "Adds"));
+                assertEquals(9L, server.getAttribute(name, "WastedCapacity"));
+            } finally {
+                metrics.unregister();
+            }
+
+            assertFalse(server.isRegistered(name));
+        }
+    }
+}
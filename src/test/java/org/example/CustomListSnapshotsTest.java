@@ -0,0 +1,110 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomListSnapshotsTest {
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("write / read")
+    public class WriteAndRead {
+        @Test
+        public void read_fixedSizeElements() throws IOException {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                integerList.add(i * 3);
+            }
+            Path path = directory.resolve("integers.bin");
+
+            CustomListSnapshots.write(integerList, path, BinaryCodec.INTEGER);
+            CustomArrayList<Integer> loaded = CustomListSnapshots.read(path, BinaryCodec.INTEGER);
+
+            assertEquals(100_000, loaded.size());
+            assertEquals(0, loaded.get(0));
+            assertEquals(299_997, loaded.get(99_999));
+        }
+
+        @Test
+        public void read_variableSizeElements() throws IOException {
+            CustomList<String> stringList = new CustomArrayList<>();
+            stringList.add("Peggy");
+            stringList.add("");
+            stringList.add("Привет, мир");
+            stringList.add("😀 emoji");
+            CustomList<Person> personList = new CustomArrayList<>();
+            personList.add(new Person("Thom", 30));
+            personList.add(new Person(null, 5));
+            Path strings = directory.resolve("strings.bin");
+            Path persons = directory.resolve("persons.bin");
+
+            CustomListSnapshots.write(stringList, strings, BinaryCodec.STRING);
+            CustomListSnapshots.write(personList, persons, BinaryCodec.PERSON);
+
+            CustomArrayList<String> loadedStrings = CustomListSnapshots.read(strings, BinaryCodec.STRING);
+            for (int i = 0; i < stringList.size(); i++) {
+                assertEquals(stringList.get(i), loadedStrings.get(i));
+            }
+            CustomArrayList<Person> loadedPersons = CustomListSnapshots.read(persons, BinaryCodec.PERSON);
+            assertEquals("Thom", loadedPersons.get(0).getName());
+            assertEquals(30, loadedPersons.get(0).getAge());
+            assertNull(loadedPersons.get(1).getName());
+            assertEquals(5, loadedPersons.get(1).getAge());
+        }
+
+        @Test
+        public void read_whenCodecOrFileDoesNotMatch() throws IOException {
+            CustomList<Long> longList = new CustomArrayList<>();
+            longList.add(1L);
+            Path path = directory.resolve("longs.bin");
+            CustomListSnapshots.write(longList, path, BinaryCodec.LONG);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> CustomListSnapshots.read(path, BinaryCodec.DOUBLE));
+            assertEquals("Snapshot was written with codec int64, not float64", exception.getMessage());
+
+            Path garbage = directory.resolve("garbage.bin");
+            Files.write(garbage, new byte[]{1, 2, 3});
+            assertThrows(IOException.class, () -> CustomListSnapshots.read(garbage, BinaryCodec.LONG));
+        }
+    }
+
+    @Nested
+    @DisplayName("map")
+    public class Map {
+        @Test
+        public void map_readsElementsInPlace() throws IOException {
+            CustomList<String> stringList = new CustomArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                stringList.add("value-" + i);
+            }
+            Path path = directory.resolve("mapped.bin");
+            CustomListSnapshots.write(stringList, path, BinaryCodec.STRING);
+
+            MappedCustomList<String> mapped = CustomListSnapshots.map(path, BinaryCodec.STRING);
+            try (mapped) {
+                assertEquals(1000, mapped.size());
+                assertEquals("value-999", mapped.get(999));
+                assertTrue(mapped.hasElement("value-500"));
+                assertFalse(mapped.hasElement("value-1000"));
+                assertEquals(1000, mapped.stream().count());
+                assertThrows(UnsupportedOperationException.class, () -> mapped.add("value"));
+            }
+
+            assertThrows(IllegalStateException.class, () -> mapped.get(0));
+        }
+    }
+}
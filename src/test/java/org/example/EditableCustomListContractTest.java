@@ -0,0 +1,112 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Общие проверки списков с дешевой вставкой в середину: наследники задают только способ создания списка
+ * и добавляют тесты своей структуры.
+ */
+abstract class EditableCustomListContractTest {
+
+    protected abstract CustomList<Integer> newList();
+
+    protected abstract CustomList<Integer> newList(int capacity);
+
+    @Nested
+    @DisplayName("add / get")
+    public class MethodAdd {
+        @Test
+        public void addByIndex_nearCursorAndFarAway() {
+            CustomList<Integer> integerList = newList(2);
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+
+            integerList.add(-1, 5);
+            integerList.add(-2, 6);
+            integerList.add(-3, 0);
+
+            assertEquals(13, integerList.size());
+            assertEquals(-3, integerList.get(0));
+            assertEquals(4, integerList.get(5));
+            assertEquals(-1, integerList.get(6));
+            assertEquals(-2, integerList.get(7));
+            assertEquals(5, integerList.get(8));
+            assertEquals(9, integerList.get(12));
+        }
+
+        @Test
+        public void get_whenIndexIsOutOfBounds() {
+            CustomList<Integer> integerList = newList();
+            integerList.add(1);
+
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> integerList.get(1));
+            assertEquals("Index: 1, Size: 1", exception.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> integerList.add(2, -1));
+        }
+    }
+
+    @Nested
+    @DisplayName("remove")
+    public class MethodRemove {
+        @Test
+        public void randomEdits_matchCustomArrayList() {
+            CustomList<Integer> expected = new CustomArrayList<>();
+            CustomList<Integer> actual = newList();
+            Random random = new Random(7);
+            for (int step = 0; step < 5000; step++) {
+                if (expected.size() == 0 || random.nextInt(3) > 0) {
+                    int value = random.nextInt(1000);
+                    if (expected.size() == 0) {
+                        expected.add(value);
+                        actual.add(value);
+                    } else {
+                        int index = random.nextInt(expected.size());
+                        expected.add(value, index);
+                        actual.add(value, index);
+                    }
+                } else {
+                    int index = random.nextInt(expected.size());
+                    expected.remove(index);
+                    actual.remove(index);
+                }
+            }
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), actual.get(i));
+            }
+        }
+
+        @Test
+        public void removeRangeAndRemoveIf_afterRemoveInTheMiddle() {
+            CustomList<Integer> integerList = newList();
+            for (int i = 0; i < 20; i++) {
+                integerList.add(i);
+            }
+            integerList.remove(10);
+
+            integerList.removeRange(2, 5);
+            assertTrue(integerList.removeIf(value -> value % 2 == 0));
+            assertFalse(integerList.removeIf(value -> value > 100));
+
+            assertEquals(9, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(5, integerList.get(1));
+            assertEquals(19, integerList.get(8));
+            assertEquals(3, integerList.indexOf(9));
+            assertEquals(-1, integerList.indexOf(10));
+            assertFalse(integerList.hasElement(8));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalSorterTest {
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("sort")
+    public class MethodSort {
+        @Test
+        public void sort_spillsRunsAndMerges() throws IOException {
+            CustomList<Integer> integerList = new CustomArrayList<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 50_000; i++) {
+                integerList.add(random.nextInt(1000));
+            }
+            ExternalSorter<Integer> sorter = new ExternalSorter<>(BinaryCodec.INTEGER, Comparator.naturalOrder(),
+                    1000L * (Integer.BYTES + ExternalSorter.ELEMENT_OVERHEAD_BYTES), directory);
+
+            int count = 0;
+            int previous = Integer.MIN_VALUE;
+            try (CloseableIterator<Integer> sorted = sorter.sort(integerList)) {
+                assertEquals(50, countFiles());
+                while (sorted.hasNext()) {
+                    int current = sorted.next();
+                    assertTrue(previous <= current);
+                    previous = current;
+                    count++;
+                }
+            }
+
+            assertEquals(50_000, count);
+            assertEquals(0, countFiles());
+        }
+
+        @Test
+        public void sort_whenInputFitsInMemory() throws IOException {
+            CustomList<String> stringList = new CustomArrayList<>();
+            stringList.add("Thom");
+            stringList.add("Claire");
+            stringList.add("Peggy");
+            ExternalSorter<String> sorter = new ExternalSorter<>(BinaryCodec.STRING, Comparator.naturalOrder(),
+                    1 << 20, directory);
+
+            try (CloseableIterator<String> sorted = sorter.sort(stringList)) {
+                assertEquals(0, countFiles());
+                assertEquals("Claire", sorted.next());
+                assertEquals("Peggy", sorted.next());
+                assertEquals("Thom", sorted.next());
+                assertFalse(sorted.hasNext());
+            }
+        }
+
+        @Test
+        public void close_deletesRunsWhenAbandoned() throws IOException {
+            CustomList<Person> personList = new CustomArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                personList.add(new Person("name-" + i, 100 - i));
+            }
+            ExternalSorter<Person> sorter = new ExternalSorter<>(BinaryCodec.PERSON,
+                    Comparator.comparingInt(Person::getAge), 200, directory);
+
+            try (CloseableIterator<Person> sorted = sorter.sort(personList)) {
+                Person youngest = sorted.next();
+                assertEquals("name-99", youngest.getName());
+                assertEquals(1, youngest.getAge());
+                assertTrue(countFiles() > 1);
+            }
+
+            assertEquals(0, countFiles());
+        }
+
+        private long countFiles() throws IOException {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.count();
+            }
+        }
+    }
+}
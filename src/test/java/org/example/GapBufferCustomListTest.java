@@ -0,0 +1,68 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GapBufferCustomListTest extends EditableCustomListContractTest {
+
+    @Override
+    protected CustomList<Integer> newList() {
+        return new GapBufferCustomList<>();
+    }
+
+    @Override
+    protected CustomList<Integer> newList(int capacity) {
+        return new GapBufferCustomList<>(capacity);
+    }
+
+    @Nested
+    @DisplayName("gap movement")
+    public class GapMovement {
+        @Test
+        public void removeRange_movesGapToTheRange() {
+            CustomList<Integer> integerList = new GapBufferCustomList<>();
+            for (int i = 0; i < 20; i++) {
+                integerList.add(i);
+            }
+            integerList.add(-1, 3);
+
+            integerList.removeRange(15, 18);
+            integerList.add(-2, 15);
+            integerList.add(-3, 1);
+
+            assertEquals(20, integerList.size());
+            assertEquals(-3, integerList.get(1));
+            assertEquals(-1, integerList.get(4));
+            assertEquals(13, integerList.get(15));
+            assertEquals(-2, integerList.get(16));
+            assertEquals(17, integerList.get(17));
+            assertEquals(18, integerList.get(18));
+            assertEquals(19, integerList.get(19));
+        }
+
+        @Test
+        public void sortAndTrim_keepElements() {
+            CustomList<Integer> integerList = new GapBufferCustomList<>();
+            integerList.add(0);
+            for (int i = 1; i < 30; i++) {
+                integerList.add(i % 7, i / 2);
+            }
+
+            integerList.sort(Comparator.naturalOrder());
+            integerList.trimCapacityToSize();
+            integerList.add(100, 0);
+
+            assertEquals(31, integerList.size());
+            assertEquals(100, integerList.get(0));
+            for (int i = 2; i < integerList.size(); i++) {
+                assertTrue(integerList.get(i - 1) <= integerList.get(i));
+            }
+        }
+    }
+}
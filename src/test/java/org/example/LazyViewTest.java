@@ -0,0 +1,132 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyViewTest {
+
+    private static CustomArrayList<Integer> range(int size) {
+        CustomArrayList<Integer> integerList = new CustomArrayList<>();
+        for (int i = 0; i < size; i++) {
+            integerList.add(i);
+        }
+        return integerList;
+    }
+
+    @Nested
+    @DisplayName("map() / filter() / limit()")
+    public class Stages {
+        @Test
+        public void pipeline_appliesStagesInOrder() {
+            CustomArrayList<String> result = range(20).lazy()
+                    .filter(value -> value % 3 == 0)
+                    .map(value -> "v" + value)
+                    .limit(4)
+                    .toCustomArrayList();
+
+            assertEquals(4, result.size());
+            assertEquals("v0", result.get(0));
+            assertEquals("v9", result.get(3));
+        }
+
+        @Test
+        public void pipeline_isLazyAndStopsAtLimit() {
+            List<Integer> visited = new ArrayList<>();
+            LazyView<Integer> view = range(100).lazy()
+                    .map(value -> {
+                        visited.add(value);
+                        return value * 2;
+                    })
+                    .limit(3);
+
+            assertEquals(0, visited.size());
+
+            List<Integer> result = new ArrayList<>();
+            view.forEach(result::add);
+
+            assertEquals(List.of(0, 2, 4), result);
+            assertEquals(List.of(0, 1, 2), visited);
+        }
+
+        @Test
+        public void pipeline_canBeRunRepeatedly() {
+            CustomArrayList<Integer> source = range(10);
+            LazyView<Integer> view = source.lazy().filter(value -> value % 2 == 0).limit(2);
+
+            assertEquals(2, view.count());
+            source.removeRange(0, 5);
+
+            assertEquals(6, view.toCustomArrayList().get(0));
+            assertEquals(2, view.count());
+        }
+
+        @Test
+        public void limit_negative() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> range(1).lazy().limit(-1));
+            assertEquals("Limit cannot be less 0", exception.getMessage());
+            assertEquals(0, range(5).lazy().limit(0).count());
+        }
+    }
+
+    @Nested
+    @DisplayName("toCustomArrayList()")
+    public class MethodToCustomArrayList {
+        @Test
+        public void toCustomArrayList_allocatesExactSizeWithoutFilter() throws NoSuchFieldException, IllegalAccessException {
+            CustomArrayList<Integer> result = range(50).lazy().map(value -> value + 1).limit(30).toCustomArrayList();
+            Field dataField = CustomArrayList.class.getDeclaredField("data");
+            dataField.setAccessible(true);
+
+            assertEquals(30, result.size());
+            assertEquals(30, ((Object[]) dataField.get(result)).length);
+            assertEquals(30, result.get(29));
+        }
+
+        @Test
+        public void toCustomArrayList_trimsSparseFilterResult() {
+            CustomArrayList<Integer> sparse = range(1000).lazy().filter(value -> value % 100 == 0).toCustomArrayList();
+            CustomArrayList<Integer> dense = range(1000).lazy().filter(value -> value % 3 != 0).toCustomArrayList();
+
+            assertEquals(10, sparse.size());
+            assertEquals(10, sparse.footprint().getCapacity());
+            assertEquals(900, sparse.get(9));
+            assertEquals(666, dense.size());
+            assertEquals(1000, dense.footprint().getCapacity());
+            assertEquals(0, range(100).lazy().filter(value -> value < 0).toCustomArrayList().footprint().getArrayBytes());
+        }
+
+        @Test
+        public void toCustomArrayList_resultIsIndependentAndGrows() {
+            CustomArrayList<Integer> source = range(10);
+            CustomArrayList<Integer> result = source.lazy().filter(value -> value > 6).toCustomArrayList();
+
+            result.add(100);
+            result.add(200, 0);
+            source.removeAll();
+
+            assertEquals(5, result.size());
+            assertEquals(200, result.get(0));
+            assertEquals(100, result.get(4));
+        }
+
+        @Test
+        public void toCustomArrayList_overSubList() {
+            CustomArrayList<Integer> result = range(100).subList(10, 20).lazy()
+                    .filter(value -> value % 2 == 1)
+                    .toCustomArrayList();
+
+            assertEquals(5, result.size());
+            assertEquals(11, result.get(0));
+            assertEquals(19, result.get(4));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapCustomListTest {
+
+    @Nested
+    @DisplayName("add/get")
+    public class MethodAdd {
+        @Test
+        public void add_whenSizeMoreChunkSize() {
+            try (OffHeapCustomList<Long> longList = new OffHeapCustomList<>(ElementCodec.LONG, 4)) {
+                for (long i = 0; i < 20; i++) {
+                    longList.add(i);
+                }
+
+                assertEquals(20, longList.size());
+                assertEquals(5 * 4 * Long.BYTES, longList.allocatedBytes());
+                assertEquals(0L, longList.get(0));
+                assertEquals(19L, longList.get(19));
+                assertTrue(longList.hasElement(12L));
+            }
+        }
+
+        @Test
+        public void addByIndex_acrossChunks() {
+            try (OffHeapCustomList<Integer> intList = new OffHeapCustomList<>(ElementCodec.INT, 3)) {
+                for (int i = 0; i < 6; i++) {
+                    intList.add(i);
+                }
+                intList.add(100, 1);
+
+                assertEquals(7, intList.size());
+                assertEquals(0, intList.get(0));
+                assertEquals(100, intList.get(1));
+                assertEquals(1, intList.get(2));
+                assertEquals(5, intList.get(6));
+            }
+        }
+
+        @Test
+        public void get_whenIndexIsMoreSize() {
+            try (OffHeapCustomList<Integer> intList = new OffHeapCustomList<>(ElementCodec.INT)) {
+                intList.add(1);
+
+                IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                        () -> intList.get(1));
+                assertEquals("Index: " + 1 + ", Size: " + 1, exception.getMessage());
+            }
+        }
+
+        @Test
+        public void add_withCustomCodec() {
+            ElementCodec<Person> personCodec = new ElementCodec<>() {
+                @Override
+                public int elementSize() {
+                    return Integer.BYTES + Character.BYTES;
+                }
+
+                @Override
+                public void write(ByteBuffer buffer, int offset, Person element) {
+                    buffer.putInt(offset, element.getAge());
+                    buffer.putChar(offset + Integer.BYTES, element.getName().charAt(0));
+                }
+
+                @Override
+                public Person read(ByteBuffer buffer, int offset) {
+                    return new Person(String.valueOf(buffer.getChar(offset + Integer.BYTES)), buffer.getInt(offset));
+                }
+            };
+
+            try (OffHeapCustomList<Person> personList = new OffHeapCustomList<>(personCodec, 2)) {
+                personList.add(new Person("N", 23));
+                personList.add(new Person("C", 49));
+                personList.add(new Person("P", 18));
+                personList.sort(Comparator.comparing(Person::getAge));
+
+                assertEquals("P", personList.get(0).getName());
+                assertEquals("N", personList.get(1).getName());
+                assertEquals(49, personList.get(2).getAge());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("remove/sort/trim")
+    public class MethodRemove {
+        @Test
+        public void remove_byValueAndByIndex() {
+            try (OffHeapCustomList<Integer> intList = new OffHeapCustomList<>(ElementCodec.INT, 4)) {
+                for (int i = 0; i < 10; i++) {
+                    intList.add(i);
+                }
+
+                intList.remove(Integer.valueOf(0));
+                intList.remove(3);
+
+                assertEquals(8, intList.size());
+                assertFalse(intList.hasElement(0));
+                assertFalse(intList.hasElement(4));
+                assertEquals(5, intList.get(3));
+                assertEquals(9, intList.get(7));
+            }
+        }
+
+        @Test
+        public void sort_acrossChunks() {
+            try (OffHeapCustomList<Double> doubleList = new OffHeapCustomList<>(ElementCodec.DOUBLE, 5)) {
+                for (int i = 0; i < 50; i++) {
+                    doubleList.add((double) ((i * 31) % 50));
+                }
+
+                doubleList.sort(Comparator.naturalOrder());
+
+                for (int i = 0; i < 50; i++) {
+                    assertEquals(i, doubleList.get(i));
+                }
+            }
+        }
+
+        @Test
+        public void sort_manyDuplicates() {
+            try (OffHeapCustomList<Integer> intList = new OffHeapCustomList<>(ElementCodec.INT, 64)) {
+                for (int i = 0; i < 2000; i++) {
+                    intList.add((i * 7) % 5);
+                }
+
+                intList.sort(Comparator.reverseOrder());
+
+                for (int i = 0; i < 2000; i++) {
+                    assertEquals(4 - i / 400, intList.get(i));
+                }
+            }
+        }
+
+        @Test
+        public void trimCapacityToSize_releasesEmptyChunks() {
+            try (OffHeapCustomList<Integer> intList = new OffHeapCustomList<>(ElementCodec.INT, 4)) {
+                for (int i = 0; i < 20; i++) {
+                    intList.add(i);
+                }
+                for (int i = 0; i < 14; i++) {
+                    intList.remove(intList.size() - 1);
+                }
+
+                intList.trimCapacityToSize();
+
+                assertEquals(2 * 4 * Integer.BYTES, intList.allocatedBytes());
+                assertEquals(5, intList.get(5));
+                intList.add(6);
+                assertEquals(7, intList.size());
+            }
+        }
+
+        @Test
+        public void close_whenListIsUsedAfterClose() {
+            OffHeapCustomList<Integer> intList = new OffHeapCustomList<>(ElementCodec.INT);
+            intList.add(1);
+            intList.close();
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () -> intList.add(2));
+            assertEquals("List is closed", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistentCustomListTest {
+
+    @Nested
+    @DisplayName("withAdded / withSet")
+    public class MethodWith {
+        @Test
+        public void withAdded_keepsEveryVersion() {
+            PersistentCustomList<Integer> list = PersistentCustomList.empty();
+            CustomArrayList<PersistentCustomList<Integer>> versions = new CustomArrayList<>(2000);
+            for (int i = 0; i < 2000; i++) {
+                versions.add(list);
+                list = list.withAdded(i);
+            }
+
+            assertEquals(2000, list.size());
+            for (int i = 0; i < 2000; i++) {
+                assertEquals(i, list.get(i));
+            }
+            assertEquals(0, versions.get(0).size());
+            assertEquals(33, versions.get(33).size());
+            assertEquals(32, versions.get(33).get(32));
+            assertEquals(1055, versions.get(1056).get(1055));
+            assertThrows(IndexOutOfBoundsException.class, () -> versions.get(1056).get(1056));
+        }
+
+        @Test
+        public void withSet_changesOnlyNewVersion() {
+            PersistentCustomList<Integer> list = PersistentCustomList.empty();
+            for (int i = 0; i < 1100; i++) {
+                list = list.withAdded(i);
+            }
+
+            PersistentCustomList<Integer> changed = list.withSet(5, -5).withSet(1099, -1099);
+
+            assertEquals(5, list.get(5));
+            assertEquals(1099, list.get(1099));
+            assertEquals(-5, changed.get(5));
+            assertEquals(-1099, changed.get(1099));
+            assertEquals(6, changed.get(6));
+            assertEquals(5, changed.indexOf(-5));
+            assertFalse(list.hasElement(-5));
+        }
+
+        @Test
+        public void copyOf_buildsSameSequence() {
+            CustomList<Integer> source = new CustomArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                source.add(i * 2);
+            }
+
+            PersistentCustomList<Integer> list = PersistentCustomList.copyOf(source);
+
+            assertEquals(5000, list.size());
+            assertEquals(0, list.get(0));
+            assertEquals(2048, list.get(1024));
+            assertEquals(9998, list.get(4999));
+            assertEquals(5001, list.withAdded(1).size());
+            assertEquals(5000, list.size());
+            assertSame(PersistentCustomList.empty(), PersistentCustomList.copyOf(new CustomArrayList<Integer>()));
+        }
+    }
+
+    @Nested
+    @DisplayName("withRemoved / immutability")
+    public class MethodWithRemoved {
+        @Test
+        public void randomEdits_matchCustomArrayList() {
+            CustomList<Integer> expected = new CustomArrayList<>();
+            PersistentCustomList<Integer> actual = PersistentCustomList.empty();
+            Random random = new Random(3);
+            for (int step = 0; step < 3000; step++) {
+                int operation = random.nextInt(5);
+                int value = random.nextInt(1000);
+                if (expected.size() == 0 || operation < 2) {
+                    expected.add(value);
+                    actual = actual.withAdded(value);
+                } else if (operation == 2) {
+                    expected.remove(expected.size() - 1);
+                    actual = actual.withRemoved(actual.size() - 1);
+                } else if (operation == 3) {
+                    int index = expected.size() - 1 - random.nextInt(Math.min(expected.size(), 40));
+                    expected.add(value, index);
+                    actual = actual.withAdded(value, index);
+                } else {
+                    int index = expected.size() - 1 - random.nextInt(Math.min(expected.size(), 40));
+                    expected.remove(index);
+                    actual = actual.withRemoved(index);
+                }
+            }
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), actual.get(i));
+            }
+        }
+
+        @Test
+        public void withRemoved_shrinksTreeDepth() {
+            PersistentCustomList<Integer> list = PersistentCustomList.empty();
+            for (int i = 0; i < 1100; i++) {
+                list = list.withAdded(i);
+            }
+            for (int i = 1099; i >= 1; i--) {
+                list = list.withRemoved(i);
+            }
+
+            assertEquals(1, list.size());
+            assertEquals(0, list.get(0));
+            assertEquals(0, list.withRemoved(0).size());
+            assertEquals(7, list.withRemoved(0).withAdded(7).get(0));
+        }
+
+        @Test
+        public void inPlaceMutators_throw() {
+            PersistentCustomList<Integer> list = PersistentCustomList.<Integer>empty().withAdded(1);
+
+            UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+                    () -> list.add(2));
+            assertEquals("Persistent list is immutable", exception.getMessage());
+            assertThrows(UnsupportedOperationException.class, () -> list.sort(Comparator.naturalOrder()));
+            assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+            assertTrue(list.hasElement(1));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersonColumnListTest {
+
+    @Nested
+    @DisplayName("CustomList operations")
+    public class ListOperations {
+        @Test
+        public void add_getAndRemove() {
+            PersonColumnList persons = new PersonColumnList(2);
+            persons.add(new Person("Peggy", 30));
+            persons.add(new Person("Thom", 25));
+            persons.addPerson("Peggy", 41);
+            persons.add(new Person(null, 7), 1);
+
+            assertEquals(4, persons.size());
+            assertEquals("Peggy", persons.get(0).getName());
+            assertEquals(30, persons.get(0).getAge());
+            assertNull(persons.getName(1));
+            assertEquals(41, persons.getAge(3));
+            assertEquals(2, persons.distinctNames());
+            assertTrue(persons.hasElement(new Person(null, 7)));
+            assertFalse(persons.hasElement(new Person("Claire", 30)));
+
+            persons.remove(new Person("Peggy", 41));
+            persons.remove(0);
+
+            assertEquals(2, persons.size());
+            assertEquals("Thom", persons.get(1).getName());
+            assertEquals(25, persons.get(1).getAge());
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> persons.get(2));
+            assertEquals("Index: " + 2 + ", Size: " + 2, exception.getMessage());
+        }
+
+        @Test
+        public void retainAllAndSubList_matchByNameAndAge() {
+            PersonColumnList persons = new PersonColumnList();
+            Person peggy = new Person("Peggy", 30);
+            Person bob = new Person("Bob", 41);
+            persons.add(peggy);
+            persons.add(bob);
+            persons.add(new Person(null, 7));
+            persons.add(new Person("Peggy", 30));
+
+            CustomList<Person> range = persons.subList(0, 3);
+            assertTrue(range.hasElement(peggy));
+            assertEquals(1, range.indexOf(bob));
+            assertEquals(0, range.lastIndexOf(new Person("Peggy", 30)));
+            assertEquals(1, range.subList(1, 3).lastIndexOf(new Person(null, 7)));
+
+            range.remove(bob);
+            assertEquals(3, persons.size());
+            assertEquals(0, persons.subList(0, 2).subList(1, 2).indexOf(new Person(null, 7)));
+
+            assertFalse(persons.retainAll(List.of(peggy, new Person(null, 7), "Peggy")));
+            assertTrue(persons.retainAll(List.of(new Person("Peggy", 30), new Person("Unknown", 30))));
+            assertEquals(2, persons.size());
+            assertEquals(30, persons.getAge(1));
+
+            persons.addPerson("Thom", 25);
+            assertTrue(persons.subList(1, 3).retainAll(List.of(new Person("Thom", 25))));
+            assertEquals(2, persons.size());
+            assertEquals("Peggy", persons.getName(0));
+            assertEquals("Thom", persons.getName(1));
+        }
+
+        @Test
+        public void sort_withComparatorAndByAge() {
+            PersonColumnList persons = new PersonColumnList();
+            for (int i = 0; i < 100; i++) {
+                persons.addPerson("name-" + (i % 10), (i * 37) % 50);
+            }
+
+            persons.sortByAge();
+            for (int i = 1; i < persons.size(); i++) {
+                assertTrue(persons.getAge(i - 1) <= persons.getAge(i));
+            }
+            assertEquals("name-0", persons.getName(0));
+            assertEquals("name-0", persons.getName(1));
+            assertEquals(0, persons.getAge(1));
+
+            persons.sort(Comparator.comparing(Person::getName).thenComparing(Person::getAge, Comparator.reverseOrder()));
+            assertEquals("name-0", persons.get(0).getName());
+            assertEquals(40, persons.get(0).getAge());
+            assertEquals("name-9", persons.get(99).getName());
+            assertEquals(3, persons.get(99).getAge());
+        }
+    }
+
+    @Nested
+    @DisplayName("column scans")
+    public class ColumnScans {
+        @Test
+        public void scans_matchMaterializedPersons() {
+            PersonColumnList persons = new PersonColumnList();
+            CustomList<Person> reference = new CustomArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                Person person = new Person("name-" + (i % 7), i % 90);
+                persons.add(person);
+                reference.add(person);
+            }
+
+            assertEquals(reference.stream().mapToLong(Person::getAge).sum(), persons.sumAges());
+            assertEquals(reference.stream().filter(p -> p.getAge() >= 18 && p.getAge() <= 30).count(),
+                    persons.countAgeBetween(18, 30));
+            assertEquals(0, persons.countAgeBetween(30, 18));
+            assertEquals(persons.countAgeBetween(18, 30), persons.indicesOfAgeBetween(18, 30).size());
+            assertEquals(18, persons.getAge(persons.indicesOfAgeBetween(18, 30).getInt(0)));
+            assertEquals(143, persons.countName("name-0"));
+            assertEquals(0, persons.countName("unknown"));
+        }
+    }
+}
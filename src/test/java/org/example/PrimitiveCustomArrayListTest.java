@@ -0,0 +1,346 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimitiveCustomArrayListTest {
+
+    @Nested
+    @DisplayName("IntCustomArrayList")
+    public class IntList {
+        @Test
+        public void addInt_whenSizeMoreDefaultCapacity() {
+            IntCustomArrayList intList = new IntCustomArrayList();
+
+            for (int i = 0; i < 20; i++) {
+                intList.addInt(i);
+            }
+
+            assertEquals(20, intList.size());
+            assertEquals(12, intList.getInt(12));
+            assertTrue(intList.hasInt(19));
+            assertTrue(intList.hasElement(1));
+        }
+
+        @Test
+        public void addInt_byIndex() {
+            IntCustomArrayList intList = new IntCustomArrayList(2);
+            intList.addInt(1);
+            intList.addInt(3);
+            intList.addInt(2, 1);
+
+            assertEquals(3, intList.size());
+            assertEquals(1, intList.getInt(0));
+            assertEquals(2, intList.getInt(1));
+            assertEquals(3, intList.getInt(2));
+        }
+
+        @Test
+        public void getInt_whenIndexIsMoreSize() {
+            IntCustomArrayList intList = new IntCustomArrayList();
+            intList.addInt(1);
+
+            IndexOutOfBoundsException exception = assertThrows(IndexOutOfBoundsException.class,
+                    () -> intList.getInt(1));
+            assertEquals("Index: " + 1 + ", Size: " + 1, exception.getMessage());
+        }
+
+        @Test
+        public void remove_byValueAndByIndex() {
+            IntCustomArrayList intList = new IntCustomArrayList();
+            for (int i = 0; i < 10; i++) {
+                intList.addInt(i);
+            }
+
+            intList.removeInt(0);
+            intList.remove(Integer.valueOf(9));
+            intList.remove(3);
+
+            assertEquals(7, intList.size());
+            assertFalse(intList.hasInt(0));
+            assertFalse(intList.hasInt(9));
+            assertFalse(intList.hasInt(4));
+            assertEquals(1, intList.getInt(0));
+            assertEquals(8, intList.getInt(6));
+        }
+
+        @Test
+        public void sort_naturalAndComparator() {
+            IntCustomArrayList intList = new IntCustomArrayList();
+            intList.addInt(5);
+            intList.addInt(-1);
+            intList.addInt(3);
+
+            intList.sort();
+            assertEquals(-1, intList.getInt(0));
+            assertEquals(5, intList.getInt(2));
+
+            intList.sort(Comparator.reverseOrder());
+            assertEquals(5, intList.getInt(0));
+            assertEquals(-1, intList.getInt(2));
+        }
+
+        @Test
+        public void sortWithComparator_largeAndDegenerateInputs() {
+            Random random = new Random(11);
+            int[][] inputs = new int[4][20_000];
+            for (int i = 0; i < 20_000; i++) {
+                inputs[0][i] = i;
+                inputs[1][i] = 20_000 - i;
+                inputs[2][i] = 7;
+                inputs[3][i] = random.nextInt(100);
+            }
+
+            for (int[] input : inputs) {
+                IntCustomArrayList intList = new IntCustomArrayList();
+                for (int value : input) {
+                    intList.addInt(value);
+                }
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+
+                intList.sort(Comparator.reverseOrder());
+
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[expected.length - 1 - i], intList.getInt(i));
+                }
+            }
+        }
+
+        @Test
+        public void trimCapacityToSize_keepsElements() {
+            IntCustomArrayList intList = new IntCustomArrayList(500);
+            intList.addInt(7);
+            intList.trimCapacityToSize();
+            intList.addInt(8);
+
+            assertEquals(2, intList.size());
+            assertEquals(8, intList.getInt(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("LongCustomArrayList")
+    public class LongList {
+        @Test
+        public void addLong_andSort() {
+            LongCustomArrayList longList = new LongCustomArrayList();
+            for (long i = 20; i > 0; i--) {
+                longList.addLong(i * 1_000_000_000L);
+            }
+
+            longList.sort();
+
+            assertEquals(20, longList.size());
+            assertEquals(1_000_000_000L, longList.getLong(0));
+            assertEquals(20_000_000_000L, longList.getLong(19));
+            assertTrue(longList.hasLong(5_000_000_000L));
+        }
+
+        @Test
+        public void sortWithComparator_keepsAllElements() {
+            LongCustomArrayList longList = new LongCustomArrayList();
+            for (long i = 0; i < 1000; i++) {
+                longList.addLong((i * 37) % 100);
+            }
+
+            longList.sort(Comparator.reverseOrder());
+
+            assertEquals(1000, longList.size());
+            for (int i = 1; i < longList.size(); i++) {
+                assertTrue(longList.getLong(i - 1) >= longList.getLong(i));
+            }
+            assertEquals(99L, longList.getLong(0));
+            assertEquals(0L, longList.getLong(999));
+        }
+
+        @Test
+        public void removeAll_whenListIsNotEmpty() {
+            LongCustomArrayList longList = new LongCustomArrayList();
+            longList.addLong(1L);
+            longList.addLong(2L);
+
+            longList.removeAll();
+
+            assertEquals(0, longList.size());
+            assertFalse(longList.hasElement(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("DoubleCustomArrayList")
+    public class DoubleList {
+        @Test
+        public void hasDouble_usesDoubleEquality() {
+            DoubleCustomArrayList doubleList = new DoubleCustomArrayList();
+            doubleList.addDouble(Double.NaN);
+            doubleList.addDouble(0.0);
+
+            assertTrue(doubleList.hasDouble(Double.NaN));
+            assertFalse(doubleList.hasDouble(-0.0));
+            assertFalse(doubleList.hasElement(null));
+        }
+
+        @Test
+        public void removeDouble_andSort() {
+            DoubleCustomArrayList doubleList = new DoubleCustomArrayList();
+            doubleList.addDouble(2.5);
+            doubleList.addDouble(-1.5);
+            doubleList.addDouble(0.5);
+
+            doubleList.removeDouble(0.5);
+            doubleList.sort();
+
+            assertEquals(2, doubleList.size());
+            assertEquals(-1.5, doubleList.getDouble(0));
+            assertEquals(2.5, doubleList.getDouble(1));
+        }
+
+        @Test
+        public void sortWithComparator_ordersNaNLast() {
+            DoubleCustomArrayList doubleList = new DoubleCustomArrayList();
+            for (int i = 0; i < 100; i++) {
+                doubleList.addDouble(i % 10 == 0 ? Double.NaN : (i * 13) % 100 - 50.0);
+            }
+
+            doubleList.sort(Comparator.naturalOrder());
+
+            for (int i = 1; i < 90; i++) {
+                assertTrue(doubleList.getDouble(i - 1) <= doubleList.getDouble(i));
+            }
+            for (int i = 90; i < 100; i++) {
+                assertTrue(Double.isNaN(doubleList.getDouble(i)));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("kernels: indexOf / count / min / max / sum / ranges")
+    public class Kernels {
+        @Test
+        public void intAggregates_matchScalarLoop() {
+            IntCustomArrayList intList = new IntCustomArrayList();
+            for (int i = 0; i < 1003; i++) {
+                intList.addInt((i * 37) % 101 - 50);
+            }
+            intList.addInt(Integer.MAX_VALUE);
+            intList.addInt(Integer.MAX_VALUE);
+
+            assertEquals(3, intList.indexOfInt((3 * 37) % 101 - 50));
+            assertEquals(-1, intList.indexOfInt(1000));
+            assertEquals(-50, intList.min());
+            assertEquals(Integer.MAX_VALUE, intList.max());
+            long expectedSum = 2L * Integer.MAX_VALUE;
+            int expectedInRange = 0;
+            int expectedZeros = 0;
+            for (int i = 0; i < 1003; i++) {
+                int value = (i * 37) % 101 - 50;
+                expectedSum += value;
+                if (value >= -10 && value <= 10) {
+                    expectedInRange++;
+                }
+                if (value == 0) {
+                    expectedZeros++;
+                }
+            }
+            assertEquals(expectedSum, intList.sum());
+            assertEquals(expectedZeros, intList.countInt(0));
+            assertEquals(expectedInRange, intList.countInRange(-10, 10));
+
+            IntCustomArrayList filtered = intList.filterRange(-10, 10);
+            assertEquals(expectedInRange, filtered.size());
+            for (int i = 0; i < filtered.size(); i++) {
+                assertTrue(filtered.getInt(i) >= -10 && filtered.getInt(i) <= 10);
+            }
+        }
+
+        @Test
+        public void longAndDouble_followScalarSemantics() {
+            LongCustomArrayList longList = new LongCustomArrayList();
+            DoubleCustomArrayList doubleList = new DoubleCustomArrayList();
+            for (int i = 0; i < 67; i++) {
+                longList.addLong(i * 1_000_000_000_000L);
+                doubleList.addDouble(i * 0.5);
+            }
+            doubleList.addDouble(-0.0);
+            doubleList.addDouble(Double.NaN);
+
+            assertEquals(66_000_000_000_000L, longList.max());
+            assertEquals(2_211_000_000_000_000L, longList.sum());
+            assertEquals(10, longList.countInRange(5_000_000_000_000L, 14_000_000_000_000L));
+            assertEquals(65, longList.indexOfLong(65_000_000_000_000L));
+            assertEquals(1, longList.countLong(0));
+
+            assertEquals(0, doubleList.indexOfDouble(0.0));
+            assertEquals(67, doubleList.indexOfDouble(-0.0));
+            assertEquals(68, doubleList.indexOfDouble(Double.NaN));
+            assertEquals(1, doubleList.countDouble(0.0));
+            assertEquals(5, doubleList.countInRange(1.0, 3.0));
+            assertEquals(5, doubleList.filterRange(1.0, 3.0).size());
+            assertTrue(Double.isNaN(doubleList.max()));
+        }
+
+        @Test
+        public void copyOf_andEmptyList() {
+            CustomList<Integer> boxed = new CustomArrayList<>();
+            boxed.add(3);
+            boxed.add(-7);
+            IntCustomArrayList intList = IntCustomArrayList.copyOf(boxed);
+
+            assertEquals(2, intList.size());
+            assertEquals(-7, intList.min());
+            assertEquals(-4, intList.sum());
+            assertEquals(0, new IntCustomArrayList().sum());
+            assertThrows(NoSuchElementException.class, () -> new IntCustomArrayList().min());
+        }
+
+        @Test
+        public void vectorKernels_matchScalarKernels() {
+            NumericKernels scalar = NumericKernels.SCALAR;
+            NumericKernels vector = NumericKernels.get();
+            assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), vector.isVectorized());
+            Random random = new Random(5);
+            for (int length = 0; length < 80; length++) {
+                int[] ints = new int[length];
+                long[] longs = new long[length];
+                double[] doubles = new double[length];
+                for (int i = 0; i < length; i++) {
+                    ints[i] = random.nextInt(20) - 10;
+                    longs[i] = random.nextInt(20) - 10;
+                    doubles[i] = random.nextInt(20) - 10;
+                }
+                assertEquals(scalar.indexOf(ints, length, 3), vector.indexOf(ints, length, 3));
+                assertEquals(scalar.count(ints, length, 3), vector.count(ints, length, 3));
+                assertEquals(scalar.min(ints, length), vector.min(ints, length));
+                assertEquals(scalar.max(ints, length), vector.max(ints, length));
+                assertEquals(scalar.sum(ints, length), vector.sum(ints, length));
+                assertEquals(scalar.countInRange(ints, length, -2, 4), vector.countInRange(ints, length, -2, 4));
+                assertEquals(scalar.indexOf(longs, length, -4), vector.indexOf(longs, length, -4));
+                assertEquals(scalar.sum(longs, length), vector.sum(longs, length));
+                assertEquals(scalar.min(longs, length), vector.min(longs, length));
+                assertEquals(scalar.indexOf(doubles, length, 7.0), vector.indexOf(doubles, length, 7.0));
+                assertEquals(scalar.max(doubles, length), vector.max(doubles, length));
+                assertEquals(scalar.sum(doubles, length), vector.sum(doubles, length));
+
+                int[] scalarFiltered = new int[length];
+                int[] vectorFiltered = new int[length];
+                int count = scalar.filterRange(ints, length, -3, 3, scalarFiltered);
+                assertEquals(count, vector.filterRange(ints, length, -3, 3, vectorFiltered));
+                for (int i = 0; i < count; i++) {
+                    assertEquals(scalarFiltered[i], vectorFiltered[i]);
+                }
+            }
+        }
+    }
+}
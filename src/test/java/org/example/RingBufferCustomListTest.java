@@ -0,0 +1,137 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferCustomListTest {
+
+    @Nested
+    @DisplayName("addFirst / addLast / removeFirst / removeLast")
+    public class MethodEnds {
+        @Test
+        public void fifo_wrapsAroundWithoutGrowing() throws NoSuchFieldException, IllegalAccessException {
+            RingBufferCustomList<Integer> integerList = new RingBufferCustomList<>(4);
+            Field dataField = integerList.getClass().getDeclaredField("data");
+            dataField.setAccessible(true);
+            Object data = dataField.get(integerList);
+
+            for (int i = 0; i < 100; i++) {
+                integerList.addLast(i);
+                if (integerList.size() == 4) {
+                    assertEquals(i - 3, integerList.removeFirst());
+                }
+            }
+
+            assertEquals(3, integerList.size());
+            assertEquals(97, integerList.getFirst());
+            assertEquals(99, integerList.getLast());
+            assertEquals(98, integerList.get(1));
+            assertEquals(data, dataField.get(integerList));
+        }
+
+        @Test
+        public void lifoAtHead_andGrowthAcrossBoundary() {
+            RingBufferCustomList<Integer> integerList = new RingBufferCustomList<>(2);
+            integerList.add(0);
+            for (int i = 1; i <= 10; i++) {
+                integerList.addFirst(-i);
+            }
+
+            assertEquals(11, integerList.size());
+            assertEquals(-10, integerList.get(0));
+            assertEquals(0, integerList.get(10));
+            assertEquals(-10, integerList.removeFirst());
+            assertEquals(0, integerList.removeLast());
+            assertEquals(-9, integerList.getFirst());
+            assertEquals(-1, integerList.getLast());
+        }
+
+        @Test
+        public void removeFirst_whenEmpty() {
+            RingBufferCustomList<Integer> integerList = new RingBufferCustomList<>(0);
+
+            NoSuchElementException exception = assertThrows(NoSuchElementException.class, integerList::removeFirst);
+            assertEquals("List is empty", exception.getMessage());
+            assertThrows(NoSuchElementException.class, integerList::getLast);
+            integerList.addFirst(1);
+            assertEquals(1, integerList.getLast());
+        }
+    }
+
+    @Nested
+    @DisplayName("add / remove by index / sort / trim")
+    public class MethodIndex {
+        @Test
+        public void randomEdits_matchCustomArrayList() {
+            CustomList<Integer> expected = new CustomArrayList<>();
+            RingBufferCustomList<Integer> actual = new RingBufferCustomList<>();
+            Random random = new Random(11);
+            for (int step = 0; step < 5000; step++) {
+                int operation = random.nextInt(4);
+                int value = random.nextInt(1000);
+                if (expected.size() == 0) {
+                    expected.add(value);
+                    actual.addFirst(value);
+                } else if (operation == 0) {
+                    expected.add(value, 0);
+                    actual.addFirst(value);
+                } else if (operation == 1) {
+                    int index = random.nextInt(expected.size());
+                    expected.add(value, index);
+                    actual.add(value, index);
+                } else if (operation == 2) {
+                    int index = random.nextInt(expected.size());
+                    expected.remove(index);
+                    actual.remove(index);
+                } else {
+                    expected.add(value);
+                    actual.addLast(value);
+                }
+            }
+
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), actual.get(i));
+            }
+        }
+
+        @Test
+        public void sortRemoveIfAndTrim_whenWrapped() {
+            RingBufferCustomList<Integer> integerList = new RingBufferCustomList<>(8);
+            for (int i = 0; i < 6; i++) {
+                integerList.addLast(i);
+            }
+            for (int i = 6; i < 10; i++) {
+                integerList.addFirst(i);
+            }
+
+            integerList.sort(Comparator.naturalOrder());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, integerList.get(i));
+            }
+
+            assertTrue(integerList.removeIf(value -> value % 3 == 0));
+            assertFalse(integerList.hasElement(9));
+            assertEquals(6, integerList.size());
+            assertEquals(2, integerList.indexOf(4));
+
+            integerList.trimCapacityToSize();
+            integerList.addFirst(-1);
+            integerList.remove(Integer.valueOf(5));
+            assertEquals(6, integerList.size());
+            assertEquals(-1, integerList.getFirst());
+            assertEquals(8, integerList.getLast());
+        }
+    }
+}
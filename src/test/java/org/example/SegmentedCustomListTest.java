@@ -0,0 +1,147 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedCustomListTest {
+
+    @Nested
+    @DisplayName("add")
+    public class MethodAdd {
+        @Test
+        public void add_doesNotCopyEarlierSegments() throws NoSuchFieldException, IllegalAccessException {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            Field segmentsField = integerList.getClass().getDeclaredField("segments");
+            segmentsField.setAccessible(true);
+            Object[][] segments = (Object[][]) segmentsField.get(integerList);
+
+            integerList.add(0);
+            Object[] firstSegment = segments[0];
+            for (int i = 1; i < 1000; i++) {
+                integerList.add(i);
+            }
+
+            assertSame(firstSegment, segments[0]);
+            assertEquals(1000, integerList.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, integerList.get(i));
+            }
+        }
+
+        @Test
+        public void addByIndex_acrossSegments() {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            integerList.add(-1, 3);
+            integerList.add(-2, 0);
+
+            assertEquals(102, integerList.size());
+            assertEquals(-2, integerList.get(0));
+            assertEquals(2, integerList.get(3));
+            assertEquals(-1, integerList.get(4));
+            assertEquals(3, integerList.get(5));
+            assertEquals(99, integerList.get(101));
+        }
+
+        @Test
+        public void get_whenIndexIsNegative() {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            integerList.add(1);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> integerList.get(-1));
+            assertEquals("Index cannot be negative", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("remove / sort / trim")
+    public class MethodRemove {
+        @Test
+        public void remove_byIndexAndValue_acrossSegments() {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            integerList.remove(0);
+            integerList.remove(Integer.valueOf(50));
+
+            assertEquals(98, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(49, integerList.get(48));
+            assertEquals(51, integerList.get(49));
+            assertEquals(99, integerList.get(97));
+            assertFalse(integerList.hasElement(50));
+        }
+
+        @Test
+        public void removeIf_andRemoveRange() {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            assertTrue(integerList.removeIf(value -> value % 2 == 1));
+            integerList.removeRange(0, 10);
+
+            assertEquals(40, integerList.size());
+            assertEquals(20, integerList.get(0));
+            assertEquals(98, integerList.get(39));
+        }
+
+        @Test
+        public void sort_acrossSegments() {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            for (int i = 0; i < 500; i++) {
+                integerList.add((i * 37) % 500);
+            }
+
+            integerList.sort(Comparator.naturalOrder());
+
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i, integerList.get(i));
+            }
+        }
+
+        @Test
+        public void trimCapacityToSize_dropsOnlyTail() throws NoSuchFieldException, IllegalAccessException {
+            CustomList<Integer> integerList = new SegmentedCustomList<>();
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+            Field capacity = integerList.getClass().getDeclaredField("capacity");
+            capacity.setAccessible(true);
+            assertEquals(112, capacity.getInt(integerList));
+
+            integerList.removeRange(20, 100);
+            integerList.trimCapacityToSize();
+
+            assertEquals(20, capacity.getInt(integerList));
+            Field segmentsField = integerList.getClass().getDeclaredField("segments");
+            segmentsField.setAccessible(true);
+            Object[][] segments = (Object[][]) segmentsField.get(integerList);
+            assertEquals(4, segments[1].length);
+            assertNull(segments[2]);
+
+            integerList.add(20);
+            integerList.add(21);
+            assertEquals(21, integerList.get(21));
+            assertEquals(48, capacity.getInt(integerList));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SortedCustomListTest {
+
+    @Nested
+    @DisplayName("add / addAll")
+    public class MethodAdd {
+        @Test
+        public void add_keepsOrder() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder());
+            Random random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                integerList.add(random.nextInt(100));
+            }
+
+            assertEquals(1000, integerList.size());
+            for (int i = 1; i < integerList.size(); i++) {
+                assertTrue(integerList.get(i - 1) <= integerList.get(i));
+            }
+        }
+
+        @Test
+        public void add_keepsInsertionOrderOfEqualElements() {
+            SortedCustomList<Person> personList = new SortedCustomList<>(Comparator.comparingInt(Person::getAge));
+            personList.add(new Person("Peggy", 30));
+            personList.add(new Person("Thom", 20));
+            Person claire = new Person("Claire", 30);
+            personList.add(claire);
+            personList.addAll(List.of(new Person("Bob", 30), new Person("Ann", 10)));
+
+            assertEquals("Ann", personList.get(0).getName());
+            assertEquals("Thom", personList.get(1).getName());
+            assertEquals("Peggy", personList.get(2).getName());
+            assertEquals("Claire", personList.get(3).getName());
+            assertEquals("Bob", personList.get(4).getName());
+            assertEquals(3, personList.indexOf(claire));
+        }
+
+        @Test
+        public void addAll_mergesBatch() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder(), 2);
+            integerList.add(5);
+            integerList.add(1);
+            integerList.addAll(new Integer[]{9, 0, 5, 3});
+
+            assertEquals(6, integerList.size());
+            Integer[] expected = {0, 1, 3, 5, 5, 9};
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], integerList.get(i));
+            }
+        }
+
+        @Test
+        public void addByIndex_whenOrderIsBroken() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder());
+            integerList.add(1);
+            integerList.add(3);
+
+            integerList.add(2, 1);
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> integerList.add(5, 1));
+            assertEquals("Element at index 1 breaks the sort order", exception.getMessage());
+            assertEquals(2, integerList.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("search")
+    public class Search {
+        @Test
+        public void search_floorCeilingAndIndexes() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder());
+            integerList.addAll(List.of(10, 20, 20, 20, 30));
+
+            assertTrue(integerList.hasElement(20));
+            assertFalse(integerList.hasElement(25));
+            assertEquals(1, integerList.indexOf(20));
+            assertEquals(3, integerList.lastIndexOf(20));
+            assertEquals(-1, integerList.indexOf(5));
+            assertEquals(20, integerList.floor(25));
+            assertEquals(30, integerList.ceiling(25));
+            assertEquals(10, integerList.lower(20));
+            assertEquals(30, integerList.higher(20));
+            assertNull(integerList.lower(10));
+            assertNull(integerList.higher(30));
+
+            integerList.remove(Integer.valueOf(20));
+            assertEquals(4, integerList.size());
+            assertEquals(2, integerList.lastIndexOf(20));
+        }
+
+        @Test
+        public void range_isReadOnlyView() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder());
+            for (int i = 0; i < 100; i++) {
+                integerList.add(i);
+            }
+
+            CustomList<Integer> range = integerList.range(10, 20);
+            assertEquals(10, range.size());
+            assertEquals(10, range.get(0));
+            assertEquals(19, range.get(9));
+            assertEquals(5, range.indexOf(15));
+            assertFalse(range.hasElement(20));
+            assertThrows(UnsupportedOperationException.class, () -> range.add(11));
+
+            integerList.add(15);
+            assertThrows(ConcurrentModificationException.class, range::size);
+        }
+
+        @Test
+        public void sort_replacesOrder() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder());
+            integerList.addAll(List.of(3, 1, 2));
+
+            integerList.sort(Comparator.reverseOrder());
+            integerList.add(4);
+
+            assertEquals(4, integerList.get(0));
+            assertEquals(1, integerList.get(3));
+            assertEquals(2, integerList.indexOf(2));
+        }
+
+        @Test
+        public void removeIf_keepsOrderWhenPredicateThrows() {
+            SortedCustomList<Integer> integerList = new SortedCustomList<>(Comparator.naturalOrder());
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+
+            assertThrows(IllegalStateException.class, () -> integerList.removeIf(value -> {
+                if (value == 6) {
+                    throw new IllegalStateException();
+                }
+                return value % 2 == 0;
+            }));
+
+            assertEquals(7, integerList.size());
+            int[] expected = {1, 3, 5, 6, 7, 8, 9};
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], integerList.get(i));
+            }
+            assertEquals(3, integerList.indexOf(6));
+        }
+    }
+}
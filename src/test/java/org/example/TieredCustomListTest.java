@@ -0,0 +1,80 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TieredCustomListTest extends EditableCustomListContractTest {
+
+    @Override
+    protected CustomList<Integer> newList() {
+        return new TieredCustomList<>();
+    }
+
+    @Override
+    protected CustomList<Integer> newList(int capacity) {
+        return new TieredCustomList<>(capacity);
+    }
+
+    @Nested
+    @DisplayName("blocks")
+    public class Blocks {
+        private int blockShift(CustomList<Integer> integerList) throws NoSuchFieldException, IllegalAccessException {
+            Field shiftField = TieredCustomList.class.getDeclaredField("blockShift");
+            shiftField.setAccessible(true);
+            return (int) shiftField.get(integerList);
+        }
+
+        @Test
+        public void reserveAndTrim_recomputeBlockShift() throws NoSuchFieldException, IllegalAccessException {
+            CustomList<Integer> integerList = new TieredCustomList<>();
+            for (int i = 0; i < 10; i++) {
+                integerList.add(i);
+            }
+            assertEquals(4, blockShift(integerList));
+
+            integerList.reserve(1 << 20);
+            assertEquals(10, blockShift(integerList));
+            for (int i = 10; i < 1000; i++) {
+                integerList.add(i);
+            }
+
+            integerList.trimCapacityToSize();
+            assertEquals(5, blockShift(integerList));
+            assertEquals(1000, integerList.size());
+            for (int i = 0; i < integerList.size(); i++) {
+                assertEquals(i, integerList.get(i));
+            }
+        }
+
+        @Test
+        public void largeList_rebuildsBlocksAndKeepsOrder() {
+            CustomList<Integer> integerList = new TieredCustomList<>();
+            integerList.reserve(1000);
+            for (int i = 0; i < 20000; i++) {
+                integerList.add(i);
+            }
+            integerList.add(-1, 10000);
+            integerList.remove(0);
+
+            assertEquals(20000, integerList.size());
+            assertEquals(1, integerList.get(0));
+            assertEquals(-1, integerList.get(9999));
+            assertEquals(10000, integerList.get(10000));
+            assertEquals(19999, integerList.get(19999));
+
+            integerList.sort(Comparator.reverseOrder());
+            integerList.removeRange(1, 19999);
+            integerList.trimCapacityToSize();
+
+            assertEquals(2, integerList.size());
+            assertEquals(19999, integerList.get(0));
+            assertEquals(-1, integerList.get(1));
+        }
+    }
+}
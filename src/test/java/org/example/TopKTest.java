@@ -0,0 +1,77 @@
+package org.example;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKTest {
+
+    @Nested
+    @DisplayName("offer() / toCustomArrayList()")
+    public class MethodOffer {
+        @Test
+        public void offer_keepsBestElements() {
+            TopK<Integer> topK = new TopK<>(3, Comparator.naturalOrder());
+
+            for (int value : new int[]{7, 3, 9, 1, 8, 2, 2}) {
+                topK.offer(value);
+            }
+
+            assertEquals(3, topK.size());
+            CustomArrayList<Integer> result = topK.toCustomArrayList();
+            assertEquals(1, result.get(0));
+            assertEquals(2, result.get(1));
+            assertEquals(2, result.get(2));
+            assertFalse(topK.offer(5));
+            assertTrue(topK.offer(0));
+        }
+
+        @Test
+        public void offerAll_withComparatorOnField() {
+            CustomArrayList<Person> personList = new CustomArrayList<>();
+            personList.add(new Person("Thom", 35));
+            personList.add(new Person("Alice", 23));
+            personList.add(new Person("Peggy", 41));
+            personList.add(new Person("Nick", 18));
+            TopK<Person> oldest = new TopK<>(2, Comparator.comparingInt(Person::getAge).reversed());
+
+            oldest.offerAll(personList);
+
+            CustomArrayList<Person> result = oldest.toCustomArrayList();
+            assertEquals("Peggy", result.get(0).getName());
+            assertEquals("Thom", result.get(1).getName());
+        }
+
+        @Test
+        public void zeroK() {
+            TopK<Integer> topK = new TopK<>(0, Comparator.naturalOrder());
+
+            assertFalse(topK.offer(1));
+            assertEquals(0, topK.toCustomArrayList().size());
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> new TopK<Integer>(-1, Comparator.naturalOrder()));
+            assertEquals("K cannot be less 0", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("collector()")
+    public class MethodCollector {
+        @Test
+        public void collector_mergesParallelPartitions() {
+            CustomArrayList<Integer> result = IntStream.range(0, 100_000).parallel().boxed()
+                    .collect(TopK.collector(5, Comparator.reverseOrder()));
+
+            assertEquals(List.of(99_999, 99_998, 99_997, 99_996, 99_995), result.stream().toList());
+        }
+    }
+}